@@ -60,9 +60,18 @@ public class AbstractGoogleClientAdaptee<C>
                          @Nullable Map<String, Object> parameters )
     {
         checkNotNull( remoteRequest );
+        populate( ( AbstractGoogleJsonClientRequest<?> ) remoteRequest, parameters );
+    }
 
-        AbstractGoogleJsonClientRequest request = ( AbstractGoogleJsonClientRequest ) remoteRequest;
-
+    /**
+     * Populates the request with optional resource parameters added as URL query parameters.
+     *
+     * @param request    the Google API client request
+     * @param parameters the optional resource parameters
+     */
+    static void populate( @Nonnull AbstractGoogleJsonClientRequest<?> request,
+                          @Nullable Map<String, Object> parameters )
+    {
         if ( parameters != null )
         {
             for ( Map.Entry<String, Object> entrySet : parameters.entrySet() )
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.TypeLiteral;
+import com.google.inject.util.Types;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The dispatch table of the generic bindings in form of {@code Type<Resource>} (for example
+ * {@code GetExecutorAdaptee<RemoteFoo>}), keyed by the raw type and the resource class.
+ * <p>
+ * The table is pre-populated once from the bindings of the given injector. A binding that is not part of it
+ * (inherited from a parent injector or created just-in-time) is resolved at first lookup and remembered,
+ * including a miss. Lookups are lock-free and allocation-free once a pair has been resolved.
+ * <p>
+ * The binding's provider is being cached, not the instance, thus the scope of the binding is respected.
+ * <p>
+ * Per raw type it counts the lookups and how many of them had to be resolved by the injector,
+ * see {@link #avoided(Class)}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+final class AdapteeRegistry
+{
+    private static final Provider<?> NONE = () -> null;
+
+    private final Injector injector;
+
+    private final Map<Class<?>, Map<Class<?>, Provider<?>>> prebuilt;
+
+    private final ConcurrentMap<Class<?>, Table> tables = new ConcurrentHashMap<>();
+
+    AdapteeRegistry( @Nonnull Injector injector )
+    {
+        this.injector = checkNotNull( injector, "Injector cannot be null" );
+        this.prebuilt = scan( injector );
+    }
+
+    /**
+     * Collects all bindings with a single type argument of the class type, for example {@code TokenProvider<User>}.
+     */
+    private static Map<Class<?>, Map<Class<?>, Provider<?>>> scan( Injector injector )
+    {
+        Map<Class<?>, Map<Class<?>, Provider<?>>> result = new HashMap<>();
+        for ( Map.Entry<Key<?>, Binding<?>> entry : injector.getAllBindings().entrySet() )
+        {
+            Key<?> key = entry.getKey();
+            Type type = key.getTypeLiteral().getType();
+
+            if ( key.getAnnotationType() != null || !( type instanceof ParameterizedType ) )
+            {
+                continue;
+            }
+
+            ParameterizedType pt = ( ParameterizedType ) type;
+            Type[] arguments = pt.getActualTypeArguments();
+
+            if ( arguments.length == 1
+                    && pt.getRawType() instanceof Class
+                    && arguments[0] instanceof Class )
+            {
+                result.computeIfAbsent( ( Class<?> ) pt.getRawType(), k -> new HashMap<>() )
+                        .put( ( Class<?> ) arguments[0], entry.getValue().getProvider() );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the instance bound to {@code rawType<resource>}, or {@code null} if there is no such binding.
+     *
+     * @param rawType  the raw type of the binding, for example {@code GetExecutorAdaptee.class}
+     * @param resource the type argument of the binding
+     * @param <A>      the type of the instance
+     * @return the bound instance or {@code null}
+     */
+    @Nullable
+    <A> A get( @Nonnull Class<A> rawType, @Nonnull Class<?> resource )
+    {
+        Table table = table( rawType );
+        table.lookups.increment();
+
+        Provider<?> provider = table.get( resource );
+        //noinspection unchecked
+        return provider == NONE ? null : ( A ) provider.get();
+    }
+
+    /**
+     * Returns the instance bound to {@code rawType<resource>}. If there is no such binding, the binding
+     * of the nearest superclass (excluding {@link Object}) and then of the implemented interfaces is being returned.
+     * The result is cached per concrete resource class.
+     *
+     * @param rawType  the raw type of the binding, for example {@code TokenProvider.class}
+     * @param resource the type argument of the binding, or its subclass
+     * @param <A>      the type of the instance
+     * @return the bound instance or {@code null} if there is no binding for the whole hierarchy
+     */
+    @Nullable
+    <A> A getAssignable( @Nonnull Class<A> rawType, @Nonnull Class<?> resource )
+    {
+        Table table = table( rawType );
+        table.lookups.increment();
+
+        Provider<?> provider = table.assignable.get( resource );
+        //noinspection unchecked
+        return provider == NONE ? null : ( A ) provider.get();
+    }
+
+    /**
+     * Returns the number of lookups for given raw type served by this table without asking the injector,
+     * either a hit or a remembered miss.
+     *
+     * @param rawType the raw type of the binding
+     * @return the number of avoided injector lookups
+     */
+    long avoided( @Nonnull Class<?> rawType )
+    {
+        Table table = table( rawType );
+        return table.lookups.sum() - table.resolutions.sum();
+    }
+
+    /**
+     * Returns the number of lookups for given raw type that had to be resolved by the injector.
+     *
+     * @param rawType the raw type of the binding
+     * @return the number of injector lookups
+     */
+    long resolved( @Nonnull Class<?> rawType )
+    {
+        return table( rawType ).resolutions.sum();
+    }
+
+    private Table table( Class<?> rawType )
+    {
+        Table table = tables.get( rawType );
+        if ( table == null )
+        {
+            table = tables.computeIfAbsent( rawType, Table::new );
+        }
+        return table;
+    }
+
+    /**
+     * The providers of single raw type keyed by the resource class.
+     */
+    private class Table
+            extends ClassValue<Provider<?>>
+    {
+        private final Class<?> rawType;
+
+        private final Map<Class<?>, Provider<?>> known;
+
+        private final LongAdder lookups = new LongAdder();
+
+        private final LongAdder resolutions = new LongAdder();
+
+        private final ClassValue<Provider<?>> assignable = new ClassValue<Provider<?>>()
+        {
+            @Override
+            protected Provider<?> computeValue( Class<?> resource )
+            {
+                Set<Class<?>> hierarchy = new LinkedHashSet<>();
+                for ( Class<?> type = resource; type != null && type != Object.class; type = type.getSuperclass() )
+                {
+                    hierarchy.add( type );
+                }
+
+                Deque<Class<?>> interfaces = new ArrayDeque<>( hierarchy );
+                while ( !interfaces.isEmpty() )
+                {
+                    for ( Class<?> next : interfaces.poll().getInterfaces() )
+                    {
+                        if ( hierarchy.add( next ) )
+                        {
+                            interfaces.add( next );
+                        }
+                    }
+                }
+
+                for ( Class<?> type : hierarchy )
+                {
+                    Provider<?> provider = Table.this.get( type );
+                    if ( provider != NONE )
+                    {
+                        return provider;
+                    }
+                }
+                return NONE;
+            }
+        };
+
+        Table( Class<?> rawType )
+        {
+            this.rawType = rawType;
+            this.known = prebuilt.get( rawType );
+        }
+
+        @Override
+        protected Provider<?> computeValue( Class<?> resource )
+        {
+            Provider<?> provider = known == null ? null : known.get( resource );
+            if ( provider == null )
+            {
+                resolutions.increment();
+
+                ParameterizedType pt = Types.newParameterizedType( rawType, resource );
+                Binding<?> binding = injector.getExistingBinding( Key.get( TypeLiteral.get( pt ) ) );
+                provider = binding == null ? NONE : binding.getProvider();
+            }
+            return provider;
+        }
+    }
+}
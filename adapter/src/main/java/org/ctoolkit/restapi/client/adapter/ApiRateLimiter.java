@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.api.client.http.HttpExecuteInterceptor;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponseInterceptor;
+import com.google.api.client.util.Sleeper;
+import org.ctoolkit.restapi.client.HttpFailureException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The client-side rate limiter of a single API, shared by all of its HTTP requests (including the retries).
+ * <p>
+ * The requests are being spaced evenly to match the configured number of requests per minute,
+ * allowing a limited burst. Once any request of the API receives 429 (too many requests) with
+ * the {@code Retry-After} header, all of the requests of the API pause together until the given time.
+ * <p>
+ * If the request can't be sent within the configured timeout (or before its {@link Deadline}), it fails with
+ * {@link HttpFailureException} with the status code 429, without reaching the API. The timeout selects
+ * the behaviour:
+ * <ul>
+ * <li>negative, the request blocks until permitted</li>
+ * <li>zero, the request fails fast if not permitted immediately</li>
+ * <li>positive, the request waits in the queue up to the timeout</li>
+ * </ul>
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ * @see GoogleApiProxyFactory#getRateLimiter(String)
+ */
+public final class ApiRateLimiter
+{
+    private static final Logger logger = LoggerFactory.getLogger( ApiRateLimiter.class );
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final String apiPrefix;
+
+    private final long interval;
+
+    private final long tolerance;
+
+    private final long timeout;
+
+    private final LongSupplier ticker;
+
+    private final Sleeper sleeper;
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder pauses = new LongAdder();
+
+    /**
+     * The theoretical arrival time of the next request, in nanoseconds.
+     */
+    private long arrival;
+
+    private volatile long pausedUntil;
+
+    /**
+     * @param apiPrefix the API prefix
+     * @param perMinute the number of requests per minute
+     * @param burst     the number of requests that might be sent at once
+     * @param timeout   the maximum time in milliseconds to wait for a permission, negative to block
+     */
+    ApiRateLimiter( @Nonnull String apiPrefix, int perMinute, int burst, long timeout )
+    {
+        this( apiPrefix, perMinute, burst, timeout, System::nanoTime, Sleeper.DEFAULT );
+    }
+
+    ApiRateLimiter( @Nonnull String apiPrefix,
+                    int perMinute,
+                    int burst,
+                    long timeout,
+                    @Nonnull LongSupplier ticker,
+                    @Nonnull Sleeper sleeper )
+    {
+        checkArgument( perMinute > 0, "Requests per minute must be positive" );
+        checkArgument( burst > 0, "Burst must be positive" );
+
+        this.apiPrefix = checkNotNull( apiPrefix );
+        this.interval = TimeUnit.MINUTES.toNanos( 1 ) / perMinute;
+        this.tolerance = ( burst - 1 ) * interval;
+        this.timeout = timeout < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos( timeout );
+        this.ticker = checkNotNull( ticker );
+        this.sleeper = checkNotNull( sleeper );
+        this.arrival = ticker.getAsLong();
+        this.pausedUntil = arrival;
+    }
+
+    /**
+     * Returns the API prefix this rate limiter belongs to.
+     *
+     * @return the API prefix
+     */
+    public String getApiPrefix()
+    {
+        return apiPrefix;
+    }
+
+    /**
+     * Returns the number of the requests that have not been sent because not permitted within the timeout.
+     *
+     * @return the number of the rejected requests
+     */
+    public long getRejected()
+    {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the number of the pauses requested by the API via {@code Retry-After}.
+     *
+     * @return the number of the pauses
+     */
+    public long getPauses()
+    {
+        return pauses.sum();
+    }
+
+    /**
+     * Installs the rate limiter to given request. The already configured interceptors are being kept.
+     *
+     * @param request the HTTP request to be configured
+     */
+    void install( @Nonnull HttpRequest request )
+    {
+        HttpExecuteInterceptor interceptor = request.getInterceptor();
+        request.setInterceptor( r -> {
+            acquire();
+            if ( interceptor != null )
+            {
+                interceptor.intercept( r );
+            }
+        } );
+
+        HttpResponseInterceptor responseInterceptor = request.getResponseInterceptor();
+        request.setResponseInterceptor( response -> {
+            if ( response.getStatusCode() == TOO_MANY_REQUESTS )
+            {
+                String value = response.getHeaders().getFirstHeaderStringValue( "Retry-After" );
+                long retryAfter = HttpRetryPolicy.retryAfter( value, System.currentTimeMillis() );
+                if ( retryAfter > 0 )
+                {
+                    pause( retryAfter );
+                }
+            }
+
+            if ( responseInterceptor != null )
+            {
+                responseInterceptor.interceptResponse( response );
+            }
+        } );
+    }
+
+    /**
+     * Waits for the permission to send a request, respecting the pause requested meanwhile.
+     *
+     * @throws HttpFailureException  if not permitted within the timeout
+     * @throws InterruptedIOException if interrupted while waiting
+     */
+    void acquire() throws InterruptedIOException
+    {
+        long now = ticker.getAsLong();
+        long deadline = timeout < 0 ? Long.MAX_VALUE : now + timeout;
+
+        Deadline requestDeadline = Deadline.current();
+        if ( requestDeadline != null )
+        {
+            // no wait if the request deadline would pass meanwhile
+            deadline = Math.min( deadline, now + requestDeadline.remaining( TimeUnit.NANOSECONDS ) );
+        }
+
+        long permittedAt = reserve( now, deadline );
+        while ( true )
+        {
+            long until = Math.max( permittedAt, pausedUntil );
+            now = ticker.getAsLong();
+            if ( until <= now )
+            {
+                return;
+            }
+            if ( until > deadline )
+            {
+                // paused meanwhile, the reserved slot is not going to be used
+                release();
+                throw reject();
+            }
+
+            try
+            {
+                sleeper.sleep( TimeUnit.NANOSECONDS.toMillis( until - now + 999_999 ) );
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException( "Interrupted while waiting for the rate limiter of " + apiPrefix );
+            }
+        }
+    }
+
+    /**
+     * Pauses all of the requests for given time.
+     *
+     * @param millis the pause in milliseconds
+     */
+    synchronized void pause( long millis )
+    {
+        long until = ticker.getAsLong() + TimeUnit.MILLISECONDS.toNanos( millis );
+        if ( until > pausedUntil )
+        {
+            pausedUntil = until;
+            // no burst right after the pause
+            arrival = Math.max( arrival, until + tolerance );
+            pauses.increment();
+
+            logger.info( "Requests of the API '" + apiPrefix + "' paused for " + millis + "ms" );
+        }
+    }
+
+    /**
+     * Reserves the slot for a request, see Generic Cell Rate Algorithm.
+     *
+     * @return the time the request is permitted at
+     * @throws HttpFailureException if the slot is later than the deadline
+     */
+    private synchronized long reserve( long now, long deadline )
+    {
+        long start = Math.max( now, pausedUntil );
+        long permittedAt = Math.max( start, arrival - tolerance );
+        if ( permittedAt > deadline )
+        {
+            throw reject();
+        }
+
+        arrival = Math.max( arrival, permittedAt ) + interval;
+        return permittedAt;
+    }
+
+    /**
+     * Returns the slot reserved by the request rejected once paused, but not sooner than the pause allows
+     * (no burst right after the pause).
+     */
+    private synchronized void release()
+    {
+        arrival = Math.max( arrival - interval, pausedUntil + tolerance );
+    }
+
+    private HttpFailureException reject()
+    {
+        rejected.increment();
+        String message = "Client-side rate limit of the API '" + apiPrefix + "' has been exceeded";
+        return new HttpFailureException( TOO_MANY_REQUESTS, message );
+    }
+}
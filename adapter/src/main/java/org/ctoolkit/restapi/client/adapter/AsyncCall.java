@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The {@link CompletableFuture} of a single remote call submitted to an executor.
+ * Unlike the plain {@link CompletableFuture}, the cancellation interrupts the running call if requested.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+final class AsyncCall<T>
+        extends CompletableFuture<T>
+{
+    private static final Logger logger = LoggerFactory.getLogger( AsyncCall.class );
+
+    private final FutureTask<T> task;
+
+    private AsyncCall( @Nonnull Callable<T> callable )
+    {
+        this.task = new FutureTask<T>( callable )
+        {
+            @Override
+            protected void done()
+            {
+                try
+                {
+                    complete( get() );
+                }
+                catch ( ExecutionException e )
+                {
+                    completeExceptionally( e.getCause() );
+                }
+                catch ( CancellationException | InterruptedException e )
+                {
+                    AsyncCall.super.cancel( false );
+                }
+            }
+        };
+    }
+
+    /**
+     * Submits the callable to the executor.
+     *
+     * @param callable the remote call
+     * @param executor the executor to run the call
+     * @param <T>      the type of the result
+     * @return the future of the result
+     */
+    static <T> AsyncCall<T> submit( @Nonnull Callable<T> callable, @Nonnull Executor executor )
+    {
+        AsyncCall<T> call = new AsyncCall<>( checkNotNull( callable ) );
+        checkNotNull( executor ).execute( call.task );
+        return call;
+    }
+
+    /**
+     * Completes this future exceptionally with {@link TimeoutException} and interrupts the running call
+     * once given timeout elapses.
+     *
+     * @param timeout the maximum time to wait for the result
+     * @param unit    the time unit of the timeout
+     * @return this future
+     */
+    AsyncCall<T> within( long timeout, @Nonnull TimeUnit unit )
+    {
+        checkNotNull( unit );
+        if ( isDone() )
+        {
+            return this;
+        }
+
+        ScheduledFuture<?> scheduled = Timer.SCHEDULER.schedule( () -> {
+            if ( completeExceptionally( new TimeoutException( "Remote call timed out after " + timeout + " " + unit ) ) )
+            {
+                task.cancel( true );
+            }
+        }, timeout, unit );
+
+        whenComplete( ( result, throwable ) -> scheduled.cancel( false ) );
+        return this;
+    }
+
+    @Override
+    public boolean cancel( boolean mayInterruptIfRunning )
+    {
+        boolean cancelled = super.cancel( mayInterruptIfRunning );
+        task.cancel( mayInterruptIfRunning );
+        return cancelled;
+    }
+
+    /**
+     * Returns the default executor, an executor starting a new virtual thread per call if running on a JVM
+     * that supports it, otherwise a cached pool of daemon threads.
+     *
+     * @return the default executor
+     */
+    static Executor sharedExecutor()
+    {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    private static class DefaultExecutor
+    {
+        private static final Executor INSTANCE = create();
+
+        private static Executor create()
+        {
+            try
+            {
+                Method method = Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" );
+                return ( Executor ) method.invoke( null );
+            }
+            catch ( ReflectiveOperationException e )
+            {
+                logger.info( "Virtual threads are not supported, falling back to the cached thread pool." );
+            }
+
+            return Executors.newCachedThreadPool( new ThreadFactoryBuilder()
+                    .setNameFormat( "ctoolkit-rest-facade-%d" )
+                    .setDaemon( true )
+                    .build() );
+        }
+    }
+
+    private static class Timer
+    {
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                        .setNameFormat( "ctoolkit-rest-facade-timer" )
+                        .setDaemon( true )
+                        .build() );
+    }
+}
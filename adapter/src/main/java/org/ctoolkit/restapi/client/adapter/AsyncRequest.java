@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The asynchronous variant of the request's {@code finish} methods. The remote call runs
+ * on the executor annotated by {@link org.ctoolkit.restapi.client.RemoteCallExecutor}, if configured.
+ * <p>
+ * Cancellation of the returned future interrupts the running remote call if requested.
+ * <p>
+ * All request instances returned by {@link RestFacadeAdapter} implement this interface, for example
+ * {@code ( ( AsyncRequest<Foo> ) facade.get( Foo.class ).identifiedBy( id ) ).finishAsync();}
+ *
+ * @param <T> the type of the result
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public interface AsyncRequest<T>
+{
+    /**
+     * Asynchronous variant of the {@code finish()}.
+     *
+     * @return the future of the result
+     */
+    CompletableFuture<T> finishAsync();
+
+    /**
+     * Asynchronous variant of the {@code finish( parameters, locale )}.
+     *
+     * @param parameters the optional request parameters
+     * @param locale     the optional language of the result
+     * @return the future of the result
+     */
+    CompletableFuture<T> finishAsync( @Nullable Map<String, Object> parameters, @Nullable Locale locale );
+
+    /**
+     * Asynchronous variant of the {@code finish()} with a timeout. Once the timeout elapses
+     * the future completes exceptionally with {@link java.util.concurrent.TimeoutException}
+     * and the remote call is being interrupted.
+     *
+     * @param timeout the maximum time to wait for the result
+     * @param unit    the time unit of the timeout
+     * @return the future of the result
+     */
+    CompletableFuture<T> finishAsync( long timeout, @Nonnull TimeUnit unit );
+}
@@ -28,6 +28,8 @@ import javax.annotation.Nullable;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -38,7 +40,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
  */
 class AuthRequestImpl<T>
-        implements AuthRequest<T>
+        implements AuthRequest<T>, AsyncRequest<T>, BatchableRequest<T>, DeadlineRequest<T>
 {
     private final Request<T> request;
 
@@ -71,6 +73,13 @@ class AuthRequestImpl<T>
         return this;
     }
 
+    @Override
+    public Request<T> withDeadline( @Nonnull Deadline deadline )
+    {
+        filler.setDeadline( checkNotNull( deadline, "Deadline cannot be null" ) );
+        return this;
+    }
+
     @Override
     public T finish()
     {
@@ -101,6 +110,45 @@ class AuthRequestImpl<T>
         return request.finish( parameters, locale );
     }
 
+    @Override
+    public CompletableFuture<T> finishAsync()
+    {
+        return async().finishAsync();
+    }
+
+    @Override
+    public CompletableFuture<T> finishAsync( @Nullable Map<String, Object> parameters, @Nullable Locale locale )
+    {
+        return async().finishAsync( parameters, locale );
+    }
+
+    @Override
+    public CompletableFuture<T> finishAsync( long timeout, @Nonnull TimeUnit unit )
+    {
+        return async().finishAsync( timeout, unit );
+    }
+
+    @SuppressWarnings( "unchecked" )
+    @Override
+    public CompletableFuture<T> queue( @Nonnull RequestBatch batch )
+    {
+        if ( request instanceof BatchableRequest )
+        {
+            return ( ( BatchableRequest<T> ) request ).queue( batch );
+        }
+        throw new UnsupportedOperationException( request.getClass().getName() + " cannot be batched" );
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private AsyncRequest<T> async()
+    {
+        if ( request instanceof AsyncRequest )
+        {
+            return ( AsyncRequest<T> ) request;
+        }
+        throw new UnsupportedOperationException( request.getClass().getName() + " does not support async finish" );
+    }
+
     @Override
     public Request<T> configWith( @Nonnull Properties properties )
     {
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The resource cached by {@link StaleResourceProvider}, either fresh or stale (expired, needs refresh),
+ * optionally along with its ETag to be revalidated by the conditional GET.
+ *
+ * @param <T> the type of the resource
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public final class CachedResource<T>
+{
+    private final T resource;
+
+    private final Duration staleFor;
+
+    private final String etag;
+
+    private CachedResource( T resource, Duration staleFor, String etag )
+    {
+        this.resource = checkNotNull( resource, "Resource cannot be null" );
+        this.staleFor = staleFor;
+        this.etag = etag;
+    }
+
+    /**
+     * Creates the fresh cached resource.
+     *
+     * @param resource the cached resource
+     * @param <T>      the type of the resource
+     * @return the fresh cached resource
+     */
+    public static <T> CachedResource<T> fresh( @Nonnull T resource )
+    {
+        return new CachedResource<>( resource, null, null );
+    }
+
+    /**
+     * Creates the fresh cached resource along with its ETag.
+     *
+     * @param resource the cached resource
+     * @param etag     the ETag of the resource
+     * @param <T>      the type of the resource
+     * @return the fresh cached resource
+     */
+    public static <T> CachedResource<T> fresh( @Nonnull T resource, @Nullable String etag )
+    {
+        return new CachedResource<>( resource, null, etag );
+    }
+
+    /**
+     * Creates the stale cached resource, it needs a refresh.
+     *
+     * @param resource the cached resource
+     * @param staleFor the time elapsed since the resource has expired
+     * @param <T>      the type of the resource
+     * @return the stale cached resource
+     */
+    public static <T> CachedResource<T> stale( @Nonnull T resource, @Nonnull Duration staleFor )
+    {
+        return stale( resource, staleFor, null );
+    }
+
+    /**
+     * Creates the stale cached resource along with its ETag, it needs a refresh.
+     * The resource stale beyond the max staleness with an ETag is not being served, but it is revalidated
+     * by the conditional GET, thus reused once not modified.
+     *
+     * @param resource the cached resource
+     * @param staleFor the time elapsed since the resource has expired
+     * @param etag     the ETag of the resource
+     * @param <T>      the type of the resource
+     * @return the stale cached resource
+     */
+    public static <T> CachedResource<T> stale( @Nonnull T resource,
+                                               @Nonnull Duration staleFor,
+                                               @Nullable String etag )
+    {
+        checkArgument( !checkNotNull( staleFor ).isNegative(), "Stale for cannot be negative" );
+        return new CachedResource<>( resource, staleFor, etag );
+    }
+
+    public T getResource()
+    {
+        return resource;
+    }
+
+    /**
+     * Returns {@code true} if the resource has expired, thus it needs a refresh.
+     *
+     * @return true if stale
+     */
+    public boolean isStale()
+    {
+        return staleFor != null;
+    }
+
+    /**
+     * Returns the time elapsed since the resource has expired.
+     *
+     * @return the stale duration, {@link Duration#ZERO} if fresh
+     */
+    public Duration getStaleFor()
+    {
+        return staleFor == null ? Duration.ZERO : staleFor;
+    }
+
+    /**
+     * Returns the ETag of the resource as returned by the remote GET.
+     *
+     * @return the ETag or {@code null} if unknown
+     */
+    @Nullable
+    public String getETag()
+    {
+        return etag;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Locale;
+
+/**
+ * The trace of a single facade operation, see {@link RemoteCallTracer}. The phases are sequential, starting
+ * the next phase ends the current one. {@link #NONE} is being used while no tracer is bound,
+ * it does nothing and allocates nothing.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+final class CallTrace
+{
+    static final CallTrace NONE = new CallTrace( null, null );
+
+    static final String LOCAL = "ctoolkit.local";
+
+    static final String SUBSTITUTE = "ctoolkit.substitute";
+
+    static final String AUTH = "ctoolkit.auth";
+
+    static final String REMOTE = "ctoolkit.remote";
+
+    static final String MAPPING = "ctoolkit.mapping";
+
+    static final String PERSIST = "ctoolkit.persist";
+
+    static final String COALESCE = "ctoolkit.coalesce";
+
+    static final String API = "ctoolkit.api";
+
+    static final String RESOURCE = "ctoolkit.resource";
+
+    static final String OPERATION = "ctoolkit.operation";
+
+    static final String LOCAL_HIT = "ctoolkit.local.hit";
+
+    static final String LOCAL_STALE = "ctoolkit.local.stale";
+
+    static final String REMOTE_REQUEST = "ctoolkit.remote.request";
+
+    static final String NOT_MODIFIED = "ctoolkit.remote.notModified";
+
+    static final String MAPPING_SOURCE = "ctoolkit.mapping.source";
+
+    private static final String PREPARE = "ctoolkit.prepare";
+
+    private static final String[] OPERATIONS = new String[RemoteCallMetrics.Operation.values().length];
+
+    static
+    {
+        for ( RemoteCallMetrics.Operation next : RemoteCallMetrics.Operation.values() )
+        {
+            OPERATIONS[next.ordinal()] = "ctoolkit." + next.name().toLowerCase( Locale.ROOT );
+        }
+    }
+
+    private final RemoteCallTracer tracer;
+
+    private final RemoteCallTracer.Span root;
+
+    private RemoteCallTracer.Span current;
+
+    private CallTrace( RemoteCallTracer tracer, RemoteCallTracer.Span root )
+    {
+        this.tracer = tracer;
+        this.root = root;
+    }
+
+    /**
+     * Starts the trace of the operation.
+     *
+     * @param tracer    the tracer or {@code null} if not bound
+     * @param operation the facade operation
+     * @param apiPrefix the API prefix
+     * @param resource  the resource class
+     * @return the started trace or {@link #NONE}
+     */
+    static CallTrace start( @Nullable RemoteCallTracer tracer,
+                            @Nonnull RemoteCallMetrics.Operation operation,
+                            @Nonnull String apiPrefix,
+                            @Nonnull Class<?> resource )
+    {
+        if ( tracer == null )
+        {
+            return NONE;
+        }
+
+        RemoteCallTracer.Span root = tracer.startSpan( OPERATIONS[operation.ordinal()], null );
+        root.setAttribute( API, apiPrefix );
+        root.setAttribute( RESOURCE, resource.getName() );
+        root.setAttribute( OPERATION, operation.name() );
+        return new CallTrace( tracer, root );
+    }
+
+    /**
+     * Starts the trace of the remote request preparation, it is not a part of the operation trace
+     * as it happens once the request is built.
+     *
+     * @param tracer    the tracer or {@code null} if not bound
+     * @param operation the facade operation
+     * @param resource  the resource class
+     * @return the started trace or {@link #NONE}
+     */
+    static CallTrace prepare( @Nullable RemoteCallTracer tracer,
+                              @Nonnull RemoteCallMetrics.Operation operation,
+                              @Nonnull Class<?> resource )
+    {
+        if ( tracer == null )
+        {
+            return NONE;
+        }
+
+        RemoteCallTracer.Span root = tracer.startSpan( PREPARE, null );
+        root.setAttribute( RESOURCE, resource.getName() );
+        root.setAttribute( OPERATION, operation.name() );
+        return new CallTrace( tracer, root );
+    }
+
+    /**
+     * Ends the current phase if any and starts the next one.
+     *
+     * @param name the span name of the phase, for example {@link #AUTH}
+     */
+    void phase( @Nonnull String name )
+    {
+        if ( tracer == null )
+        {
+            return;
+        }
+
+        if ( current != null )
+        {
+            current.end();
+        }
+        current = tracer.startSpan( name, root );
+    }
+
+    /**
+     * Sets the attribute of the current phase.
+     *
+     * @param key   the attribute key
+     * @param value the attribute value
+     */
+    void attribute( @Nonnull String key, boolean value )
+    {
+        if ( current != null )
+        {
+            current.setAttribute( key, value );
+        }
+    }
+
+    /**
+     * Starts the remote call phase.
+     *
+     * @param remoteRequest the remote request to be executed, or {@code null} if there is none
+     */
+    void remote( @Nullable Object remoteRequest )
+    {
+        phase( REMOTE );
+        if ( current != null && remoteRequest != null )
+        {
+            current.setAttribute( REMOTE_REQUEST, remoteRequest.getClass().getName() );
+        }
+    }
+
+    /**
+     * Starts the mapping phase.
+     *
+     * @param source the object to be mapped, in case of list its first item
+     */
+    void mapping( @Nonnull Object source )
+    {
+        phase( MAPPING );
+        if ( current != null )
+        {
+            current.setAttribute( MAPPING_SOURCE, source.getClass().getName() );
+        }
+    }
+
+    /**
+     * Ends the current phase if any and the trace itself.
+     *
+     * @param failure the exception the operation has failed with, or {@code null}
+     */
+    void end( @Nullable Throwable failure )
+    {
+        if ( tracer == null )
+        {
+            return;
+        }
+
+        if ( current != null )
+        {
+            if ( failure != null )
+            {
+                current.recordException( failure );
+            }
+            current.end();
+            current = null;
+        }
+
+        if ( failure != null )
+        {
+            root.recordException( failure );
+        }
+        root.end();
+    }
+}
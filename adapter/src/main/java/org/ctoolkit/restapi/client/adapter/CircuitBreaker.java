@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.common.eventbus.EventBus;
+import org.ctoolkit.restapi.client.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The circuit breaker of a single API, shared by all of its remote calls.
+ * <p>
+ * While {@link State#CLOSED} the outcomes of the recent remote calls are being recorded in a sliding window.
+ * Once the rate of the failed calls (a transient HTTP status code, see {@link RestFacadeAdapter#isTransient(int)},
+ * or an I/O failure) or the rate of the slow calls reaches its threshold, the circuit breaker opens.
+ * While {@link State#OPEN} the remote calls fail fast by {@link ServiceUnavailableException} instead of waiting
+ * for a degraded API. Once the open duration elapses, a limited number of probing calls are permitted
+ * ({@link State#HALF_OPEN}) and their outcomes decide whether to close or open the circuit breaker again.
+ * <p>
+ * Every state transition is posted as {@link CircuitBreakerEvent} to the {@link EventBus}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ * @see GoogleApiProxyFactory#getCircuitBreaker(String)
+ */
+public final class CircuitBreaker
+{
+    /**
+     * The minimum number of the calls in the window before the rates are evaluated.
+     */
+    static final int MIN_CALLS = 10;
+
+    /**
+     * The number of the probing calls permitted while half-open.
+     */
+    static final int HALF_OPEN_CALLS = 5;
+
+    private static final Logger logger = LoggerFactory.getLogger( CircuitBreaker.class );
+
+    private static final byte FAILED = 1;
+
+    private static final byte SLOW = 2;
+
+    private final String apiPrefix;
+
+    private final int failureRateThreshold;
+
+    private final int slowCallRateThreshold;
+
+    private final long slowCallDuration;
+
+    private final long openDuration;
+
+    private final EventBus eventBus;
+
+    private final LongSupplier ticker;
+
+    private final LongAdder notPermitted = new LongAdder();
+
+    /**
+     * The outcomes of the recent calls as a ring buffer, combination of the {@link #FAILED} and {@link #SLOW} flags.
+     */
+    private final byte[] window;
+
+    private int calls;
+
+    private int next;
+
+    private int failures;
+
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+
+    private long openedAt;
+
+    private int probes;
+
+    /**
+     * @param apiPrefix             the API prefix
+     * @param failureRateThreshold  the failure rate in percent to open the circuit breaker
+     * @param slowCallRateThreshold the slow call rate in percent to open the circuit breaker
+     * @param slowCallDuration      the duration in milliseconds a call is considered to be slow
+     * @param windowSize            the number of the recent calls to evaluate the rates from
+     * @param openDuration          the duration in milliseconds to fail fast before the probing calls
+     * @param eventBus              the event bus to post the state transitions to
+     */
+    CircuitBreaker( @Nonnull String apiPrefix,
+                    int failureRateThreshold,
+                    int slowCallRateThreshold,
+                    long slowCallDuration,
+                    int windowSize,
+                    long openDuration,
+                    @Nonnull EventBus eventBus )
+    {
+        this( apiPrefix, failureRateThreshold, slowCallRateThreshold, slowCallDuration, windowSize, openDuration,
+                eventBus, System::nanoTime );
+    }
+
+    CircuitBreaker( @Nonnull String apiPrefix,
+                    int failureRateThreshold,
+                    int slowCallRateThreshold,
+                    long slowCallDuration,
+                    int windowSize,
+                    long openDuration,
+                    @Nonnull EventBus eventBus,
+                    @Nonnull LongSupplier ticker )
+    {
+        checkArgument( failureRateThreshold > 0 && failureRateThreshold <= 100, "Failure rate out of range 1 - 100" );
+        checkArgument( slowCallRateThreshold > 0 && slowCallRateThreshold <= 100, "Slow call rate out of range 1 - 100" );
+        checkArgument( windowSize >= MIN_CALLS, "Window size must be at least " + MIN_CALLS );
+
+        this.apiPrefix = checkNotNull( apiPrefix );
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDuration = TimeUnit.MILLISECONDS.toNanos( slowCallDuration );
+        this.window = new byte[windowSize];
+        this.openDuration = TimeUnit.MILLISECONDS.toNanos( openDuration );
+        this.eventBus = checkNotNull( eventBus );
+        this.ticker = checkNotNull( ticker );
+    }
+
+    /**
+     * Returns the API prefix this circuit breaker belongs to.
+     *
+     * @return the API prefix
+     */
+    public String getApiPrefix()
+    {
+        return apiPrefix;
+    }
+
+    /**
+     * Returns the current state of the circuit breaker.
+     *
+     * @return the current state
+     */
+    public synchronized State getState()
+    {
+        return state;
+    }
+
+    /**
+     * Returns the failure rate of the recent calls.
+     *
+     * @return the failure rate in percent or {@code -1} if there is not enough calls recorded yet
+     */
+    public synchronized float getFailureRate()
+    {
+        return calls < MIN_CALLS ? -1 : failures * 100f / calls;
+    }
+
+    /**
+     * Returns the slow call rate of the recent calls.
+     *
+     * @return the slow call rate in percent or {@code -1} if there is not enough calls recorded yet
+     */
+    public synchronized float getSlowCallRate()
+    {
+        return calls < MIN_CALLS ? -1 : slowCalls * 100f / calls;
+    }
+
+    /**
+     * Returns the number of the calls that have failed fast, not permitted by the circuit breaker.
+     *
+     * @return the number of the not permitted calls
+     */
+    public long getNotPermittedCalls()
+    {
+        return notPermitted.sum();
+    }
+
+    /**
+     * Acquires the permission to execute a remote call.
+     * Each permitted call must be followed by {@link #onResult(long, boolean)} or {@link #release()}.
+     *
+     * @throws ServiceUnavailableException if the circuit breaker is open
+     */
+    void acquire()
+    {
+        State from;
+        State to;
+        synchronized ( this )
+        {
+            from = state;
+            if ( state == State.OPEN && ticker.getAsLong() - openedAt >= openDuration )
+            {
+                transition( State.HALF_OPEN );
+            }
+
+            if ( state == State.HALF_OPEN && probes < HALF_OPEN_CALLS )
+            {
+                probes++;
+            }
+            else if ( state != State.CLOSED )
+            {
+                notPermitted.increment();
+                throw new ServiceUnavailableException( "The circuit breaker of the API '" + apiPrefix + "' is open" );
+            }
+            to = state;
+        }
+        post( from, to );
+    }
+
+    /**
+     * Records the outcome of the permitted remote call.
+     *
+     * @param nanos  the duration of the call in nanoseconds
+     * @param failed true if the call has failed because of the API, see {@link RestFacadeAdapter#isTransient(int)}
+     */
+    void onResult( long nanos, boolean failed )
+    {
+        byte outcome = ( byte ) ( ( failed ? FAILED : 0 ) | ( nanos >= slowCallDuration ? SLOW : 0 ) );
+
+        State from;
+        State to;
+        synchronized ( this )
+        {
+            from = state;
+            if ( state == State.OPEN )
+            {
+                // a late outcome of the call permitted before the circuit breaker has opened
+                return;
+            }
+            record( outcome );
+
+            boolean exceeded = calls >= ( state == State.HALF_OPEN ? HALF_OPEN_CALLS : MIN_CALLS )
+                    && ( failures * 100 >= failureRateThreshold * calls
+                    || slowCalls * 100 >= slowCallRateThreshold * calls );
+
+            if ( state == State.CLOSED && exceeded )
+            {
+                transition( State.OPEN );
+            }
+            else if ( state == State.HALF_OPEN && exceeded )
+            {
+                transition( State.OPEN );
+            }
+            else if ( state == State.HALF_OPEN && calls >= HALF_OPEN_CALLS )
+            {
+                transition( State.CLOSED );
+            }
+            to = state;
+        }
+        post( from, to );
+    }
+
+    /**
+     * Releases the permission without recording an outcome, for example the call has failed
+     * for a reason not related to the API health.
+     */
+    synchronized void release()
+    {
+        if ( state == State.HALF_OPEN && probes > 0 )
+        {
+            probes--;
+        }
+    }
+
+    private void record( byte outcome )
+    {
+        if ( calls == window.length )
+        {
+            // evict the oldest outcome
+            byte evicted = window[next];
+            failures -= evicted & FAILED;
+            slowCalls -= ( evicted & SLOW ) >> 1;
+        }
+        else
+        {
+            calls++;
+        }
+
+        window[next] = outcome;
+        next = ( next + 1 ) % window.length;
+        failures += outcome & FAILED;
+        slowCalls += ( outcome & SLOW ) >> 1;
+    }
+
+    private void transition( State to )
+    {
+        state = to;
+        calls = 0;
+        next = 0;
+        failures = 0;
+        slowCalls = 0;
+        probes = 0;
+
+        if ( to == State.OPEN )
+        {
+            openedAt = ticker.getAsLong();
+        }
+    }
+
+    /**
+     * Posts the state transition, if any, outside of the lock.
+     */
+    private void post( State from, State to )
+    {
+        if ( from != to )
+        {
+            logger.warn( "Circuit breaker of the API '" + apiPrefix + "' transition " + from + " -> " + to );
+            eventBus.post( new CircuitBreakerEvent( this, from, to ) );
+        }
+    }
+
+    /**
+     * The state of the circuit breaker.
+     */
+    public enum State
+    {
+        /**
+         * The remote calls are permitted and their outcomes are being recorded.
+         */
+        CLOSED,
+
+        /**
+         * The remote calls fail fast.
+         */
+        OPEN,
+
+        /**
+         * A limited number of the probing remote calls are permitted.
+         */
+        HALF_OPEN
+    }
+}
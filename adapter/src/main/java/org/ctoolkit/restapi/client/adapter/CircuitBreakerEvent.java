@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+/**
+ * The event posted once the state of the {@link CircuitBreaker} has changed.
+ * Subscribe to this event the same way as to the {@link BeforeRequestEvent}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class CircuitBreakerEvent
+{
+    private final CircuitBreaker circuitBreaker;
+
+    private final CircuitBreaker.State from;
+
+    private final CircuitBreaker.State to;
+
+    public CircuitBreakerEvent( CircuitBreaker circuitBreaker, CircuitBreaker.State from, CircuitBreaker.State to )
+    {
+        this.circuitBreaker = circuitBreaker;
+        this.from = from;
+        this.to = to;
+    }
+
+    public CircuitBreaker getCircuitBreaker()
+    {
+        return circuitBreaker;
+    }
+
+    public String getApiPrefix()
+    {
+        return circuitBreaker.getApiPrefix();
+    }
+
+    public CircuitBreaker.State getFrom()
+    {
+        return from;
+    }
+
+    public CircuitBreaker.State getTo()
+    {
+        return to;
+    }
+}
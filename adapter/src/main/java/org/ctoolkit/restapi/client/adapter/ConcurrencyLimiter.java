@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.ctoolkit.restapi.client.ServiceUnavailableException;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The adaptive limit of the concurrent remote calls of a single API (bulkhead), shared by all of its remote calls.
+ * <p>
+ * The limit follows the gradient of the round trip time: the long-term average RTT is compared with the RTT
+ * of every completed call. While the latency is stable the limit grows by square root of itself,
+ * once the latency rises (the calls are queueing somewhere) the limit shrinks proportionally, at most by half.
+ * A failed call (a transient HTTP status code or an I/O failure) shrinks the limit by 10%.
+ * The limit does not grow while the API is not utilized at least by half of it.
+ * <p>
+ * A remote call above the limit is shed by {@link ServiceUnavailableException} instead of occupying a thread
+ * waiting for a slow API.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ * @see GoogleApiProxyFactory#getConcurrencyLimiter(String)
+ */
+public final class ConcurrencyLimiter
+{
+    static final int MIN_LIMIT = 1;
+
+    /**
+     * The number of samples the long-term RTT is averaged over.
+     */
+    private static final int LONG_WINDOW = 600;
+
+    /**
+     * The number of samples with simple average of the long-term RTT.
+     */
+    private static final int WARM_UP = 10;
+
+    /**
+     * The RTT increase tolerated before the limit shrinks.
+     */
+    private static final double TOLERANCE = 1.5;
+
+    private static final double SMOOTHING = 0.2;
+
+    private static final double BACKOFF = 0.9;
+
+    private final String apiPrefix;
+
+    private final int maxLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final LongAdder shed = new LongAdder();
+
+    private volatile double limit;
+
+    private double longRtt;
+
+    private long samples;
+
+    /**
+     * @param apiPrefix    the API prefix
+     * @param initialLimit the initial limit of the concurrent calls
+     * @param maxLimit     the maximum limit of the concurrent calls
+     */
+    ConcurrencyLimiter( @Nonnull String apiPrefix, int initialLimit, int maxLimit )
+    {
+        checkArgument( initialLimit >= MIN_LIMIT, "Initial limit must be at least " + MIN_LIMIT );
+        checkArgument( maxLimit >= initialLimit, "Max limit must be at least the initial limit" );
+
+        this.apiPrefix = checkNotNull( apiPrefix );
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Returns the API prefix this limiter belongs to.
+     *
+     * @return the API prefix
+     */
+    public String getApiPrefix()
+    {
+        return apiPrefix;
+    }
+
+    /**
+     * Returns the current limit of the concurrent calls.
+     *
+     * @return the current limit
+     */
+    public int getLimit()
+    {
+        return ( int ) limit;
+    }
+
+    /**
+     * Returns the number of the remote calls in progress.
+     *
+     * @return the number of the calls in flight
+     */
+    public int getInFlight()
+    {
+        return inFlight.get();
+    }
+
+    /**
+     * Returns the number of the remote calls shed because of the limit.
+     *
+     * @return the number of the shed calls
+     */
+    public long getShed()
+    {
+        return shed.sum();
+    }
+
+    /**
+     * Acquires the permission to execute a remote call. Every acquired permission must be completed either by
+     * {@link #onSample(long, boolean)} or {@link #release()}.
+     *
+     * @throws ServiceUnavailableException if the limit has been reached
+     */
+    void acquire()
+    {
+        while ( true )
+        {
+            int current = inFlight.get();
+            if ( current >= ( int ) limit )
+            {
+                shed.increment();
+                String message = "The concurrency limit " + current + " of the API '" + apiPrefix + "' has been reached";
+                throw new ServiceUnavailableException( message );
+            }
+            if ( inFlight.compareAndSet( current, current + 1 ) )
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Completes the remote call and adjusts the limit.
+     *
+     * @param rtt     the round trip time of the call in nanoseconds
+     * @param dropped true if the call has failed
+     */
+    void onSample( long rtt, boolean dropped )
+    {
+        update( Math.max( 1, rtt ), dropped, inFlight.getAndDecrement() );
+    }
+
+    /**
+     * Completes the remote call without adjusting the limit.
+     */
+    void release()
+    {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void update( long rtt, boolean dropped, int current )
+    {
+        if ( dropped )
+        {
+            limit = Math.max( MIN_LIMIT, limit * BACKOFF );
+            return;
+        }
+
+        samples++;
+        longRtt += ( rtt - longRtt ) / Math.min( samples, LONG_WINDOW );
+        if ( longRtt > rtt * 2 )
+        {
+            // the latency has recovered, let the long-term RTT follow faster
+            longRtt *= 0.95;
+        }
+
+        if ( samples <= WARM_UP || current < limit / 2 )
+        {
+            return;
+        }
+
+        double gradient = Math.max( 0.5, Math.min( 1.0, TOLERANCE * longRtt / rtt ) );
+        double estimated = limit * gradient + Math.sqrt( limit );
+        limit = Math.max( MIN_LIMIT, Math.min( maxLimit, limit * ( 1 - SMOOTHING ) + estimated * SMOOTHING ) );
+    }
+}
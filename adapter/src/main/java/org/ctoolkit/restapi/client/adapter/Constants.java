@@ -35,4 +35,33 @@ public interface Constants
      */
     String IDENTITY_GTOKEN = "gtoken";
 
+    /**
+     * The name of the optional boolean binding to enable coalescing of the identical concurrent GET requests.
+     * A single remote call serves all concurrent callers, and the response is persisted by the
+     * local resource provider only once.
+     * <p>
+     * {@code bindConstant().annotatedWith( Names.named( Constants.COALESCE_GET ) ).to( true );}
+     */
+    String COALESCE_GET = "ctoolkit.restapi.coalesceGet";
+
+    /**
+     * The name of the optional int binding to enable the write-behind of the local resource provider writes
+     * ({@code persist} and {@code persistList}) with given capacity of the queue. The writes are being executed
+     * in background on the {@link org.ctoolkit.restapi.client.RemoteCallExecutor} executor (if bound), thus
+     * the remote response is returned without waiting for the write. A queued write is replaced by a later
+     * write of the same resource. Once the queue is full the write is executed by the caller, see
+     * {@link #WRITE_BEHIND_DROP}.
+     * <p>
+     * {@code bindConstant().annotatedWith( Names.named( Constants.WRITE_BEHIND ) ).to( 1000 );}
+     */
+    String WRITE_BEHIND = "ctoolkit.restapi.writeBehind";
+
+    /**
+     * The name of the optional boolean binding to drop the write instead of executing it by the caller
+     * once the write-behind queue is full, see {@link #WRITE_BEHIND}.
+     * <p>
+     * {@code bindConstant().annotatedWith( Names.named( Constants.WRITE_BEHIND_DROP ) ).to( true );}
+     */
+    String WRITE_BEHIND_DROP = "ctoolkit.restapi.writeBehindDrop";
+
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.api.client.http.HttpExecuteInterceptor;
+import com.google.api.client.http.HttpRequest;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The point in time the whole request must be completed by, including retries, token refresh,
+ * the waiting for the rate limiter and the fetches of the list pages, see {@link DeadlineRequest}.
+ * <p>
+ * While the remote call is being executed the deadline is bound to the executing thread. Every HTTP attempt
+ * gets the remaining time as its connect and read timeout (if shorter than the configured one)
+ * and fails by {@link DeadlineExceededException} once the deadline has passed. A retry is not attempted
+ * if the backoff would not end before the deadline.
+ * <p>
+ * A single deadline might be shared by several requests, for example to propagate the deadline
+ * of the incoming request.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public final class Deadline
+{
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadline;
+
+    private Deadline( long deadline )
+    {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Returns the deadline after given timeout from now.
+     *
+     * @param timeout the time to complete the request in
+     * @return the deadline
+     */
+    public static Deadline after( @Nonnull Duration timeout )
+    {
+        return new Deadline( System.nanoTime() + checkNotNull( timeout, "Timeout cannot be null" ).toNanos() );
+    }
+
+    /**
+     * Returns the deadline bound to the current thread.
+     *
+     * @return the current deadline or {@code null} if none
+     */
+    @Nullable
+    static Deadline current()
+    {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds given deadline to the current thread.
+     *
+     * @param deadline the deadline to be bound, {@code null} to unbind
+     * @return the previously bound deadline to be restored
+     */
+    @Nullable
+    static Deadline bind( @Nullable Deadline deadline )
+    {
+        Deadline previous = CURRENT.get();
+        if ( deadline == null )
+        {
+            CURRENT.remove();
+        }
+        else
+        {
+            CURRENT.set( deadline );
+        }
+        return previous;
+    }
+
+    /**
+     * Returns the callable that runs with given deadline bound to the executing thread.
+     *
+     * @param deadline the optional deadline
+     * @param callable the callable to be wrapped
+     * @param <R>      the type of the result
+     * @return the wrapped callable or the callable itself if there is no deadline
+     */
+    static <R> Callable<R> bound( @Nullable Deadline deadline, @Nonnull Callable<R> callable )
+    {
+        if ( deadline == null )
+        {
+            return callable;
+        }
+
+        return () -> {
+            Deadline previous = bind( deadline );
+            try
+            {
+                return callable.call();
+            }
+            finally
+            {
+                bind( previous );
+            }
+        };
+    }
+
+    /**
+     * Installs the deadline bound to the current thread (if any) to given request.
+     * The already configured interceptor is being kept.
+     *
+     * @param request the HTTP request to be configured
+     */
+    static void installCurrent( @Nonnull HttpRequest request )
+    {
+        Deadline deadline = current();
+        if ( deadline != null )
+        {
+            deadline.install( request );
+        }
+    }
+
+    /**
+     * Returns the time remaining to the deadline.
+     *
+     * @param unit the time unit of the result
+     * @return the remaining time, zero or negative once the deadline has passed
+     */
+    public long remaining( @Nonnull TimeUnit unit )
+    {
+        return unit.convert( deadline - System.nanoTime(), TimeUnit.NANOSECONDS );
+    }
+
+    /**
+     * Returns {@code true} if the deadline has passed.
+     *
+     * @return true if expired
+     */
+    public boolean isExpired()
+    {
+        return deadline - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Checks whether the deadline has not passed yet.
+     *
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    void check() throws DeadlineExceededException
+    {
+        if ( isExpired() )
+        {
+            throw new DeadlineExceededException( "Deadline exceeded by " + -remaining( TimeUnit.MILLISECONDS ) + "ms" );
+        }
+    }
+
+    private void install( HttpRequest request )
+    {
+        int connectTimeout = request.getConnectTimeout();
+        int readTimeout = request.getReadTimeout();
+
+        HttpExecuteInterceptor interceptor = request.getInterceptor();
+        request.setInterceptor( r -> {
+            if ( interceptor != null )
+            {
+                interceptor.intercept( r );
+            }
+
+            check();
+            long remaining = Math.max( 1, remaining( TimeUnit.MILLISECONDS ) );
+            r.setConnectTimeout( cap( connectTimeout, remaining ) );
+            r.setReadTimeout( cap( readTimeout, remaining ) );
+        } );
+    }
+
+    /**
+     * Returns the timeout capped by the remaining time, zero timeout stands for infinity.
+     */
+    private static int cap( int timeout, long remaining )
+    {
+        return ( int ) ( timeout == 0 ? Math.min( remaining, Integer.MAX_VALUE ) : Math.min( timeout, remaining ) );
+    }
+}
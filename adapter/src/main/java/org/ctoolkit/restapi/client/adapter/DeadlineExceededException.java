@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import java.net.SocketTimeoutException;
+
+/**
+ * Thrown once the {@link Deadline} of the request has passed before the remote call has been completed.
+ * As a timeout the facade reports it by {@link org.ctoolkit.restapi.client.ServiceUnavailableException}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class DeadlineExceededException
+        extends SocketTimeoutException
+{
+    private static final long serialVersionUID = -3106485224183930257L;
+
+    public DeadlineExceededException( String message )
+    {
+        super( message );
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.ctoolkit.restapi.client.Request;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+
+/**
+ * The option to set the end-to-end deadline of the request, see {@link Deadline}.
+ * Without a deadline only the configured per attempt timeouts apply.
+ * <p>
+ * All request instances returned by {@link RestFacadeAdapter} except batch implement this interface, for example
+ * {@code ( ( DeadlineRequest<Foo> ) facade.get( Foo.class ).identifiedBy( id ) ).withDeadline( timeout ).finish();}
+ *
+ * @param <T> the type of the result
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public interface DeadlineRequest<T>
+{
+    /**
+     * Sets the deadline after given timeout from now.
+     *
+     * @param timeout the time to complete the request in
+     * @return the request
+     */
+    default Request<T> withDeadline( @Nonnull Duration timeout )
+    {
+        return withDeadline( Deadline.after( timeout ) );
+    }
+
+    /**
+     * Sets the deadline, possibly shared with other requests.
+     *
+     * @param deadline the deadline to complete the request by
+     * @return the request
+     */
+    Request<T> withDeadline( @Nonnull Deadline deadline );
+}
@@ -31,6 +31,8 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -40,8 +42,10 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
  */
 class DeleteRequest<T>
-        implements PayloadRequest<T>
+        implements PayloadRequest<T>, AsyncRequest<T>, BatchableRequest<T>, DeadlineRequest<T>
 {
+    private final Class<?> deleted;
+
     private final Class<T> resource;
 
     private final Object identifier;
@@ -58,20 +62,23 @@ class DeleteRequest<T>
 
     private GoogleRequestHeaders filler;
 
-    DeleteRequest( @Nonnull Object identifier,
+    DeleteRequest( @Nonnull Class<?> deleted,
+                   @Nonnull Object identifier,
                    @Nonnull RestFacadeAdapter adapter,
                    @Nonnull DeleteExecutorAdaptee<?> adaptee,
                    @Nonnull Object remoteRequest )
     {
-        this( null, identifier, adapter, adaptee, remoteRequest );
+        this( deleted, null, identifier, adapter, adaptee, remoteRequest );
     }
 
-    private DeleteRequest( @Nullable Class<T> resource,
+    private DeleteRequest( @Nonnull Class<?> deleted,
+                           @Nullable Class<T> resource,
                            @Nonnull Object identifier,
                            @Nonnull RestFacadeAdapter adapter,
                            @Nonnull DeleteExecutorAdaptee<?> adaptee,
                            @Nonnull Object remoteRequest )
     {
+        this.deleted = checkNotNull( deleted );
         this.resource = resource;
         this.identifier = checkNotNull( identifier );
         this.adapter = checkNotNull( adapter );
@@ -117,7 +124,34 @@ class DeleteRequest<T>
 
         filler.acceptLanguage( locale );
 
-        return adapter.callbackExecuteDelete( adaptee, remoteRequest, identifier, filler, resource, params, locale );
+        return adapter.callbackExecuteDelete( adaptee, remoteRequest, deleted, identifier, filler, resource,
+                params, locale );
+    }
+
+    @Override
+    public CompletableFuture<T> finishAsync()
+    {
+        return finishAsync( null, withLocale );
+    }
+
+    @Override
+    public CompletableFuture<T> finishAsync( @Nullable Map<String, Object> parameters, @Nullable Locale locale )
+    {
+        return adapter.callbackAsync( () -> finish( parameters, locale ) );
+    }
+
+    @Override
+    public CompletableFuture<T> finishAsync( long timeout, @Nonnull TimeUnit unit )
+    {
+        return adapter.callbackAsync( () -> finish( null, withLocale ), timeout, unit );
+    }
+
+    @Override
+    public CompletableFuture<T> queue( @Nonnull RequestBatch batch )
+    {
+        filler.acceptLanguage( withLocale );
+        return batch.queue( remoteRequest, resource, identifier, filler, params,
+                response -> adapter.coherent( deleted, identifier, null, params, withLocale ) );
     }
 
     @Override
@@ -172,6 +206,13 @@ class DeleteRequest<T>
         return this;
     }
 
+    @Override
+    public Request<T> withDeadline( @Nonnull Deadline deadline )
+    {
+        filler.setDeadline( checkNotNull( deadline, "Deadline cannot be null" ) );
+        return this;
+    }
+
     @Override
     public AuthRequest<T> authBy( @Nonnull String token )
     {
@@ -199,7 +240,7 @@ class DeleteRequest<T>
     public <R> Request<R> answerBy( @Nonnull Class<R> type )
     {
         checkNotNull( type );
-        return new DeleteRequest<>( type, identifier, adapter, adaptee, remoteRequest );
+        return new DeleteRequest<>( deleted, type, identifier, adapter, adaptee, remoteRequest );
     }
 
     @Override
@@ -34,6 +34,8 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -43,7 +45,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
  */
 class DownloadRequestImpl
-        implements DownloadRequest
+        implements DownloadRequest, AsyncRequest<Map<String, Object>>, DeadlineRequest<Map<String, Object>>
 {
     private final RestFacadeAdapter adapter;
 
@@ -154,6 +156,24 @@ class DownloadRequestImpl
                 filler, params, locale );
     }
 
+    @Override
+    public CompletableFuture<Map<String, Object>> finishAsync()
+    {
+        return finishAsync( null, withLocale );
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> finishAsync( @Nullable Map<String, Object> parameters, @Nullable Locale locale )
+    {
+        return adapter.callbackAsync( () -> finish( parameters, locale ) );
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> finishAsync( long timeout, @Nonnull TimeUnit unit )
+    {
+        return adapter.callbackAsync( () -> finish( null, withLocale ), timeout, unit );
+    }
+
     @Override
     public Request<Map<String, Object>> configWith( @Nonnull Properties properties )
     {
@@ -206,6 +226,13 @@ class DownloadRequestImpl
         return this;
     }
 
+    @Override
+    public Request<Map<String, Object>> withDeadline( @Nonnull Deadline deadline )
+    {
+        filler.setDeadline( checkNotNull( deadline, "Deadline cannot be null" ) );
+        return this;
+    }
+
     @Override
     public AuthRequest<Map<String, Object>> authBy( @Nonnull String token )
     {
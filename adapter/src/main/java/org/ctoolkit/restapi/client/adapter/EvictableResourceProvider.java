@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.ctoolkit.restapi.client.Identifier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The local resource provider (either {@code LocalResourceProvider} or {@code LocalListResourceProvider})
+ * that the adapter keeps coherent once the resource of its type has been successfully inserted, updated
+ * or deleted, according to its {@link #getCoherence()}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public interface EvictableResourceProvider
+{
+    /**
+     * Evicts the resource with given identifier, cached for any params and locale.
+     *
+     * @param identifier the unique identifier of the resource
+     */
+    void evict( @Nonnull Identifier identifier );
+
+    /**
+     * Evicts the cached lists that might contain the resource with given identifier.
+     * The implementation that does not know the content of the lists evicts all of them.
+     *
+     * @param identifier the unique identifier of the resource or {@code null} if a new resource has been inserted
+     */
+    void evictLists( @Nullable Identifier identifier );
+
+    /**
+     * Evicts the resource from the cache of this instance only, as the eviction has been made by another
+     * instance that has already evicted the shared cache if any, see {@link InvalidationListener}.
+     *
+     * @param identifier the unique identifier of the resource
+     */
+    default void evictLocal( @Nonnull Identifier identifier )
+    {
+        evict( identifier );
+    }
+
+    /**
+     * Evicts the cached lists from the cache of this instance only, see {@link #evictLocal(Identifier)}.
+     *
+     * @param identifier the unique identifier of the resource or {@code null} if a new resource has been inserted
+     */
+    default void evictListsLocal( @Nullable Identifier identifier )
+    {
+        evictLists( identifier );
+    }
+
+    /**
+     * Returns how the cached resources are kept coherent after a successful write.
+     *
+     * @return the coherence policy
+     */
+    @Nonnull
+    Coherence getCoherence();
+
+    /**
+     * The coherence policy of the cached resources after a successful write.
+     */
+    enum Coherence
+    {
+        /**
+         * The cached resources are left untouched until expired.
+         */
+        NONE,
+        /**
+         * The updated or deleted resource is evicted, along with the lists that might contain it.
+         * The lists are evicted after an insert too.
+         */
+        INVALIDATE,
+        /**
+         * As {@link #INVALIDATE}, but the response of the update is cached as the resource.
+         */
+        WRITE_THROUGH
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.common.math.IntMath;
+
+/**
+ * The approximate access frequency of the keys (TinyLFU), a count-min sketch of 4-bit counters
+ * with 4 hash functions, sized to 16 counters per expected key. Once the number of increments reaches
+ * the sample size (10 times the expected number of keys), all counters are halved, thus the frequency
+ * ages out over time. The sketch grows by {@link #ensureCapacity(long)}, if the number of keys is not known
+ * up front (bounded by weight).
+ * <p>
+ * Not thread-safe, the caller is expected to hold a lock.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+final class FrequencySketch
+{
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private static final int MAX_COUNT = 15;
+
+    private static final int MAX_CAPACITY = 1 << 24;
+
+    private long[] table = new long[0];
+
+    private int counterMask;
+
+    private int sampleSize;
+
+    private int size;
+
+    FrequencySketch( long expectedSize )
+    {
+        ensureCapacity( expectedSize );
+    }
+
+    /**
+     * Grows the sketch if smaller than needed for given number of keys, the frequencies collected so far
+     * are discarded then. Never shrinks.
+     *
+     * @param expectedSize the expected number of keys
+     */
+    void ensureCapacity( long expectedSize )
+    {
+        int capacity = ( int ) Math.min( Math.max( expectedSize, 1 ), MAX_CAPACITY );
+        if ( table.length >= capacity )
+        {
+            return;
+        }
+
+        // a long of 16 counters per key, the number of counters is power of two
+        this.table = new long[IntMath.ceilingPowerOfTwo( capacity )];
+        this.counterMask = table.length * 16 - 1;
+        this.sampleSize = 10 * capacity;
+        this.size = 0;
+    }
+
+    private static int spread( int hash )
+    {
+        int h = hash * 0x9e3779b9;
+        return h ^ ( h >>> 16 );
+    }
+
+    private int counter( int hash, int depth )
+    {
+        long h = ( hash + SEEDS[depth] ) * SEEDS[depth];
+        h += h >>> 32;
+        return ( int ) h & counterMask;
+    }
+
+    private int count( int counter )
+    {
+        return ( int ) ( ( table[counter >>> 4] >>> ( ( counter & 15 ) << 2 ) ) & 0xfL );
+    }
+
+    /**
+     * Returns the estimated number of occurrences of the key, at most 15.
+     *
+     * @param key the key
+     * @return the estimated frequency
+     */
+    int frequency( Object key )
+    {
+        int hash = spread( key.hashCode() );
+        int frequency = MAX_COUNT;
+        for ( int depth = 0; depth < SEEDS.length; depth++ )
+        {
+            frequency = Math.min( frequency, count( counter( hash, depth ) ) );
+        }
+        return frequency;
+    }
+
+    /**
+     * Increments the frequency of the key if not already at the maximum.
+     *
+     * @param key the key
+     */
+    void increment( Object key )
+    {
+        int hash = spread( key.hashCode() );
+        boolean added = false;
+        for ( int depth = 0; depth < SEEDS.length; depth++ )
+        {
+            int counter = counter( hash, depth );
+            if ( count( counter ) < MAX_COUNT )
+            {
+                table[counter >>> 4] += 1L << ( ( counter & 15 ) << 2 );
+                added = true;
+            }
+        }
+
+        if ( added && ++size == sampleSize )
+        {
+            reset();
+        }
+    }
+
+    /**
+     * Halves all counters.
+     */
+    private void reset()
+    {
+        for ( int i = 0; i < table.length; i++ )
+        {
+            table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+        }
+        size >>>= 1;
+    }
+}
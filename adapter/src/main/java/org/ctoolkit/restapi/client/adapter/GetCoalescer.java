@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.ctoolkit.restapi.client.Identifier;
+import org.ctoolkit.restapi.client.ServiceUnavailableException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The single-flight execution of the identical concurrent GET requests. The first caller (the leader)
+ * executes the remote call, while the callers with an equal {@link Key} that arrive before it completes
+ * wait for its result (or exception) instead of executing the remote call of its own.
+ * <p>
+ * All coalesced callers receive the same response instance. The deadline of the request is not part of the key,
+ * the callers with different deadlines are being coalesced, each waits within its own deadline.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+final class GetCoalescer
+{
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Executes the call, or waits for the result of an identical call that is already in flight.
+     * <p>
+     * The caller waits for the leader at most until its own deadline. If the leader has failed once its deadline
+     * has passed, the failure is not being shared, the caller executes the call within its own deadline instead.
+     *
+     * @param key      the identity of the call
+     * @param deadline the optional deadline of the caller
+     * @param call     the remote call to be executed
+     * @param <R>      the type of the result
+     * @return the result of the call
+     * @throws ServiceUnavailableException if the deadline has passed while waiting for the leader
+     */
+    <R> R execute( @Nonnull Key key, @Nullable Deadline deadline, @Nonnull Supplier<R> call )
+    {
+        checkNotNull( key );
+        while ( true )
+        {
+            CompletableFuture<Object> mine = new CompletableFuture<>();
+            CompletableFuture<Object> leader = inFlight.putIfAbsent( key, mine );
+
+            if ( leader != null )
+            {
+                coalesced.increment();
+                try
+                {
+                    return await( leader, deadline );
+                }
+                catch ( LeaderExpired e )
+                {
+                    // the leader's deadline is not the caller's one, repeat as the leader if none is in flight
+                    continue;
+                }
+            }
+
+            try
+            {
+                R result = call.get();
+                mine.complete( result );
+                return result;
+            }
+            catch ( RuntimeException | Error e )
+            {
+                mine.completeExceptionally( deadline != null && deadline.isExpired() ? LeaderExpired.INSTANCE : e );
+                throw e;
+            }
+            finally
+            {
+                inFlight.remove( key, mine );
+            }
+        }
+    }
+
+    /**
+     * Returns the number of calls served by the call already in flight.
+     *
+     * @return the number of coalesced calls
+     */
+    long coalesced()
+    {
+        return coalesced.sum();
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private static <R> R await( CompletableFuture<Object> leader, @Nullable Deadline deadline )
+    {
+        boolean interrupted = false;
+        try
+        {
+            while ( true )
+            {
+                try
+                {
+                    if ( deadline == null )
+                    {
+                        return ( R ) leader.get();
+                    }
+                    deadline.check();
+                    return ( R ) leader.get( deadline.remaining( TimeUnit.NANOSECONDS ), TimeUnit.NANOSECONDS );
+                }
+                catch ( InterruptedException e )
+                {
+                    interrupted = true;
+                }
+                catch ( DeadlineExceededException | TimeoutException e )
+                {
+                    throw new ServiceUnavailableException( "Deadline exceeded while waiting for the identical call" );
+                }
+                catch ( ExecutionException e )
+                {
+                    Throwable cause = e.getCause();
+                    if ( cause instanceof RuntimeException )
+                    {
+                        throw ( RuntimeException ) cause;
+                    }
+                    if ( cause instanceof Error )
+                    {
+                        throw ( Error ) cause;
+                    }
+                    throw new IllegalStateException( cause );
+                }
+            }
+        }
+        finally
+        {
+            if ( interrupted )
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * The failure shared with the followers instead of the leader's one, caused by the leader's deadline.
+     */
+    private static final class LeaderExpired
+            extends RuntimeException
+    {
+        private static final LeaderExpired INSTANCE = new LeaderExpired();
+
+        private static final long serialVersionUID = 1L;
+
+        private LeaderExpired()
+        {
+            super( null, null, false, false );
+        }
+    }
+
+    /**
+     * The identity of the GET request: resource type, root identifier, parameters, locale
+     * and the authorization.
+     */
+    static final class Key
+    {
+        private final Class<?> type;
+
+        private final Identifier identifier;
+
+        private final Map<String, Object> parameters;
+
+        private final Locale locale;
+
+        private final List<Object> identity;
+
+        private final int hash;
+
+        Key( @Nonnull Class<?> type,
+             @Nonnull Identifier identifier,
+             @Nonnull Map<String, Object> parameters,
+             @Nullable Locale locale,
+             @Nonnull GoogleRequestHeaders headers )
+        {
+            this.type = checkNotNull( type );
+            this.identifier = checkNotNull( identifier );
+            this.parameters = new HashMap<>( parameters );
+            this.locale = locale;
+            this.identity = headers.identity();
+            this.hash = Objects.hash( type, identifier, this.parameters, locale, identity );
+        }
+
+        @Override
+        public boolean equals( Object o )
+        {
+            if ( this == o )
+            {
+                return true;
+            }
+            if ( !( o instanceof Key ) )
+            {
+                return false;
+            }
+            Key key = ( Key ) o;
+            return hash == key.hash
+                    && type == key.type
+                    && identifier.equals( key.identifier )
+                    && parameters.equals( key.parameters )
+                    && Objects.equals( locale, key.locale )
+                    && identity.equals( key.identity );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+}
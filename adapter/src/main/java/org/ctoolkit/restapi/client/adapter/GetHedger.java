@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The hedged execution of the GET requests. If the remote call has not completed after a delay derived
+ * from the configured percentile of the recently observed latencies, a duplicate request is being sent.
+ * The first successful response wins and the other call is being cancelled.
+ * <p>
+ * Hedging is opt-in per API, configured by the {@code credential.<prefix>.*} properties,
+ * see {@link GoogleApiProxyFactory#isHedgeOn(String)}. The hedges are limited by the {@link LoadBudget},
+ * thus never exceed the configured extra load.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+final class GetHedger
+{
+    private static final Logger logger = LoggerFactory.getLogger( GetHedger.class );
+
+    private final Function<String, Policy> factory;
+
+    private final ConcurrentMap<String, Policy> policies = new ConcurrentHashMap<>();
+
+    private final LongAdder hedged = new LongAdder();
+
+    GetHedger( @Nonnull GoogleApiProxyFactory apiFactory )
+    {
+        this( prefix -> apiFactory.isHedgeOn( prefix )
+                ? new Policy( apiFactory.getHedgePercentile( prefix ),
+                apiFactory.getHedgeBudget( prefix ),
+                apiFactory.getHedgeMinDelay( prefix ),
+                TimeUnit.MILLISECONDS )
+                : Policy.OFF );
+    }
+
+    GetHedger( @Nonnull Function<String, Policy> factory )
+    {
+        this.factory = checkNotNull( factory );
+    }
+
+    /**
+     * Executes the remote call, hedged if configured for given API.
+     *
+     * @param prefix   the API prefix
+     * @param primary  the remote call
+     * @param hedge    the callable, invoked at the calling thread, that prepares the duplicate remote call
+     * @param executor the executor to run the calls, used only if hedging is on
+     * @param <R>      the type of the result
+     * @return the result of the first successful call
+     * @throws IOException if the remote call has failed (and the hedge too, if sent)
+     */
+    <R> R execute( @Nonnull String prefix,
+                   @Nonnull Callable<R> primary,
+                   @Nonnull Callable<Callable<R>> hedge,
+                   @Nonnull Executor executor )
+            throws IOException
+    {
+        Policy policy = policies.computeIfAbsent( prefix, factory );
+        if ( policy == Policy.OFF )
+        {
+            return call( primary );
+        }
+
+        policy.deposit();
+        long delay = policy.delayNanos();
+        if ( delay < 0 )
+        {
+            // warming up, not enough samples yet
+            return call( policy.timed( primary ) );
+        }
+
+        AsyncCall<R> first = AsyncCall.submit( policy.timed( primary ), executor );
+        AsyncCall<R> second = null;
+        try
+        {
+            try
+            {
+                return first.get( delay, TimeUnit.NANOSECONDS );
+            }
+            catch ( TimeoutException ignored )
+            {
+                // too slow, hedge if the budget allows
+            }
+
+            Callable<R> duplicate = policy.withdraw() ? prepare( hedge ) : null;
+            if ( duplicate == null )
+            {
+                return first.get();
+            }
+
+            hedged.increment();
+            second = AsyncCall.submit( policy.timed( duplicate ), executor );
+            return firstSuccessful( first, second ).get();
+        }
+        catch ( ExecutionException e )
+        {
+            throw unwrap( e );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException( "Interrupted while waiting for the GET response" );
+        }
+        finally
+        {
+            // no-op for the already completed call
+            first.cancel( true );
+            if ( second != null )
+            {
+                second.cancel( true );
+            }
+        }
+    }
+
+    /**
+     * Returns the number of the hedged requests sent.
+     *
+     * @return the number of hedges
+     */
+    long hedged()
+    {
+        return hedged.sum();
+    }
+
+    private static <R> Callable<R> prepare( Callable<Callable<R>> hedge )
+    {
+        try
+        {
+            return hedge.call();
+        }
+        catch ( Exception e )
+        {
+            logger.warn( "Preparation of the hedged request has failed, waiting for the original one.", e );
+            return null;
+        }
+    }
+
+    /**
+     * Completes with the first successful result, or with the failure of the first call once both have failed.
+     */
+    private static <R> CompletableFuture<R> firstSuccessful( CompletableFuture<R> first, CompletableFuture<R> second )
+    {
+        CompletableFuture<R> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        for ( CompletableFuture<R> next : Arrays.asList( first, second ) )
+        {
+            next.whenComplete( ( result, throwable ) -> {
+                if ( throwable == null )
+                {
+                    winner.complete( result );
+                }
+                else if ( failures.incrementAndGet() == 2 )
+                {
+                    first.whenComplete( ( r, t ) -> winner.completeExceptionally( t ) );
+                }
+            } );
+        }
+        return winner;
+    }
+
+    private static <R> R call( Callable<R> callable ) throws IOException
+    {
+        try
+        {
+            return callable.call();
+        }
+        catch ( IOException | RuntimeException e )
+        {
+            throw e;
+        }
+        catch ( Exception e )
+        {
+            throw new IOException( e );
+        }
+    }
+
+    private static IOException unwrap( ExecutionException e )
+    {
+        Throwable cause = e.getCause();
+        if ( cause instanceof IOException )
+        {
+            return ( IOException ) cause;
+        }
+        if ( cause instanceof RuntimeException )
+        {
+            throw ( RuntimeException ) cause;
+        }
+        if ( cause instanceof Error )
+        {
+            throw ( Error ) cause;
+        }
+        return new IOException( cause );
+    }
+
+    /**
+     * The hedging policy of a single API with its latency window and budget.
+     */
+    static final class Policy
+    {
+        static final Policy OFF = new Policy( 100, 0, 0, TimeUnit.MILLISECONDS );
+
+        /**
+         * The number of the recent latencies the percentile is evaluated from.
+         */
+        static final int WINDOW = 256;
+
+        /**
+         * The number of the latencies to be observed before the first hedge.
+         */
+        static final int MIN_SAMPLES = 20;
+
+        /**
+         * The percentile is re-evaluated once per this number of the new latencies.
+         */
+        private static final int EVALUATE_EVERY = 16;
+
+        /**
+         * The maximum number of the hedges that might be sent in a burst.
+         */
+        private static final int MAX_BURST = 10;
+
+        private final int percentile;
+
+        private final long minDelay;
+
+        private final AtomicLongArray latencies = new AtomicLongArray( WINDOW );
+
+        private final AtomicLong samples = new AtomicLong();
+
+        private final LoadBudget budget;
+
+        private volatile long delay = -1;
+
+        Policy( int percentile, int budget, long minDelay, @Nonnull TimeUnit unit )
+        {
+            this.percentile = percentile;
+            this.budget = new LoadBudget( budget, MAX_BURST );
+            this.minDelay = unit.toNanos( minDelay );
+        }
+
+        /**
+         * Returns the delay in nanoseconds after which a hedge should be sent,
+         * or {@code -1} if not enough latencies have been observed yet.
+         */
+        long delayNanos()
+        {
+            return delay;
+        }
+
+        void record( long nanos )
+        {
+            long count = samples.getAndIncrement() + 1;
+            latencies.set( ( int ) ( ( count - 1 ) % WINDOW ), nanos );
+
+            if ( count >= MIN_SAMPLES && ( count == MIN_SAMPLES || count % EVALUATE_EVERY == 0 ) )
+            {
+                int size = ( int ) Math.min( count, WINDOW );
+                long[] sorted = new long[size];
+                for ( int index = 0; index < size; index++ )
+                {
+                    sorted[index] = latencies.get( index );
+                }
+                Arrays.sort( sorted );
+
+                int rank = ( int ) Math.ceil( percentile / 100.0 * size ) - 1;
+                delay = Math.max( sorted[Math.max( rank, 0 )], minDelay );
+            }
+        }
+
+        void deposit()
+        {
+            budget.deposit();
+        }
+
+        boolean withdraw()
+        {
+            return budget.withdraw();
+        }
+
+        <R> Callable<R> timed( Callable<R> callable )
+        {
+            return () -> {
+                long start = System.nanoTime();
+                R result = callable.call();
+                record( System.nanoTime() - start );
+                return result;
+            };
+        }
+    }
+}
@@ -32,6 +32,8 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -41,7 +43,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
  */
 class GetRequest<T>
-        implements RetrievalRequest<T>
+        implements RetrievalRequest<T>, AsyncRequest<T>, BatchableRequest<T>, DeadlineRequest<T>
 {
     private final Class<T> resource;
 
@@ -120,6 +122,31 @@ class GetRequest<T>
         return adapter.callbackExecuteGet( adaptee, remoteRequest, resource, identifier, filler, params, locale );
     }
 
+    @Override
+    public CompletableFuture<T> finishAsync()
+    {
+        return finishAsync( null, withLocale );
+    }
+
+    @Override
+    public CompletableFuture<T> finishAsync( @Nullable Map<String, Object> parameters, @Nullable Locale locale )
+    {
+        return adapter.callbackAsync( () -> finish( parameters, locale ) );
+    }
+
+    @Override
+    public CompletableFuture<T> finishAsync( long timeout, @Nonnull TimeUnit unit )
+    {
+        return adapter.callbackAsync( () -> finish( null, withLocale ), timeout, unit );
+    }
+
+    @Override
+    public CompletableFuture<T> queue( @Nonnull RequestBatch batch )
+    {
+        filler.acceptLanguage( withLocale );
+        return batch.queueGet( remoteRequest, resource, identifier, filler, params, withLocale );
+    }
+
     @Override
     public Request<T> configWith( @Nonnull Properties properties )
     {
@@ -172,6 +199,13 @@ class GetRequest<T>
         return this;
     }
 
+    @Override
+    public Request<T> withDeadline( @Nonnull Deadline deadline )
+    {
+        filler.setDeadline( checkNotNull( deadline, "Deadline cannot be null" ) );
+        return this;
+    }
+
     @Override
     public AuthRequest<T> authBy( @Nonnull String token )
     {
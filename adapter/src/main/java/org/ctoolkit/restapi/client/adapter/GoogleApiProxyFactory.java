@@ -57,6 +57,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -89,10 +92,156 @@ import static org.ctoolkit.restapi.client.ApiCredential.PROPERTY_SERVICE_ACCOUNT
  */
 public abstract class GoogleApiProxyFactory
 {
+    /**
+     * The boolean property to enable hedged GET requests, for example {@code credential.drive.hedge=true}.
+     */
+    public static final String PROPERTY_HEDGE = "hedge";
+
+    /**
+     * The percentile of the observed GET latency after which a hedged request will be sent.
+     */
+    public static final String PROPERTY_HEDGE_PERCENTILE = "hedgePercentile";
+
+    /**
+     * The maximum extra load caused by the hedged requests, in percent of the GET requests.
+     */
+    public static final String PROPERTY_HEDGE_BUDGET = "hedgeBudget";
+
+    /**
+     * The minimum delay in milliseconds before a hedged request will be sent.
+     */
+    public static final String PROPERTY_HEDGE_MIN_DELAY = "hedgeMinDelay";
+
+    public static final String DEFAULT_HEDGE_PERCENTILE = "95";
+
+    public static final String DEFAULT_HEDGE_BUDGET = "5";
+
+    public static final String DEFAULT_HEDGE_MIN_DELAY = "5";
+
+    /**
+     * The boolean property to enable retries of the failed idempotent requests with exponential backoff,
+     * for example {@code credential.drive.retry=true}. The maximum number of retries is configured by
+     * {@link ApiCredential#PROPERTY_NUMBER_OF_RETRIES}.
+     */
+    public static final String PROPERTY_RETRY = "retry";
+
+    /**
+     * The initial backoff interval in milliseconds.
+     */
+    public static final String PROPERTY_RETRY_INITIAL_INTERVAL = "retryInitialInterval";
+
+    /**
+     * The maximum backoff interval in milliseconds, also the longest honored {@code Retry-After}.
+     */
+    public static final String PROPERTY_RETRY_MAX_INTERVAL = "retryMaxInterval";
+
+    /**
+     * The maximum extra load caused by the retries, in percent of the requests.
+     */
+    public static final String PROPERTY_RETRY_BUDGET = "retryBudget";
+
+    public static final String DEFAULT_RETRY_INITIAL_INTERVAL = "500";
+
+    public static final String DEFAULT_RETRY_MAX_INTERVAL = "30000";
+
+    public static final String DEFAULT_RETRY_BUDGET = "10";
+
+    /**
+     * The boolean property to enable the circuit breaker of the API, for example
+     * {@code credential.sheets.circuitBreaker=true}.
+     */
+    public static final String PROPERTY_CIRCUIT_BREAKER = "circuitBreaker";
+
+    /**
+     * The failure rate in percent to open the circuit breaker.
+     */
+    public static final String PROPERTY_CIRCUIT_BREAKER_FAILURE_RATE = "circuitBreakerFailureRate";
+
+    /**
+     * The slow call rate in percent to open the circuit breaker.
+     */
+    public static final String PROPERTY_CIRCUIT_BREAKER_SLOW_CALL_RATE = "circuitBreakerSlowCallRate";
+
+    /**
+     * The duration in milliseconds a call is considered to be slow.
+     */
+    public static final String PROPERTY_CIRCUIT_BREAKER_SLOW_CALL_DURATION = "circuitBreakerSlowCallDuration";
+
+    /**
+     * The number of the recent calls to evaluate the rates from.
+     */
+    public static final String PROPERTY_CIRCUIT_BREAKER_WINDOW = "circuitBreakerWindow";
+
+    /**
+     * The duration in milliseconds the calls fail fast before the probing calls are permitted.
+     */
+    public static final String PROPERTY_CIRCUIT_BREAKER_OPEN_DURATION = "circuitBreakerOpenDuration";
+
+    public static final String DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE = "50";
+
+    public static final String DEFAULT_CIRCUIT_BREAKER_SLOW_CALL_RATE = "80";
+
+    public static final String DEFAULT_CIRCUIT_BREAKER_SLOW_CALL_DURATION = "10000";
+
+    public static final String DEFAULT_CIRCUIT_BREAKER_WINDOW = "50";
+
+    public static final String DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION = "30000";
+
+    /**
+     * The client-side rate limit of the API in requests per minute, for example
+     * {@code credential.sheets.rateLimit=300}. The rate limit is off by default.
+     */
+    public static final String PROPERTY_RATE_LIMIT = "rateLimit";
+
+    /**
+     * The number of requests that might be sent at once, above the evenly spaced rate.
+     */
+    public static final String PROPERTY_RATE_LIMIT_BURST = "rateLimitBurst";
+
+    /**
+     * The maximum time in milliseconds a request waits for the rate limiter, negative to block until permitted,
+     * zero to fail fast.
+     */
+    public static final String PROPERTY_RATE_LIMIT_TIMEOUT = "rateLimitTimeout";
+
+    public static final String DEFAULT_RATE_LIMIT = "0";
+
+    public static final String DEFAULT_RATE_LIMIT_BURST = "10";
+
+    public static final String DEFAULT_RATE_LIMIT_TIMEOUT = "-1";
+
+    /**
+     * The boolean property to enable the adaptive limit of the concurrent remote calls of the API, for example
+     * {@code credential.analytics.concurrencyLimit=true}.
+     */
+    public static final String PROPERTY_CONCURRENCY_LIMIT = "concurrencyLimit";
+
+    /**
+     * The initial limit of the concurrent remote calls.
+     */
+    public static final String PROPERTY_CONCURRENCY_LIMIT_INITIAL = "concurrencyLimitInitial";
+
+    /**
+     * The maximum limit of the concurrent remote calls.
+     */
+    public static final String PROPERTY_CONCURRENCY_LIMIT_MAX = "concurrencyLimitMax";
+
+    public static final String DEFAULT_CONCURRENCY_LIMIT_INITIAL = "20";
+
+    public static final String DEFAULT_CONCURRENCY_LIMIT_MAX = "200";
+
     protected final EventBus eventBus;
 
     private final Map<String, String> credential;
 
+    private final ConcurrentMap<String, Optional<HttpRetryPolicy>> retryPolicies = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Optional<CircuitBreaker>> circuitBreakers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Optional<ApiRateLimiter>> rateLimiters = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Optional<ConcurrencyLimiter>> concurrencyLimiters = new ConcurrentHashMap<>();
+
     private HttpTransport httpTransport;
 
     private JsonFactory jsonFactory;
@@ -315,6 +464,171 @@ public abstract class GoogleApiProxyFactory
         return getInteger( PROPERTY_READ_TIMEOUT, DEFAULT_READ_TIMEOUT, prefix );
     }
 
+    /**
+     * Returns {@code true} if GET requests of given API should be hedged, see {@link #PROPERTY_HEDGE}.
+     * Hedging is off by default.
+     *
+     * @param prefix the prefix used to identify specific credential or null for default
+     * @return true to hedge GET requests
+     */
+    public boolean isHedgeOn( @Nullable String prefix )
+    {
+        return getBoolean( PROPERTY_HEDGE, prefix );
+    }
+
+    /**
+     * Returns the latency percentile after which a hedged GET request will be sent,
+     * see {@link #PROPERTY_HEDGE_PERCENTILE}. If not configured, default will be returned 95.
+     *
+     * @param prefix the prefix used to identify specific credential or null for default
+     * @return the latency percentile in range 1 - 100
+     */
+    public int getHedgePercentile( @Nullable String prefix )
+    {
+        int percentile = getInteger( PROPERTY_HEDGE_PERCENTILE, DEFAULT_HEDGE_PERCENTILE, prefix );
+        checkArgument( percentile > 0 && percentile <= 100, "Percentile out of range 1 - 100: " + percentile );
+        return percentile;
+    }
+
+    /**
+     * Returns the maximum extra load caused by hedged GET requests, see {@link #PROPERTY_HEDGE_BUDGET}.
+     * If not configured, default will be returned 5 percent.
+     *
+     * @param prefix the prefix used to identify specific credential or null for default
+     * @return the extra load in percent
+     */
+    public int getHedgeBudget( @Nullable String prefix )
+    {
+        int budget = getInteger( PROPERTY_HEDGE_BUDGET, DEFAULT_HEDGE_BUDGET, prefix );
+        checkArgument( budget >= 0 && budget <= 100, "Budget out of range 0 - 100: " + budget );
+        return budget;
+    }
+
+    /**
+     * Returns the minimum delay before a hedged GET request will be sent, see {@link #PROPERTY_HEDGE_MIN_DELAY}.
+     * If not configured, default will be returned 5 milliseconds.
+     *
+     * @param prefix the prefix used to identify specific credential or null for default
+     * @return the minimum delay in milliseconds
+     */
+    public int getHedgeMinDelay( @Nullable String prefix )
+    {
+        return getInteger( PROPERTY_HEDGE_MIN_DELAY, DEFAULT_HEDGE_MIN_DELAY, prefix );
+    }
+
+    /**
+     * Returns the retry policy shared by all requests of given API, see {@link #PROPERTY_RETRY}.
+     * Retries are off by default.
+     *
+     * @param prefix the prefix used to identify specific credential or null for default
+     * @return the retry policy or {@code null} if retries are off
+     */
+    @Nullable
+    public final HttpRetryPolicy getRetryPolicy( @Nullable String prefix )
+    {
+        String key = Strings.isNullOrEmpty( prefix ) ? DEFAULT_CREDENTIAL_PREFIX : prefix;
+        return retryPolicies.computeIfAbsent( key, k -> {
+            if ( !getBoolean( PROPERTY_RETRY, k ) )
+            {
+                return Optional.empty();
+            }
+
+            int initialInterval = getInteger( PROPERTY_RETRY_INITIAL_INTERVAL, DEFAULT_RETRY_INITIAL_INTERVAL, k );
+            int maxInterval = getInteger( PROPERTY_RETRY_MAX_INTERVAL, DEFAULT_RETRY_MAX_INTERVAL, k );
+            int budget = getInteger( PROPERTY_RETRY_BUDGET, DEFAULT_RETRY_BUDGET, k );
+
+            return Optional.of( new HttpRetryPolicy( initialInterval, maxInterval, budget ) );
+        } ).orElse( null );
+    }
+
+    /**
+     * Returns the circuit breaker shared by all remote calls of given API, see {@link #PROPERTY_CIRCUIT_BREAKER}.
+     * The circuit breaker is off by default.
+     *
+     * @param prefix the prefix used to identify specific credential or null for default
+     * @return the circuit breaker or {@code null} if off
+     */
+    @Nullable
+    public final CircuitBreaker getCircuitBreaker( @Nullable String prefix )
+    {
+        String key = Strings.isNullOrEmpty( prefix ) ? DEFAULT_CREDENTIAL_PREFIX : prefix;
+        return circuitBreakers.computeIfAbsent( key, k -> {
+            if ( !getBoolean( PROPERTY_CIRCUIT_BREAKER, k ) )
+            {
+                return Optional.empty();
+            }
+
+            return Optional.of( new CircuitBreaker( k,
+                    getInteger( PROPERTY_CIRCUIT_BREAKER_FAILURE_RATE, DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE, k ),
+                    getInteger( PROPERTY_CIRCUIT_BREAKER_SLOW_CALL_RATE, DEFAULT_CIRCUIT_BREAKER_SLOW_CALL_RATE, k ),
+                    getInteger( PROPERTY_CIRCUIT_BREAKER_SLOW_CALL_DURATION,
+                            DEFAULT_CIRCUIT_BREAKER_SLOW_CALL_DURATION, k ),
+                    getInteger( PROPERTY_CIRCUIT_BREAKER_WINDOW, DEFAULT_CIRCUIT_BREAKER_WINDOW, k ),
+                    getInteger( PROPERTY_CIRCUIT_BREAKER_OPEN_DURATION, DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION, k ),
+                    eventBus ) );
+        } ).orElse( null );
+    }
+
+    /**
+     * Returns the client-side rate limit of given API in requests per minute, see {@link #PROPERTY_RATE_LIMIT}.
+     *
+     * @param prefix the prefix used to identify specific credential or null for default
+     * @return the number of requests per minute, zero if there is no limit
+     */
+    public int getRateLimit( @Nullable String prefix )
+    {
+        int rateLimit = getInteger( PROPERTY_RATE_LIMIT, DEFAULT_RATE_LIMIT, prefix );
+        checkArgument( rateLimit >= 0, "Rate limit cannot be negative: " + rateLimit );
+        return rateLimit;
+    }
+
+    /**
+     * Returns the rate limiter shared by all requests of given API, see {@link #PROPERTY_RATE_LIMIT}.
+     *
+     * @param prefix the prefix used to identify specific credential or null for default
+     * @return the rate limiter or {@code null} if there is no limit
+     */
+    @Nullable
+    public final ApiRateLimiter getRateLimiter( @Nullable String prefix )
+    {
+        String key = Strings.isNullOrEmpty( prefix ) ? DEFAULT_CREDENTIAL_PREFIX : prefix;
+        return rateLimiters.computeIfAbsent( key, k -> {
+            int rateLimit = getRateLimit( k );
+            if ( rateLimit == 0 )
+            {
+                return Optional.empty();
+            }
+
+            return Optional.of( new ApiRateLimiter( k,
+                    rateLimit,
+                    getInteger( PROPERTY_RATE_LIMIT_BURST, DEFAULT_RATE_LIMIT_BURST, k ),
+                    getInteger( PROPERTY_RATE_LIMIT_TIMEOUT, DEFAULT_RATE_LIMIT_TIMEOUT, k ) ) );
+        } ).orElse( null );
+    }
+
+    /**
+     * Returns the adaptive limiter of the concurrent remote calls of given API,
+     * see {@link #PROPERTY_CONCURRENCY_LIMIT}. The limiter is off by default.
+     *
+     * @param prefix the prefix used to identify specific credential or null for default
+     * @return the concurrency limiter or {@code null} if off
+     */
+    @Nullable
+    public final ConcurrencyLimiter getConcurrencyLimiter( @Nullable String prefix )
+    {
+        String key = Strings.isNullOrEmpty( prefix ) ? DEFAULT_CREDENTIAL_PREFIX : prefix;
+        return concurrencyLimiters.computeIfAbsent( key, k -> {
+            if ( !getBoolean( PROPERTY_CONCURRENCY_LIMIT, k ) )
+            {
+                return Optional.empty();
+            }
+
+            return Optional.of( new ConcurrencyLimiter( k,
+                    getInteger( PROPERTY_CONCURRENCY_LIMIT_INITIAL, DEFAULT_CONCURRENCY_LIMIT_INITIAL, k ),
+                    getInteger( PROPERTY_CONCURRENCY_LIMIT_MAX, DEFAULT_CONCURRENCY_LIMIT_MAX, k ) ) );
+        } ).orElse( null );
+    }
+
     /**
      * Returns the integer value for given property.
      *
@@ -565,6 +879,42 @@ public abstract class GoogleApiProxyFactory
         request.setReadTimeout( readTimeout );
     }
 
+    /**
+     * Configure HTTP request right before execution, including the retry policy and the rate limiter of the API
+     * if configured and the deadline of the current request. Expects the request's interceptors being already set,
+     * they are kept.
+     *
+     * @param request         the HTTP request
+     * @param numberOfRetries the number of configured retries
+     * @param readTimeout     the request read timeout in milliseconds
+     * @param prefix          the prefix used to identify specific credential or null for default
+     * @see #getRetryPolicy(String)
+     * @see #getRateLimiter(String)
+     * @see Deadline
+     */
+    protected final void configureHttpRequest( @Nonnull HttpRequest request,
+                                               int numberOfRetries,
+                                               int readTimeout,
+                                               @Nullable String prefix )
+    {
+        configureHttpRequest( request, numberOfRetries, readTimeout );
+
+        HttpRetryPolicy retryPolicy = getRetryPolicy( prefix );
+        if ( retryPolicy != null )
+        {
+            retryPolicy.install( request );
+        }
+
+        // the deadline applies after the rate limiter
+        Deadline.installCurrent( request );
+
+        ApiRateLimiter rateLimiter = getRateLimiter( prefix );
+        if ( rateLimiter != null )
+        {
+            rateLimiter.install( request );
+        }
+    }
+
     private class RequestConfig
             implements HttpRequestInitializer
     {
@@ -572,6 +922,8 @@ public abstract class GoogleApiProxyFactory
 
         private final int readTimeout;
 
+        private final String prefix;
+
         private final HttpResponseInterceptor responseInterceptor;
 
         HttpExecuteInterceptor interceptor = new HttpExecuteInterceptor()
@@ -587,18 +939,20 @@ public abstract class GoogleApiProxyFactory
         {
             this.numberOfRetries = getNumberOfRetries( prefix );
             this.readTimeout = getReadTimeout( prefix );
+            this.prefix = prefix;
             this.responseInterceptor = responseInterceptor;
         }
 
         public void initialize( HttpRequest request )
         {
-            configureHttpRequest( request, numberOfRetries, readTimeout );
             request.setInterceptor( interceptor );
 
             if ( responseInterceptor != null )
             {
                 request.setResponseInterceptor( responseInterceptor );
             }
+
+            configureHttpRequest( request, numberOfRetries, readTimeout, prefix );
         }
     }
 
@@ -612,10 +966,15 @@ public abstract class GoogleApiProxyFactory
 
         private final int readTimeout;
 
+        private final String prefix;
+
         private ConfiguredGoogleCredential( String prefix )
         {
             this.numberOfRetries = getNumberOfRetries( prefix );
             this.readTimeout = getReadTimeout( prefix );
+            this.prefix = prefix;
+            // the token refresh within the deadline of the current request
+            setRequestInitializer( Deadline::installCurrent );
         }
 
         @Override
@@ -639,7 +998,7 @@ public abstract class GoogleApiProxyFactory
                 public void initialize( HttpRequest request ) throws IOException
                 {
                     super.initialize( request );
-                    configureHttpRequest( request, numberOfRetries, readTimeout );
+                    configureHttpRequest( request, numberOfRetries, readTimeout, prefix );
                 }
             };
         }
@@ -27,6 +27,9 @@ import org.ctoolkit.restapi.client.provider.TokenProvider;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
@@ -46,6 +49,8 @@ class GoogleRequestHeaders
 
     private Object onBehalfOf;
 
+    private Deadline deadline;
+
     GoogleRequestHeaders( Object remoteRequest )
     {
         if ( remoteRequest instanceof AbstractGoogleClientRequest )
@@ -164,6 +169,16 @@ class GoogleRequestHeaders
         headers.put( header, value );
     }
 
+    /**
+     * Makes this request conditional, the remote resource is not returned if its ETag still matches.
+     *
+     * @param etag the ETag of the cached resource
+     */
+    void ifNoneMatch( @Nonnull String etag )
+    {
+        headers.setIfNoneMatch( etag );
+    }
+
     void fillInCredential( @Nullable Map<String, Object> params )
     {
         RequestCredential credential = new RequestCredential();
@@ -180,4 +195,54 @@ class GoogleRequestHeaders
     {
         return headers;
     }
+
+    /**
+     * Sets the deadline of this request.
+     *
+     * @param deadline the deadline to be set
+     */
+    void setDeadline( @Nonnull Deadline deadline )
+    {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Returns the deadline of this request.
+     *
+     * @return the deadline or {@code null} if none
+     */
+    @Nullable
+    Deadline getDeadline()
+    {
+        return deadline;
+    }
+
+    /**
+     * Returns the headers of the given remote request populated with the headers and the authorization
+     * configuration of this request, without the deadline.
+     *
+     * @param remoteRequest the remote request to be populated
+     * @return the headers of the remote request
+     */
+    GoogleRequestHeaders copyTo( @Nonnull Object remoteRequest )
+    {
+        GoogleRequestHeaders copy = new GoogleRequestHeaders( remoteRequest );
+        copy.headers.putAll( headers );
+        copy.authScheme = authScheme;
+        copy.provider = provider;
+        copy.onBehalfOf = onBehalfOf;
+        return copy;
+    }
+
+    /**
+     * Returns the snapshot of the request's authorization configuration and headers,
+     * equal for the requests that would be sent with the same authorization and headers.
+     *
+     * @return the identity of the request
+     */
+    List<Object> identity()
+    {
+        Object token = provider instanceof FinalTokenProvider ? ( ( FinalTokenProvider ) provider ).token() : provider;
+        return Arrays.asList( token, authScheme, onBehalfOf, new HashMap<>( headers ) );
+    }
 }
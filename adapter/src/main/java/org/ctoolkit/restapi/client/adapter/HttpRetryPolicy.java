@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.api.client.http.HttpIOExceptionHandler;
+import com.google.api.client.http.HttpMethods;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpUnsuccessfulResponseHandler;
+import com.google.api.client.util.Sleeper;
+import com.google.common.base.Strings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The retry policy of a single API, shared by all of its HTTP requests.
+ * <p>
+ * The failed idempotent request (GET, HEAD, PUT, DELETE) will be retried up to
+ * {@link GoogleApiProxyFactory#getNumberOfRetries(String)} times if it has failed with a transient
+ * status code (see {@link RestFacadeAdapter#isTransient(int)}) or an I/O exception.
+ * The delay before the retry is the {@code Retry-After} response header if present, otherwise exponential
+ * backoff with full jitter, a random value between zero and {@code initialInterval * 2^attempt}
+ * capped by {@code maxInterval}. If the server asks for a longer delay than {@code maxInterval}, the request
+ * won't be retried at all.
+ * <p>
+ * The retries are limited by the {@link LoadBudget}, thus when the API is degraded the retries never
+ * exceed the configured extra load.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ * @see GoogleApiProxyFactory#getRetryPolicy(String)
+ */
+public final class HttpRetryPolicy
+{
+    private static final Logger logger = LoggerFactory.getLogger( HttpRetryPolicy.class );
+
+    private static final String RETRY_AFTER = "Retry-After";
+
+    /**
+     * The maximum number of the retries that might be sent in a burst.
+     */
+    private static final int MAX_BURST = 10;
+
+    private final long initialInterval;
+
+    private final long maxInterval;
+
+    private final LoadBudget budget;
+
+    private final Sleeper sleeper;
+
+    private final LongAdder retries = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param initialInterval the initial backoff interval in milliseconds
+     * @param maxInterval     the maximum backoff interval in milliseconds
+     * @param budget          the maximum extra load caused by the retries, in percent of the requests
+     */
+    HttpRetryPolicy( long initialInterval, long maxInterval, int budget )
+    {
+        this( initialInterval, maxInterval, budget, Sleeper.DEFAULT );
+    }
+
+    HttpRetryPolicy( long initialInterval, long maxInterval, int budget, @Nonnull Sleeper sleeper )
+    {
+        checkArgument( initialInterval > 0, "Initial interval must be positive" );
+        checkArgument( maxInterval >= initialInterval, "Max interval cannot be lower than initial interval" );
+
+        this.initialInterval = initialInterval;
+        this.maxInterval = maxInterval;
+        this.budget = new LoadBudget( budget, MAX_BURST );
+        this.sleeper = checkNotNull( sleeper );
+    }
+
+    /**
+     * Parses the value of the {@code Retry-After} header, either delay in seconds or HTTP date.
+     *
+     * @param value the header value
+     * @param now   the current time in milliseconds
+     * @return the delay in milliseconds or {@code -1} if missing or invalid
+     */
+    static long retryAfter( @Nullable String value, long now )
+    {
+        if ( Strings.isNullOrEmpty( value ) )
+        {
+            return -1;
+        }
+
+        try
+        {
+            return TimeUnit.SECONDS.toMillis( Math.max( Long.parseLong( value.trim() ), 0 ) );
+        }
+        catch ( NumberFormatException ignored )
+        {
+            // not a number, try a date
+        }
+
+        try
+        {
+            ZonedDateTime date = ZonedDateTime.parse( value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME );
+            return Math.max( date.toInstant().toEpochMilli() - now, 0 );
+        }
+        catch ( DateTimeParseException e )
+        {
+            logger.warn( "Invalid " + RETRY_AFTER + " header: " + value );
+            return -1;
+        }
+    }
+
+    private static boolean isIdempotent( HttpRequest request )
+    {
+        String method = request.getRequestMethod();
+        return HttpMethods.GET.equals( method )
+                || HttpMethods.HEAD.equals( method )
+                || HttpMethods.PUT.equals( method )
+                || HttpMethods.DELETE.equals( method );
+    }
+
+    /**
+     * Returns the number of the retries sent.
+     *
+     * @return the number of the retries
+     */
+    public long getRetries()
+    {
+        return retries.sum();
+    }
+
+    /**
+     * Returns the number of the retries not sent because the retry budget has been exhausted.
+     *
+     * @return the number of the rejected retries
+     */
+    public long getRejected()
+    {
+        return rejected.sum();
+    }
+
+    /**
+     * Installs the retry handler to given request. The already configured unsuccessful response handler
+     * (for example the credential's one refreshing the token) is being consulted first.
+     *
+     * @param request the HTTP request to be configured
+     */
+    void install( @Nonnull HttpRequest request )
+    {
+        budget.deposit();
+
+        Handler handler = new Handler( request.getUnsuccessfulResponseHandler() );
+        request.setUnsuccessfulResponseHandler( handler );
+        request.setIOExceptionHandler( handler );
+    }
+
+    /**
+     * Returns the delay before the given retry, exponential backoff with full jitter.
+     *
+     * @param attempt the zero based retry attempt
+     * @return the delay in milliseconds
+     */
+    long backoff( int attempt )
+    {
+        long ceiling = initialInterval << Math.min( attempt, 30 );
+        if ( ceiling <= 0 || ceiling > maxInterval )
+        {
+            ceiling = maxInterval;
+        }
+        return ThreadLocalRandom.current().nextLong( ceiling + 1 );
+    }
+
+    /**
+     * Waits for given delay if the request might be retried.
+     *
+     * @return true if the request should be retried
+     */
+    private boolean retry( HttpRequest request, boolean supportsRetry, long delay, int attempt )
+    {
+        if ( !supportsRetry || !isIdempotent( request ) )
+        {
+            return false;
+        }
+
+        if ( delay > maxInterval )
+        {
+            logger.info( "Not retrying " + request.getUrl() + ", the server asks to wait " + delay + "ms" );
+            return false;
+        }
+
+        long wait = delay < 0 ? backoff( attempt ) : delay;
+        Deadline deadline = Deadline.current();
+        if ( deadline != null && wait >= deadline.remaining( TimeUnit.MILLISECONDS ) )
+        {
+            logger.info( "Not retrying " + request.getUrl() + ", the deadline would pass meanwhile" );
+            return false;
+        }
+
+        if ( !budget.withdraw() )
+        {
+            rejected.increment();
+            logger.info( "Not retrying " + request.getUrl() + ", the retry budget has been exhausted" );
+            return false;
+        }
+
+        try
+        {
+            sleeper.sleep( wait );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        retries.increment();
+        return true;
+    }
+
+    /**
+     * The retry handler of a single request.
+     */
+    private class Handler
+            implements HttpUnsuccessfulResponseHandler, HttpIOExceptionHandler
+    {
+        private final HttpUnsuccessfulResponseHandler delegate;
+
+        private int attempt;
+
+        Handler( @Nullable HttpUnsuccessfulResponseHandler delegate )
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean handleResponse( HttpRequest request, HttpResponse response, boolean supportsRetry )
+                throws IOException
+        {
+            if ( delegate != null && delegate.handleResponse( request, response, supportsRetry ) )
+            {
+                return true;
+            }
+
+            if ( !RestFacadeAdapter.isTransient( response.getStatusCode() ) )
+            {
+                return false;
+            }
+
+            String value = response.getHeaders().getFirstHeaderStringValue( RETRY_AFTER );
+            return retry( request, supportsRetry, retryAfter( value, System.currentTimeMillis() ), attempt++ );
+        }
+
+        @Override
+        public boolean handleIOException( HttpRequest request, boolean supportsRetry )
+        {
+            return retry( request, supportsRetry, -1, attempt++ );
+        }
+    }
+}
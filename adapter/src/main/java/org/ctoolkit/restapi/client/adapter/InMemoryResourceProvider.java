@@ -0,0 +1,802 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.ctoolkit.restapi.client.Identifier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * The bounded in-memory local resource provider keyed by the root identifier, parameters and locale.
+ * <p>
+ * The eviction policy is W-TinyLFU: a new resource enters the admission window (1% of the maximum),
+ * once it leaves the window it competes with the least recently used resource of the main space
+ * and only the one accessed more frequently (as estimated by {@link FrequencySketch}) stays.
+ * The main space is segmented into the probation and the protected (80%) part, a resource accessed again
+ * while on probation is being promoted to the protected part.
+ * <p>
+ * Reads are lock-free, the accesses are recorded into a lossy buffer replayed under the lock
+ * by the next write or once the lock is free. The resource expires after write, within the max staleness
+ * it might be served stale by {@link #getCached}, see {@link StaleResourceProvider}. The expired resource
+ * with an ETag is kept until evicted by size, in order to be revalidated by the conditional GET.
+ * <p>
+ * The updated resource is written through by default, see {@link EvictableResourceProvider}.
+ * <p>
+ * An instance serves single resource type, to enable it bind it per type in Guice:
+ * <pre>
+ * bind( new TypeLiteral&lt;LocalResourceProvider&lt;Foo&gt;&gt;()
+ * {
+ * } ).toInstance( new InMemoryResourceProvider.Builder&lt;Foo&gt;()
+ *         .maximumSize( 10000 )
+ *         .expireAfterWrite( Duration.ofMinutes( 5 ) )
+ *         .build() );
+ * </pre>
+ *
+ * @param <T> the type of the resource
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class InMemoryResourceProvider<T>
+        implements StaleResourceProvider<T>, EvictableResourceProvider
+{
+    private static final int READ_BUFFER_SIZE = 128;
+
+    private static final int READ_DRAIN_THRESHOLD = 16;
+
+    private static final int WINDOW = 0;
+
+    private static final int PROBATION = 1;
+
+    private static final int PROTECTED = 2;
+
+    private final ConcurrentMap<Key, Node<T>> data = new ConcurrentHashMap<>();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final AtomicReferenceArray<Node<T>> readBuffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    private final AccessOrder<T> window = new AccessOrder<>();
+
+    private final AccessOrder<T> probation = new AccessOrder<>();
+
+    private final AccessOrder<T> protectedSpace = new AccessOrder<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final FrequencySketch sketch;
+
+    private final long maximum;
+
+    private final long windowMaximum;
+
+    private final long protectedMaximum;
+
+    private final ToIntFunction<? super T> weigher;
+
+    private final long expireAfterWriteNanos;
+
+    private final Duration maxStaleness;
+
+    private final long maxStalenessNanos;
+
+    private final LongSupplier ticker;
+
+    private final Coherence coherence;
+
+    private long windowWeight;
+
+    private long protectedWeight;
+
+    private long weightedSize;
+
+    protected InMemoryResourceProvider( @Nonnull Builder<T> builder )
+    {
+        checkState( builder.maximum >= 0, "Maximum size or weight must be set" );
+
+        this.maximum = builder.maximum;
+        this.windowMaximum = Math.max( 1, maximum / 100 );
+        this.protectedMaximum = Math.max( 0, maximum - windowMaximum ) * 80 / 100;
+        this.weigher = builder.weigher;
+        this.expireAfterWriteNanos = builder.expireAfterWrite == null
+                ? Long.MAX_VALUE
+                : builder.expireAfterWrite.toNanos();
+        this.maxStaleness = builder.maxStaleness;
+        this.maxStalenessNanos = builder.maxStaleness.toNanos();
+        this.ticker = builder.ticker;
+        this.coherence = builder.coherence;
+        // bounded by weight, the number of resources is not known up front, the sketch grows as being filled
+        this.sketch = new FrequencySketch( weigher == null ? maximum : 0 );
+    }
+
+    @Override
+    public T get( @Nonnull Identifier identifier,
+                  @Nullable Map<String, Object> params,
+                  @Nullable Locale locale )
+    {
+        Node<T> node = data.get( new Key( identifier, params, locale ) );
+        if ( node != null && node.staleNanos( ticker.getAsLong() ) < 0 )
+        {
+            afterRead( node );
+            hits.increment();
+            return node.value;
+        }
+
+        if ( node != null )
+        {
+            expired( node );
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    public CachedResource<T> getCached( @Nonnull Identifier identifier,
+                                        @Nullable Map<String, Object> params,
+                                        @Nullable Locale locale )
+    {
+        Node<T> node = data.get( new Key( identifier, params, locale ) );
+        if ( node != null )
+        {
+            long staleNanos = node.staleNanos( ticker.getAsLong() );
+            if ( staleNanos < maxStalenessNanos )
+            {
+                afterRead( node );
+                hits.increment();
+                return staleNanos < 0
+                        ? CachedResource.fresh( node.value, node.etag )
+                        : CachedResource.stale( node.value, Duration.ofNanos( staleNanos ), node.etag );
+            }
+            if ( node.etag != null )
+            {
+                // not to be served, but to be revalidated
+                misses.increment();
+                return CachedResource.stale( node.value, Duration.ofNanos( staleNanos ), node.etag );
+            }
+            expired( node );
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public Duration getMaxStaleness()
+    {
+        return maxStaleness;
+    }
+
+    /**
+     * Caches the resource, evicting the least valuable resources if the maximum has been exceeded.
+     *
+     * @param instance   the resource to be cached
+     * @param identifier the unique identifier of the resource
+     * @param params     the optional resource params
+     * @param locale     the language the client has configured to prefer in results if applicable
+     * @param lastFor    the optional number of seconds the resource expires after, overrides the default
+     */
+    @Override
+    public void persist( @Nonnull T instance,
+                         @Nonnull Identifier identifier,
+                         @Nullable Map<String, Object> params,
+                         @Nullable Locale locale,
+                         @Nullable Long lastFor )
+    {
+        put( instance, identifier, params, locale, lastFor, null );
+    }
+
+    @Override
+    public void persist( @Nonnull T instance,
+                         @Nonnull Identifier identifier,
+                         @Nullable Map<String, Object> params,
+                         @Nullable Locale locale,
+                         @Nullable Long lastFor,
+                         @Nonnull String etag )
+    {
+        put( instance, identifier, params, locale, lastFor, checkNotNull( etag ) );
+    }
+
+    private void put( T instance,
+                      Identifier identifier,
+                      Map<String, Object> params,
+                      Locale locale,
+                      Long lastFor,
+                      String etag )
+    {
+        int weight = weigher == null ? 1 : weigher.applyAsInt( checkNotNull( instance ) );
+        checkArgument( weight >= 0, "Weight cannot be negative" );
+
+        long expireAfter = lastFor == null ? expireAfterWriteNanos : TimeUnit.SECONDS.toNanos( lastFor );
+        Node<T> node = new Node<>( new Key( identifier, params, locale ), checkNotNull( instance ), etag, weight,
+                ticker.getAsLong(), expireAfter );
+
+        evictionLock.lock();
+        try
+        {
+            drainReads();
+
+            Node<T> old = weight > maximum ? data.remove( node.key ) : data.put( node.key, node );
+            if ( old != null )
+            {
+                unlink( old );
+            }
+            if ( weight > maximum )
+            {
+                // never fits
+                return;
+            }
+
+            if ( weigher != null )
+            {
+                sketch.ensureCapacity( data.size() );
+            }
+            sketch.increment( node.key );
+            node.queue = WINDOW;
+            window.add( node );
+            windowWeight += weight;
+            weightedSize += weight;
+
+            evict();
+        }
+        finally
+        {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void evict( @Nonnull Identifier identifier )
+    {
+        checkNotNull( identifier );
+        removeIf( key -> key.identifier.equals( identifier ) );
+    }
+
+    /**
+     * The cached resources are keyed by the identifier of the resource itself, thus there is no list to evict.
+     */
+    @Override
+    public void evictLists( @Nullable Identifier identifier )
+    {
+    }
+
+    @Nonnull
+    @Override
+    public Coherence getCoherence()
+    {
+        return coherence;
+    }
+
+    /**
+     * Removes all cached resources.
+     */
+    public void invalidateAll()
+    {
+        removeIf( key -> true );
+    }
+
+    private void removeIf( Predicate<Key> filter )
+    {
+        evictionLock.lock();
+        try
+        {
+            drainReads();
+
+            for ( Node<T> node : data.values() )
+            {
+                if ( filter.test( node.key ) && data.remove( node.key, node ) )
+                {
+                    unlink( node );
+                }
+            }
+        }
+        finally
+        {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of lookups that have returned a cached resource, including the stale one.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount()
+    {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that have not found a resource or found an expired one.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount()
+    {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of resources evicted because the maximum size or weight has been exceeded.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount()
+    {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of cached resources, including the expired ones not yet removed.
+     *
+     * @return the number of cached resources
+     */
+    public long size()
+    {
+        return data.size();
+    }
+
+    /**
+     * Returns the total weight of the cached resources, equal to the size if no weigher has been set.
+     *
+     * @return the weighted size
+     */
+    public long weightedSize()
+    {
+        evictionLock.lock();
+        try
+        {
+            return weightedSize;
+        }
+        finally
+        {
+            evictionLock.unlock();
+        }
+    }
+
+    private void afterRead( Node<T> node )
+    {
+        int read = reads.getAndIncrement();
+        readBuffer.lazySet( read & ( READ_BUFFER_SIZE - 1 ), node );
+
+        if ( ( read & ( READ_DRAIN_THRESHOLD - 1 ) ) == 0 && evictionLock.tryLock() )
+        {
+            try
+            {
+                drainReads();
+            }
+            finally
+            {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes the resource expired beyond the max staleness, unless it has an ETag to be revalidated.
+     */
+    private void expired( Node<T> node )
+    {
+        if ( node.etag == null
+                && node.staleNanos( ticker.getAsLong() ) >= maxStalenessNanos
+                && data.remove( node.key, node ) )
+        {
+            evictionLock.lock();
+            try
+            {
+                unlink( node );
+            }
+            finally
+            {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReads()
+    {
+        for ( int i = 0; i < READ_BUFFER_SIZE; i++ )
+        {
+            Node<T> node = readBuffer.getAndSet( i, null );
+            if ( node != null )
+            {
+                onAccess( node );
+            }
+        }
+    }
+
+    private void onAccess( Node<T> node )
+    {
+        sketch.increment( node.key );
+        if ( !node.alive )
+        {
+            return;
+        }
+
+        if ( node.queue == WINDOW )
+        {
+            window.moveToTail( node );
+        }
+        else if ( node.queue == PROTECTED )
+        {
+            protectedSpace.moveToTail( node );
+        }
+        else
+        {
+            // accessed again while on probation
+            probation.remove( node );
+            node.queue = PROTECTED;
+            protectedSpace.add( node );
+            protectedWeight += node.weight;
+
+            while ( protectedWeight > protectedMaximum )
+            {
+                Node<T> demoted = protectedSpace.first();
+                protectedSpace.remove( demoted );
+                protectedWeight -= demoted.weight;
+                demoted.queue = PROBATION;
+                probation.add( demoted );
+            }
+        }
+    }
+
+    private void evict()
+    {
+        // the window's overflow becomes the candidates for admission to the main space
+        while ( windowWeight > windowMaximum )
+        {
+            Node<T> candidate = window.first();
+            window.remove( candidate );
+            windowWeight -= candidate.weight;
+            candidate.queue = PROBATION;
+            probation.add( candidate );
+        }
+
+        while ( weightedSize > maximum )
+        {
+            Node<T> victim = probation.first();
+            if ( victim == null )
+            {
+                victim = protectedSpace.first() == null ? window.first() : protectedSpace.first();
+            }
+            else
+            {
+                // the most recent candidate stays only if accessed more frequently than the victim
+                Node<T> candidate = probation.last();
+                if ( candidate != victim && sketch.frequency( candidate.key ) <= sketch.frequency( victim.key ) )
+                {
+                    victim = candidate;
+                }
+            }
+
+            data.remove( victim.key, victim );
+            unlink( victim );
+            evictions.increment();
+        }
+    }
+
+    private void unlink( Node<T> node )
+    {
+        if ( !node.alive )
+        {
+            return;
+        }
+        node.alive = false;
+        weightedSize -= node.weight;
+
+        if ( node.queue == WINDOW )
+        {
+            window.remove( node );
+            windowWeight -= node.weight;
+        }
+        else if ( node.queue == PROTECTED )
+        {
+            protectedSpace.remove( node );
+            protectedWeight -= node.weight;
+        }
+        else
+        {
+            probation.remove( node );
+        }
+    }
+
+    /**
+     * The builder of the {@link InMemoryResourceProvider}, either the maximum size or weight is mandatory.
+     *
+     * @param <T> the type of the resource
+     */
+    public static class Builder<T>
+    {
+        private long maximum = -1;
+
+        private ToIntFunction<? super T> weigher;
+
+        private Duration expireAfterWrite;
+
+        private Duration maxStaleness = Duration.ZERO;
+
+        private LongSupplier ticker = System::nanoTime;
+
+        private Coherence coherence = Coherence.WRITE_THROUGH;
+
+        /**
+         * Sets the maximum number of the cached resources.
+         *
+         * @param maximumSize the maximum size
+         * @return this builder
+         */
+        public Builder<T> maximumSize( long maximumSize )
+        {
+            checkState( maximum < 0, "Maximum has already been set" );
+            checkArgument( maximumSize >= 0, "Maximum size cannot be negative" );
+            this.maximum = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum total weight of the cached resources.
+         *
+         * @param maximumWeight the maximum weight
+         * @param weigher       the function to compute the weight of a resource
+         * @return this builder
+         */
+        public Builder<T> maximumWeight( long maximumWeight, @Nonnull ToIntFunction<? super T> weigher )
+        {
+            checkState( maximum < 0, "Maximum has already been set" );
+            checkArgument( maximumWeight >= 0, "Maximum weight cannot be negative" );
+            this.maximum = maximumWeight;
+            this.weigher = checkNotNull( weigher, "Weigher cannot be null" );
+            return this;
+        }
+
+        /**
+         * Sets the time the resource expires after once cached, unless overridden by the persist's last for.
+         *
+         * @param duration the time to live
+         * @return this builder
+         */
+        public Builder<T> expireAfterWrite( @Nonnull Duration duration )
+        {
+            checkArgument( !checkNotNull( duration ).isNegative(), "Duration cannot be negative" );
+            this.expireAfterWrite = duration;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time the expired resource might be served stale, while refreshed in background.
+         *
+         * @param maxStaleness the max staleness
+         * @return this builder
+         */
+        public Builder<T> staleWhileRevalidate( @Nonnull Duration maxStaleness )
+        {
+            checkArgument( !checkNotNull( maxStaleness ).isNegative(), "Max staleness cannot be negative" );
+            this.maxStaleness = maxStaleness;
+            return this;
+        }
+
+        /**
+         * Sets how the cached resources are kept coherent after a successful write, defaults to
+         * {@link Coherence#WRITE_THROUGH}.
+         *
+         * @param coherence the coherence policy
+         * @return this builder
+         */
+        public Builder<T> coherence( @Nonnull Coherence coherence )
+        {
+            this.coherence = checkNotNull( coherence, "Coherence cannot be null" );
+            return this;
+        }
+
+        Builder<T> ticker( @Nonnull LongSupplier ticker )
+        {
+            this.ticker = checkNotNull( ticker );
+            return this;
+        }
+
+        public InMemoryResourceProvider<T> build()
+        {
+            return new InMemoryResourceProvider<>( this );
+        }
+    }
+
+    /**
+     * The cached resource and its position within the access ordered space, guarded by the eviction lock.
+     */
+    private static final class Node<T>
+    {
+        private final Key key;
+
+        private final T value;
+
+        private final String etag;
+
+        private final int weight;
+
+        private final long writeTime;
+
+        private final long expireAfter;
+
+        private int queue;
+
+        private boolean alive = true;
+
+        private Node<T> previous;
+
+        private Node<T> next;
+
+        Node( Key key, T value, String etag, int weight, long writeTime, long expireAfter )
+        {
+            this.key = key;
+            this.value = value;
+            this.etag = etag;
+            this.weight = weight;
+            this.writeTime = writeTime;
+            this.expireAfter = expireAfter;
+        }
+
+        /**
+         * Returns the time elapsed since the resource has expired, negative if not expired yet.
+         */
+        long staleNanos( long now )
+        {
+            long age = Math.max( 0, now - writeTime );
+            return age < expireAfter ? -1 : age - expireAfter;
+        }
+    }
+
+    /**
+     * The doubly linked list of the nodes ordered from the least to the most recently used.
+     */
+    private static final class AccessOrder<T>
+    {
+        private Node<T> head;
+
+        private Node<T> tail;
+
+        Node<T> first()
+        {
+            return head;
+        }
+
+        Node<T> last()
+        {
+            return tail;
+        }
+
+        void add( Node<T> node )
+        {
+            node.previous = tail;
+            node.next = null;
+            if ( tail == null )
+            {
+                head = node;
+            }
+            else
+            {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        void remove( Node<T> node )
+        {
+            if ( node.previous == null )
+            {
+                head = node.next;
+            }
+            else
+            {
+                node.previous.next = node.next;
+            }
+
+            if ( node.next == null )
+            {
+                tail = node.previous;
+            }
+            else
+            {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+        }
+
+        void moveToTail( Node<T> node )
+        {
+            if ( node != tail )
+            {
+                remove( node );
+                add( node );
+            }
+        }
+    }
+
+    /**
+     * The identity of the cached resource: root identifier, parameters and locale.
+     */
+    private static final class Key
+    {
+        private final Identifier identifier;
+
+        private final Map<String, Object> parameters;
+
+        private final Locale locale;
+
+        private final int hash;
+
+        Key( @Nonnull Identifier identifier, @Nullable Map<String, Object> parameters, @Nullable Locale locale )
+        {
+            this.identifier = checkNotNull( identifier, "Identifier cannot be null" );
+            this.parameters = parameters == null || parameters.isEmpty()
+                    ? Collections.emptyMap()
+                    : new HashMap<>( parameters );
+            this.locale = locale;
+            this.hash = Objects.hash( identifier, this.parameters, locale );
+        }
+
+        @Override
+        public boolean equals( Object o )
+        {
+            if ( this == o )
+            {
+                return true;
+            }
+            if ( !( o instanceof Key ) )
+            {
+                return false;
+            }
+            Key key = ( Key ) o;
+            return hash == key.hash
+                    && identifier.equals( key.identifier )
+                    && parameters.equals( key.parameters )
+                    && Objects.equals( locale, key.locale );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+}
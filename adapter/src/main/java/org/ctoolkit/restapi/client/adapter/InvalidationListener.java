@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.ctoolkit.restapi.client.Identifier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The listener of the local cache evictions made by {@link RestFacadeAdapter} once a resource has been
+ * successfully inserted, updated or deleted, see {@link EvictableResourceProvider}. Once bound (optional),
+ * it is typically used to broadcast the eviction to the other instances, those apply it by
+ * {@link RestFacadeAdapter#evictLocal(Class, Identifier)}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public interface InvalidationListener
+{
+    /**
+     * Called by the thread of the write once the local caches of the resource have been evicted,
+     * thus it should not block.
+     *
+     * @param resource   the resource type
+     * @param identifier the identifier of the evicted resource, or {@code null} if the lists have been evicted only
+     */
+    void onEvicted( @Nonnull Class<?> resource, @Nullable Identifier identifier );
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * The lock-free latency histogram with log-linear buckets (HdrHistogram style) in microseconds.
+ * Values below 64 microseconds are exact, above each power of two is split into 32 buckets,
+ * thus the relative error of any reported value is at most ~3%. Values above ~19 hours are recorded as the maximum.
+ * <p>
+ * The recording is allocation-free, the percentiles are computed from a {@link Snapshot}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public final class LatencyHistogram
+{
+    private static final int LINEAR_BITS = 6;
+
+    private static final int LINEAR = 1 << LINEAR_BITS;
+
+    private static final int HALF = LINEAR >> 1;
+
+    private static final long MAX_VALUE = ( 1L << 36 ) - 1;
+
+    private static final int SIZE = index( MAX_VALUE ) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray( SIZE );
+
+    static int index( long micros )
+    {
+        if ( micros < LINEAR )
+        {
+            return ( int ) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros( micros ) - ( LINEAR_BITS - 1 );
+        return ( shift << ( LINEAR_BITS - 1 ) ) + ( int ) ( micros >>> shift );
+    }
+
+    /**
+     * Returns the highest value that falls into the bucket of given index.
+     */
+    static long highestValue( int index )
+    {
+        if ( index < LINEAR )
+        {
+            return index;
+        }
+        int shift = ( index >> ( LINEAR_BITS - 1 ) ) - 1;
+        long base = ( index & ( HALF - 1 ) ) + HALF;
+        return ( ( base + 1 ) << shift ) - 1;
+    }
+
+    /**
+     * Records the latency.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record( long nanos )
+    {
+        long micros = Math.min( Math.max( 0, nanos / 1000 ), MAX_VALUE );
+        counts.incrementAndGet( index( micros ) );
+    }
+
+    /**
+     * Returns the copy of the current state of this histogram.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot()
+    {
+        long[] copy = new long[SIZE];
+        for ( int index = 0; index < SIZE; index++ )
+        {
+            copy[index] = counts.get( index );
+        }
+        return new Snapshot( copy );
+    }
+
+    /**
+     * The immutable copy of the histogram.
+     */
+    public static final class Snapshot
+    {
+        private final long[] counts;
+
+        private final long count;
+
+        private Snapshot( long[] counts )
+        {
+            long count = 0;
+            for ( long next : counts )
+            {
+                count += next;
+            }
+            this.counts = counts;
+            this.count = count;
+        }
+
+        /**
+         * Returns the number of the recorded values.
+         *
+         * @return the number of values
+         */
+        public long getCount()
+        {
+            return count;
+        }
+
+        /**
+         * Returns the value at given percentile, for example {@code 99.9}.
+         *
+         * @param percentile the percentile in range 0 - 100
+         * @param unit       the time unit of the result
+         * @return the value at given percentile, zero if nothing has been recorded
+         */
+        public long getValueAtPercentile( double percentile, @Nonnull TimeUnit unit )
+        {
+            checkArgument( percentile >= 0 && percentile <= 100, "Percentile out of range 0 - 100" );
+            if ( count == 0 )
+            {
+                return 0;
+            }
+
+            long rank = Math.max( 1, ( long ) Math.ceil( percentile / 100 * count ) );
+            long seen = 0;
+            for ( int index = 0; index < counts.length; index++ )
+            {
+                seen += counts[index];
+                if ( seen >= rank )
+                {
+                    return unit.convert( highestValue( index ), TimeUnit.MICROSECONDS );
+                }
+            }
+            return getMax( unit );
+        }
+
+        /**
+         * Returns the highest recorded value.
+         *
+         * @param unit the time unit of the result
+         * @return the highest value, zero if nothing has been recorded
+         */
+        public long getMax( @Nonnull TimeUnit unit )
+        {
+            for ( int index = counts.length - 1; index >= 0; index-- )
+            {
+                if ( counts[index] > 0 )
+                {
+                    return unit.convert( highestValue( index ), TimeUnit.MICROSECONDS );
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Returns the mean of the recorded values.
+         *
+         * @param unit the time unit of the result
+         * @return the mean, zero if nothing has been recorded
+         */
+        public double getMean( @Nonnull TimeUnit unit )
+        {
+            if ( count == 0 )
+            {
+                return 0;
+            }
+
+            double total = 0;
+            for ( int index = 0; index < counts.length; index++ )
+            {
+                total += ( double ) counts[index] * highestValue( index );
+            }
+            // the total in microseconds to given unit, in double as the unit might be finer (nanoseconds)
+            return total * TimeUnit.MICROSECONDS.toNanos( 1 ) / unit.toNanos( 1 ) / count;
+        }
+    }
+}
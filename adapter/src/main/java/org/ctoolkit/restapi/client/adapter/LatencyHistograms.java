@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The default {@link RemoteCallMetrics} that keeps a {@link LatencyHistogram} per API prefix, resource class,
+ * operation and outcome. The histogram is created at first record, afterwards the recording is lock-free
+ * and allocation-free.
+ * <p>
+ * To enable it, bind it in Guice:
+ * <pre>
+ * bind( RemoteCallMetrics.class ).to( LatencyHistograms.class ).in( Singleton.class );
+ * </pre>
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class LatencyHistograms
+        implements RemoteCallMetrics
+{
+    private static final int OUTCOMES = Outcome.values().length;
+
+    private static final int SLOTS = Operation.values().length * OUTCOMES;
+
+    private final ConcurrentMap<String, ClassValue<AtomicReferenceArray<LatencyHistogram>>> histograms
+            = new ConcurrentHashMap<>();
+
+    private static int slot( Operation operation, Outcome outcome )
+    {
+        return operation.ordinal() * OUTCOMES + outcome.ordinal();
+    }
+
+    @Override
+    public void record( @Nonnull String apiPrefix,
+                        @Nonnull Class<?> resource,
+                        @Nonnull Operation operation,
+                        @Nonnull Outcome outcome,
+                        long nanos )
+    {
+        AtomicReferenceArray<LatencyHistogram> slots = slots( apiPrefix ).get( resource );
+        int slot = slot( operation, outcome );
+
+        LatencyHistogram histogram = slots.get( slot );
+        if ( histogram == null )
+        {
+            slots.compareAndSet( slot, null, new LatencyHistogram() );
+            histogram = slots.get( slot );
+        }
+        histogram.record( nanos );
+    }
+
+    /**
+     * Returns the histogram for given combination, or {@code null} if nothing has been recorded yet.
+     *
+     * @param apiPrefix the API prefix
+     * @param resource  the resource class
+     * @param operation the facade operation
+     * @param outcome   the outcome of the operation
+     * @return the histogram or {@code null}
+     */
+    @Nullable
+    public LatencyHistogram getHistogram( @Nonnull String apiPrefix,
+                                          @Nonnull Class<?> resource,
+                                          @Nonnull Operation operation,
+                                          @Nonnull Outcome outcome )
+    {
+        checkNotNull( resource, "Resource class cannot be null" );
+        checkNotNull( operation, "Operation cannot be null" );
+        checkNotNull( outcome, "Outcome cannot be null" );
+
+        ClassValue<AtomicReferenceArray<LatencyHistogram>> byResource = histograms.get( apiPrefix );
+        return byResource == null ? null : byResource.get( resource ).get( slot( operation, outcome ) );
+    }
+
+    private ClassValue<AtomicReferenceArray<LatencyHistogram>> slots( String apiPrefix )
+    {
+        ClassValue<AtomicReferenceArray<LatencyHistogram>> byResource = histograms.get( apiPrefix );
+        if ( byResource == null )
+        {
+            byResource = histograms.computeIfAbsent( apiPrefix, k -> new ClassValue<AtomicReferenceArray<LatencyHistogram>>()
+            {
+                @Override
+                protected AtomicReferenceArray<LatencyHistogram> computeValue( Class<?> type )
+                {
+                    return new AtomicReferenceArray<>( SLOTS );
+                }
+            } );
+        }
+        return byResource;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.common.collect.ImmutableList;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * The single page of the list result along with the token of the next page.
+ *
+ * @param <M> the type of the items
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public final class ListPage<M>
+{
+    private final List<M> items;
+
+    private final String nextPageToken;
+
+    /**
+     * Constructor.
+     *
+     * @param items         the items of the page, {@code null} is being treated as an empty page
+     * @param nextPageToken the token of the next page or {@code null} (or empty) if this is the last page
+     */
+    public ListPage( @Nullable List<M> items, @Nullable String nextPageToken )
+    {
+        this.items = items == null ? ImmutableList.of() : items;
+        this.nextPageToken = nextPageToken;
+    }
+
+    /**
+     * Returns the items of this page.
+     *
+     * @return the items, never {@code null}
+     */
+    @Nonnull
+    public List<M> getItems()
+    {
+        return items;
+    }
+
+    /**
+     * Returns the token of the next page.
+     *
+     * @return the token of the next page or {@code null} (or empty) if this is the last page
+     */
+    @Nullable
+    public String getNextPageToken()
+    {
+        return nextPageToken;
+    }
+}
@@ -28,10 +28,17 @@ import org.ctoolkit.restapi.client.provider.TokenProvider;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -41,7 +48,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
  */
 class ListRequest<T>
-        implements ListRetrievalRequest<T>
+        implements ListRetrievalRequest<T>, AsyncRequest<List<T>>, PagedListRequest<T>, DeadlineRequest<List<T>>
 {
     private final Class<T> resource;
 
@@ -138,6 +145,70 @@ class ListRequest<T>
                 orderBy, ascending );
     }
 
+    @Override
+    public CompletableFuture<List<T>> finishAsync()
+    {
+        return finishAsync( null, withLocale );
+    }
+
+    @Override
+    public CompletableFuture<List<T>> finishAsync( @Nullable Map<String, Object> parameters, @Nullable Locale locale )
+    {
+        return adapter.callbackAsync( () -> finish( parameters, locale ) );
+    }
+
+    @Override
+    public CompletableFuture<List<T>> finishAsync( long timeout, @Nonnull TimeUnit unit )
+    {
+        return adapter.callbackAsync( () -> finish( null, withLocale ), timeout, unit );
+    }
+
+    @Override
+    public Iterator<T> iterate()
+    {
+        return iterate( length );
+    }
+
+    @Override
+    public Iterator<T> iterate( int pageSize )
+    {
+        return iterate( pageSize, 0 );
+    }
+
+    @Override
+    public Iterator<T> iterate( int pageSize, int prefetch )
+    {
+        filler.acceptLanguage( withLocale );
+        return adapter.callbackIterateList( adaptee, remoteRequest, resource, filler, params, withLocale, start,
+                pageSize, orderBy, ascending, prefetch );
+    }
+
+    @Override
+    public Stream<T> stream()
+    {
+        return stream( length );
+    }
+
+    @Override
+    public Stream<T> stream( int pageSize )
+    {
+        return stream( pageSize, 0 );
+    }
+
+    @Override
+    public Stream<T> stream( int pageSize, int prefetch )
+    {
+        Iterator<T> iterator = iterate( pageSize, prefetch );
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.ORDERED );
+        Stream<T> stream = StreamSupport.stream( spliterator, false );
+
+        if ( iterator instanceof PrefetchPageIterator )
+        {
+            stream = stream.onClose( ( ( PrefetchPageIterator<T> ) iterator )::close );
+        }
+        return stream;
+    }
+
     @Override
     public ListRetrievalRequest<T> configWith( @Nonnull Properties properties )
     {
@@ -190,6 +261,13 @@ class ListRequest<T>
         return this;
     }
 
+    @Override
+    public Request<List<T>> withDeadline( @Nonnull Deadline deadline )
+    {
+        filler.setDeadline( checkNotNull( deadline, "Deadline cannot be null" ) );
+        return this;
+    }
+
     @Override
     public AuthRequest<List<T>> authBy( @Nonnull String token )
     {
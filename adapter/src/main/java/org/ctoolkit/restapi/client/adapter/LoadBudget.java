@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * The budget of the extra remote calls (hedges, retries) as a percentage of the regular calls.
+ * Every regular call earns a credit of the configured percentage while every extra call costs 100,
+ * thus the extra calls never exceed the configured load. The credit is capped to allow a limited burst,
+ * and it starts full, thus the extra calls are allowed from the very first regular call.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+final class LoadBudget
+{
+    private static final long COST = 100;
+
+    private final int percent;
+
+    private final long maxCredits;
+
+    private final AtomicLong credits;
+
+    /**
+     * @param percent  the extra load in percent of the regular calls
+     * @param maxBurst the maximum number of the extra calls allowed in a burst
+     */
+    LoadBudget( int percent, int maxBurst )
+    {
+        checkArgument( percent >= 0, "Percent cannot be negative" );
+        checkArgument( maxBurst > 0, "Burst must be positive" );
+
+        this.percent = percent;
+        this.maxCredits = maxBurst * COST;
+        this.credits = new AtomicLong( maxCredits );
+    }
+
+    /**
+     * Earns the credit for a regular call.
+     */
+    void deposit()
+    {
+        credits.accumulateAndGet( percent, ( current, credit ) -> Math.min( maxCredits, current + credit ) );
+    }
+
+    /**
+     * Withdraws the cost of an extra call if there is enough credit.
+     *
+     * @return {@code true} if the extra call is allowed
+     */
+    boolean withdraw()
+    {
+        long current;
+        do
+        {
+            current = credits.get();
+            if ( current < COST )
+            {
+                return false;
+            }
+        }
+        while ( !credits.compareAndSet( current, current - COST ) );
+        return true;
+    }
+}
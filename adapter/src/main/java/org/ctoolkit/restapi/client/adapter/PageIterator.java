@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.AbstractIterator;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The lazy iterator over the pages, the next page is being fetched once the current one has been consumed.
+ *
+ * @param <R> the type of the items
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+final class PageIterator<R>
+        extends AbstractIterator<R>
+{
+    private final PageFetcher<R> fetcher;
+
+    private Iterator<R> page = Collections.emptyIterator();
+
+    private String nextPageToken;
+
+    private boolean last;
+
+    PageIterator( @Nonnull PageFetcher<R> fetcher )
+    {
+        this.fetcher = checkNotNull( fetcher );
+    }
+
+    @Override
+    protected R computeNext()
+    {
+        while ( !page.hasNext() )
+        {
+            if ( last )
+            {
+                return endOfData();
+            }
+
+            ListPage<R> next = fetcher.fetch( nextPageToken );
+            nextPageToken = next.getNextPageToken();
+            last = Strings.isNullOrEmpty( nextPageToken );
+            page = next.getItems().iterator();
+        }
+        return page.next();
+    }
+
+    /**
+     * Fetches the single page.
+     */
+    interface PageFetcher<R>
+    {
+        /**
+         * Fetches the page identified by given token.
+         *
+         * @param pageToken the token of the page or {@code null} for the first page
+         * @return the page
+         */
+        ListPage<R> fetch( @Nullable String pageToken );
+    }
+}
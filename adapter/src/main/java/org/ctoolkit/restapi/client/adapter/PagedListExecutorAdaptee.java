@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.ctoolkit.restapi.client.adaptee.ListExecutorAdaptee;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The list adaptee that is able to follow the page tokens. Implement it in order to support
+ * lazy iteration over all pages, see {@link PagedListRequest}.
+ *
+ * @param <M> the type of the remote resource
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public interface PagedListExecutorAdaptee<M>
+        extends ListExecutorAdaptee<M>
+{
+    /**
+     * Executes the list request for a single page. The same request instance is being executed for all pages.
+     *
+     * @param request    the list request instance prepared by {@link #prepareList}
+     * @param parameters the optional resource (query) parameters
+     * @param locale     the language the client has configured to prefer in results if applicable
+     * @param length     the maximum number of items in single page or {@code null} for API default
+     * @param pageToken  the token of the page to execute or {@code null} for the first page
+     * @return the page of the remote resources
+     * @throws IOException might be thrown during remote call execution
+     */
+    ListPage<M> executeListPage( @Nonnull Object request,
+                                 @Nullable Map<String, Object> parameters,
+                                 @Nullable Locale locale,
+                                 @Nullable Integer length,
+                                 @Nullable String pageToken )
+            throws IOException;
+}
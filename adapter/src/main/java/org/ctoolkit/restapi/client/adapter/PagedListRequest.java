@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * The list request that lazily follows the page tokens. The next page is being fetched (and mapped)
+ * only once the consumer has reached the end of the current page, thus only a single page is being held
+ * in memory at once.
+ * <p>
+ * The lazy iteration requires the {@link PagedListExecutorAdaptee}, otherwise the iteration is rejected
+ * by {@link UnsupportedOperationException}, as only the first page would be iterated. If a local list resource
+ * provider or substitute is configured for the resource, the single list result is being iterated.
+ * <p>
+ * The {@code start} of the request is honored. As the pages are identified by the token only,
+ * the leading items are being fetched and skipped once the iteration is requested.
+ * <p>
+ * The list requests returned by {@link RestFacadeAdapter} implement this interface, for example
+ * {@code ( ( PagedListRequest<Foo> ) facade.list( Foo.class ) ).stream()}
+ *
+ * @param <T> the type of the items
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public interface PagedListRequest<T>
+{
+    /**
+     * Returns the lazy iterator over all pages with API default page size.
+     *
+     * @return the lazy iterator
+     */
+    Iterator<T> iterate();
+
+    /**
+     * Returns the lazy iterator over all pages.
+     *
+     * @param pageSize the maximum number of items fetched by single remote call
+     * @return the lazy iterator
+     */
+    Iterator<T> iterate( int pageSize );
+
+    /**
+     * Returns the lazy iterator over all pages, that fetches up to {@code prefetch} pages ahead in background
+     * while the consumer is processing the current page. The iterator implements {@link AutoCloseable},
+     * close it to stop prefetching if not iterated to the end.
+     *
+     * @param pageSize the maximum number of items fetched by single remote call
+     * @param prefetch the maximum number of pages fetched ahead, zero to fetch on demand
+     * @return the lazy iterator
+     */
+    Iterator<T> iterate( int pageSize, int prefetch );
+
+    /**
+     * Returns the sequential lazy stream over all pages with API default page size.
+     *
+     * @return the lazy stream
+     */
+    Stream<T> stream();
+
+    /**
+     * Returns the sequential lazy stream over all pages.
+     *
+     * @param pageSize the maximum number of items fetched by single remote call
+     * @return the lazy stream
+     */
+    Stream<T> stream( int pageSize );
+
+    /**
+     * Returns the sequential lazy stream over all pages, see {@link #iterate(int, int)}.
+     * Closing the stream stops prefetching.
+     *
+     * @param pageSize the maximum number of items fetched by single remote call
+     * @param prefetch the maximum number of pages fetched ahead, zero to fetch on demand
+     * @return the lazy stream
+     */
+    Stream<T> stream( int pageSize, int prefetch );
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.AbstractIterator;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * The lazy iterator over the pages that fetches the next pages ahead in background, while the consumer
+ * is still processing the current page. The page N+1 is being requested as soon as the token is known
+ * (the page N has been fetched), up to the given number of pages not yet taken by the consumer (the depth).
+ * Once the buffer is full the prefetch pauses until the consumer takes the next page, no thread is being
+ * blocked meanwhile.
+ * <p>
+ * Close the iterator to stop prefetching if the consumer stops before reaching the end.
+ *
+ * @param <R> the type of the items
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+final class PrefetchPageIterator<R>
+        extends AbstractIterator<R>
+        implements AutoCloseable
+{
+    private final PageIterator.PageFetcher<R> fetcher;
+
+    private final Executor executor;
+
+    private final int depth;
+
+    private final LongAdder waitNanos;
+
+    private final Deque<CompletableFuture<ListPage<R>>> buffer = new ArrayDeque<>();
+
+    private Iterator<R> page = Collections.emptyIterator();
+
+    private boolean started;
+
+    private boolean last;
+
+    private boolean closed;
+
+    private boolean pending;
+
+    private String pendingToken;
+
+    /**
+     * Constructor.
+     *
+     * @param fetcher   the fetcher of the single page
+     * @param executor  the executor to fetch pages on
+     * @param depth     the maximum number of pages fetched ahead, at least 1
+     * @param waitNanos the counter of the time the consumer waited for a page to be fetched
+     */
+    PrefetchPageIterator( @Nonnull PageIterator.PageFetcher<R> fetcher,
+                          @Nonnull Executor executor,
+                          int depth,
+                          @Nonnull LongAdder waitNanos )
+    {
+        checkArgument( depth > 0, "Prefetch depth must be positive" );
+
+        this.fetcher = checkNotNull( fetcher );
+        this.executor = checkNotNull( executor );
+        this.depth = depth;
+        this.waitNanos = checkNotNull( waitNanos );
+    }
+
+    @Override
+    protected R computeNext()
+    {
+        while ( !page.hasNext() )
+        {
+            if ( last )
+            {
+                return endOfData();
+            }
+
+            CompletableFuture<ListPage<R>> head;
+            synchronized ( this )
+            {
+                checkState( !closed, "Iterator has already been closed" );
+                if ( !started )
+                {
+                    started = true;
+                    schedule( null );
+                }
+
+                head = buffer.pollFirst();
+                if ( pending )
+                {
+                    pending = false;
+                    schedule( pendingToken );
+                }
+            }
+
+            ListPage<R> next = await( checkNotNull( head ) );
+            last = Strings.isNullOrEmpty( next.getNextPageToken() );
+            page = next.getItems().iterator();
+        }
+        return page.next();
+    }
+
+    private ListPage<R> await( CompletableFuture<ListPage<R>> future )
+    {
+        long start = System.nanoTime();
+        try
+        {
+            return future.join();
+        }
+        catch ( CompletionException e )
+        {
+            Throwable cause = e.getCause();
+            if ( cause instanceof RuntimeException )
+            {
+                throw ( RuntimeException ) cause;
+            }
+            if ( cause instanceof Error )
+            {
+                throw ( Error ) cause;
+            }
+            throw e;
+        }
+        finally
+        {
+            waitNanos.add( System.nanoTime() - start );
+        }
+    }
+
+    /**
+     * Schedules the fetch of the page. Must be called while holding the lock.
+     */
+    private void schedule( @Nullable String pageToken )
+    {
+        if ( closed )
+        {
+            return;
+        }
+
+        // the future is being buffered before the fetch is submitted, the executor might run it
+        // in the calling thread and the next page would be buffered ahead of this one otherwise
+        CompletableFuture<ListPage<R>> future = new CompletableFuture<>();
+        buffer.addLast( future );
+        executor.execute( () -> {
+            if ( future.isDone() )
+            {
+                // cancelled by close
+                return;
+            }
+
+            try
+            {
+                ListPage<R> fetched = fetcher.fetch( pageToken );
+                // the next page is being scheduled before this one completes, thus it's always in the buffer
+                // once the consumer reaches it
+                fetched( fetched.getNextPageToken() );
+                future.complete( fetched );
+            }
+            catch ( Throwable e )
+            {
+                future.completeExceptionally( e );
+            }
+        } );
+    }
+
+    private synchronized void fetched( @Nullable String nextPageToken )
+    {
+        if ( Strings.isNullOrEmpty( nextPageToken ) )
+        {
+            return;
+        }
+
+        if ( buffer.size() < depth )
+        {
+            schedule( nextPageToken );
+        }
+        else
+        {
+            pending = true;
+            pendingToken = nextPageToken;
+        }
+    }
+
+    @Override
+    public synchronized void close()
+    {
+        closed = true;
+        pending = false;
+        for ( CompletableFuture<ListPage<R>> next : buffer )
+        {
+            next.cancel( false );
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.ctoolkit.restapi.client.NotFoundException;
+import org.ctoolkit.restapi.client.ServiceUnavailableException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The SPI to collect the latency of the facade operations. Once bound (optional), {@link RestFacadeAdapter}
+ * reports every finished operation, including the local resource provider, the remote call with its retries
+ * and the mapping. While not bound there is no overhead.
+ * <p>
+ * The implementation is being called concurrently and it should not block, see {@link LatencyHistograms}
+ * as the default implementation.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public interface RemoteCallMetrics
+{
+    /**
+     * Records the latency of a single finished operation.
+     *
+     * @param apiPrefix the API prefix
+     * @param resource  the resource class as requested by the client,
+     *                  the remote request class for DELETE without response type
+     * @param operation the facade operation
+     * @param outcome   the outcome of the operation
+     * @param nanos     the latency in nanoseconds
+     */
+    void record( @Nonnull String apiPrefix,
+                 @Nonnull Class<?> resource,
+                 @Nonnull Operation operation,
+                 @Nonnull Outcome outcome,
+                 long nanos );
+
+    /**
+     * The facade operation.
+     */
+    enum Operation
+    {
+        NEW,
+        GET,
+        LIST,
+        INSERT,
+        UPDATE,
+        DELETE,
+        DOWNLOAD
+    }
+
+    /**
+     * The outcome of the operation.
+     */
+    enum Outcome
+    {
+        SUCCESS,
+        /**
+         * The operation has failed with {@link NotFoundException}.
+         */
+        NOT_FOUND,
+        /**
+         * The operation has failed with {@link ServiceUnavailableException}, including the timeouts and the calls
+         * rejected by the client-side resilience (circuit breaker, concurrency limiter).
+         */
+        UNAVAILABLE,
+        /**
+         * The operation has failed with any other exception.
+         */
+        FAILURE;
+
+        static Outcome of( @Nullable RuntimeException e )
+        {
+            if ( e == null )
+            {
+                return SUCCESS;
+            }
+            if ( e instanceof NotFoundException )
+            {
+                return NOT_FOUND;
+            }
+            return e instanceof ServiceUnavailableException ? UNAVAILABLE : FAILURE;
+        }
+    }
+}
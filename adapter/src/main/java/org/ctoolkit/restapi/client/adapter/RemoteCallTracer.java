@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The tracing SPI of the facade operations, shaped to be bridged to OpenTelemetry (or any other tracer)
+ * without a hard dependency. Once bound (optional), {@link RestFacadeAdapter} starts a span per operation
+ * (for example {@code ctoolkit.get}) with a child span for each phase it went through:
+ * <ul>
+ * <li>{@code ctoolkit.prepare} - the remote request preparation, a separate span as it happens
+ * once the request is built</li>
+ * <li>{@code ctoolkit.local} - the local resource provider lookup, with attribute {@code ctoolkit.local.hit}</li>
+ * <li>{@code ctoolkit.substitute} - the substitute call</li>
+ * <li>{@code ctoolkit.auth} - the authorization token acquisition</li>
+ * <li>{@code ctoolkit.coalesce} - the wait for an identical GET already in flight</li>
+ * <li>{@code ctoolkit.remote} - the remote call including its retries,
+ * with attribute {@code ctoolkit.remote.request}</li>
+ * <li>{@code ctoolkit.mapping} - the mapping to the client side resource,
+ * with attribute {@code ctoolkit.mapping.source}</li>
+ * <li>{@code ctoolkit.persist} - the local resource provider persist</li>
+ * </ul>
+ * The operation span carries the attributes {@code ctoolkit.api}, {@code ctoolkit.resource}
+ * and {@code ctoolkit.operation}.
+ * <p>
+ * The OpenTelemetry bridge typically sets the parent as
+ * {@code spanBuilder( name ).setParent( Context.current().with( parentSpan ) )},
+ * or makes the span a child of the current context if parent is {@code null}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public interface RemoteCallTracer
+{
+    /**
+     * Starts a new span.
+     *
+     * @param name   the span name
+     * @param parent the parent span, or {@code null} to start the span of the operation
+     * @return the started span
+     */
+    Span startSpan( @Nonnull String name, @Nullable Span parent );
+
+    /**
+     * The started span. It is used by the thread that has started it only.
+     */
+    interface Span
+    {
+        void setAttribute( @Nonnull String key, @Nonnull String value );
+
+        void setAttribute( @Nonnull String key, long value );
+
+        void setAttribute( @Nonnull String key, boolean value );
+
+        /**
+         * Records the exception the span has failed with, the span should be marked as an error.
+         *
+         * @param exception the exception to be recorded
+         */
+        void recordException( @Nonnull Throwable exception );
+
+        void end();
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.services.AbstractGoogleClient;
+import com.google.api.client.googleapis.services.json.AbstractGoogleJsonClientRequest;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.common.collect.Lists;
+import org.ctoolkit.restapi.client.Identifier;
+import org.ctoolkit.restapi.client.Request;
+import org.ctoolkit.restapi.client.provider.LocalResourceProvider;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * The batch of GET, INSERT, UPDATE and DELETE requests sent as a single Google batch HTTP request
+ * per API client, instead of a round trip per request.
+ * <p>
+ * Usage:
+ * <pre>
+ * RequestBatch batch = adapter.batch();
+ * CompletableFuture&lt;Foo&gt; foo = batch.queue( facade.get( Foo.class ).identifiedBy( id ) );
+ * CompletableFuture&lt;Bar&gt; bar = batch.queue( facade.insert( bar ) );
+ * batch.execute();
+ * </pre>
+ * Each result goes through the same mapping and exception translation as the single request.
+ * The {@link LocalResourceProvider} is being respected for GET, the successful INSERT, UPDATE and DELETE keeps
+ * the local resource providers coherent as the single request does, while the {@link Substitute} is not applied
+ * to the batched requests. Only requests backed by {@link AbstractGoogleJsonClientRequest} might be batched.
+ * <p>
+ * The instance is not thread safe and it is intended to be executed once.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class RequestBatch
+{
+    /**
+     * The maximum number of requests in single batch HTTP request supported by Google APIs.
+     */
+    static final int MAX_BATCH_SIZE = 100;
+
+    private final RestFacadeAdapter adapter;
+
+    private final List<Entry<?>> entries = new ArrayList<>();
+
+    private boolean executed;
+
+    RequestBatch( @Nonnull RestFacadeAdapter adapter )
+    {
+        this.adapter = checkNotNull( adapter );
+    }
+
+    /**
+     * Queues the request to this batch. Only GET, INSERT, UPDATE and DELETE requests are supported.
+     *
+     * @param request the request prepared by the {@link RestFacadeAdapter}
+     * @param <T>     the type of the result
+     * @return the future of the result, completed once the batch has been executed
+     * @throws IllegalArgumentException if given request cannot be batched
+     */
+    @SuppressWarnings( "unchecked" )
+    public <T> CompletableFuture<T> queue( @Nonnull Request<T> request )
+    {
+        checkNotNull( request, "Request cannot be null" );
+        checkArgument( request instanceof BatchableRequest,
+                "Request %s cannot be batched", request.getClass().getName() );
+
+        return ( ( BatchableRequest<T> ) request ).queue( this );
+    }
+
+    /**
+     * Returns the number of queued requests waiting for execution.
+     *
+     * @return the number of queued requests
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Sends all queued requests, as one batch HTTP request per API client. It's a blocking call.
+     * Once returns, all futures returned by {@link #queue(Request)} are completed.
+     */
+    public void execute()
+    {
+        checkState( !executed, "The batch has already been executed" );
+        executed = true;
+
+        Map<AbstractGoogleClient, List<Entry<?>>> byClient = new IdentityHashMap<>();
+        for ( Entry<?> next : entries )
+        {
+            byClient.computeIfAbsent( next.request.getAbstractGoogleClient(), k -> new ArrayList<>() ).add( next );
+        }
+
+        for ( Map.Entry<AbstractGoogleClient, List<Entry<?>>> next : byClient.entrySet() )
+        {
+            for ( List<Entry<?>> chunk : Lists.partition( next.getValue(), MAX_BATCH_SIZE ) )
+            {
+                execute( next.getKey(), chunk );
+            }
+        }
+        entries.clear();
+    }
+
+    private void execute( AbstractGoogleClient client, List<Entry<?>> chunk )
+    {
+        try
+        {
+            BatchRequest batch = client.batch();
+            for ( Entry<?> entry : chunk )
+            {
+                entry.request.queue( batch, entry );
+            }
+            batch.execute();
+        }
+        catch ( IOException e )
+        {
+            for ( Entry<?> entry : chunk )
+            {
+                entry.onFailure( e );
+            }
+        }
+        catch ( RuntimeException e )
+        {
+            for ( Entry<?> entry : chunk )
+            {
+                entry.future.completeExceptionally( e );
+            }
+        }
+    }
+
+    /**
+     * Queues the GET request, the local resource provider is being consulted first.
+     */
+    <T> CompletableFuture<T> queueGet( @Nonnull Object remoteRequest,
+                                       @Nonnull Class<T> responseType,
+                                       @Nonnull Identifier identifier,
+                                       @Nonnull GoogleRequestHeaders headers,
+                                       @Nonnull Map<String, Object> parameters,
+                                       @Nullable Locale locale )
+    {
+        LocalResourceProvider<T> provider = adapter.getExistingResourceProvider( responseType );
+        if ( provider != null )
+        {
+            T response = provider.get( identifier, parameters, locale );
+            if ( response != null )
+            {
+                return CompletableFuture.completedFuture( response );
+            }
+        }
+
+        CompletableFuture<T> future = queue( remoteRequest, responseType, identifier, headers, parameters, null );
+        if ( provider == null )
+        {
+            return future;
+        }
+
+        return future.thenApply( response -> {
+            if ( response != null )
+            {
+                adapter.persist( provider, response, identifier, parameters, locale );
+            }
+            return response;
+        } );
+    }
+
+    /**
+     * Queues the remote request.
+     *
+     * @param remoteRequest the remote request to be sent
+     * @param responseType  the type of the result or {@code null} if not expected
+     * @param identifier    the identifier of the resource, for logging purpose
+     * @param headers       the request headers to be applied
+     * @param parameters    the resource (query) parameters
+     * @param written       the consumer of the successful result keeping the local resource providers coherent,
+     *                      {@code null} if the request does not modify the resource
+     * @param <T>           the type of the result
+     * @return the future of the result
+     */
+    <T> CompletableFuture<T> queue( @Nonnull Object remoteRequest,
+                                    @Nullable Class<T> responseType,
+                                    @Nullable Object identifier,
+                                    @Nonnull GoogleRequestHeaders headers,
+                                    @Nonnull Map<String, Object> parameters,
+                                    @Nullable Consumer<T> written )
+    {
+        checkState( !executed, "The batch has already been executed" );
+        checkArgument( remoteRequest instanceof AbstractGoogleJsonClientRequest,
+                "Remote request %s cannot be batched", remoteRequest.getClass().getName() );
+
+        @SuppressWarnings( "unchecked" )
+        AbstractGoogleJsonClientRequest<Object> request = ( AbstractGoogleJsonClientRequest<Object> ) remoteRequest;
+        AbstractGoogleClientAdaptee.populate( request, parameters );
+        headers.setAuthorizationIf( adapter::getTokenProvider );
+
+        Entry<T> entry = new Entry<>( request, responseType, identifier, written );
+        entries.add( entry );
+        return entry.future;
+    }
+
+    /**
+     * The single queued request and its result.
+     */
+    private class Entry<T>
+            extends JsonBatchCallback<Object>
+    {
+        private final AbstractGoogleJsonClientRequest<Object> request;
+
+        private final Class<T> responseType;
+
+        private final Object identifier;
+
+        private final Consumer<T> written;
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        Entry( AbstractGoogleJsonClientRequest<Object> request,
+               Class<T> responseType,
+               Object identifier,
+               Consumer<T> written )
+        {
+            this.request = request;
+            this.responseType = responseType;
+            this.identifier = identifier;
+            this.written = written;
+        }
+
+        @Override
+        public void onSuccess( Object remoteObject, HttpHeaders headers )
+        {
+            try
+            {
+                T response;
+                if ( remoteObject == null || responseType == null )
+                {
+                    response = null;
+                }
+                else if ( remoteObject.getClass() == responseType )
+                {
+                    response = responseType.cast( remoteObject );
+                }
+                else
+                {
+                    response = adapter.getMapper().map( remoteObject, responseType );
+                }
+
+                if ( written != null )
+                {
+                    written.accept( response );
+                }
+                future.complete( response );
+            }
+            catch ( RuntimeException e )
+            {
+                future.completeExceptionally( e );
+            }
+        }
+
+        @Override
+        public void onFailure( GoogleJsonError error, HttpHeaders headers )
+        {
+            onFailure( new HttpResponseException.Builder( error.getCode(), error.getMessage(), headers ).build() );
+        }
+
+        void onFailure( IOException e )
+        {
+            future.completeExceptionally( written != null
+                    ? adapter.prepareUpdateException( e, responseType, identifier )
+                    : adapter.prepareRetrievalException( e, responseType, identifier ) );
+        }
+    }
+}
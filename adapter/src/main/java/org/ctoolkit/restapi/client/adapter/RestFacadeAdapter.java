@@ -19,17 +19,16 @@
 package org.ctoolkit.restapi.client.adapter;
 
 import com.google.api.client.googleapis.media.MediaHttpDownloader;
+import com.google.api.client.googleapis.services.AbstractGoogleClientRequest;
 import com.google.api.client.http.GenericUrl;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpRequestInitializer;
 import com.google.api.client.http.HttpResponseException;
 import com.google.api.client.http.HttpStatusCodes;
+import com.google.api.client.util.GenericData;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
-import com.google.inject.Binding;
 import com.google.inject.Injector;
-import com.google.inject.Key;
-import com.google.inject.TypeLiteral;
-import com.google.inject.util.Types;
 import org.ctoolkit.restapi.client.ClientErrorException;
 import org.ctoolkit.restapi.client.DeleteIdentification;
 import org.ctoolkit.restapi.client.DownloadMediaProvider;
@@ -39,6 +38,7 @@ import org.ctoolkit.restapi.client.HttpFailureException;
 import org.ctoolkit.restapi.client.Identifier;
 import org.ctoolkit.restapi.client.NotFoundException;
 import org.ctoolkit.restapi.client.PayloadRequest;
+import org.ctoolkit.restapi.client.RemoteCallExecutor;
 import org.ctoolkit.restapi.client.RemoteServerErrorException;
 import org.ctoolkit.restapi.client.RequestCredential;
 import org.ctoolkit.restapi.client.RestFacade;
@@ -66,22 +66,29 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.net.ssl.SSLHandshakeException;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.lang.reflect.ParameterizedType;
 import java.net.SocketTimeoutException;
 import java.net.URL;
 import java.net.UnknownHostException;
 import java.security.GeneralSecurityException;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.Objects.requireNonNull;
+import static org.ctoolkit.restapi.client.ApiCredential.DEFAULT_CREDENTIAL_PREFIX;
 
 /**
  * The Fluent facade API implementation as an adapter. Executes Java bean mapping
@@ -96,15 +103,39 @@ public class RestFacadeAdapter
 
     private final MapperFacade mapper;
 
-    private final Injector injector;
-
     private final GoogleApiProxyFactory apiFactory;
 
     @SuppressWarnings( "rawtypes" )
     private final Map<String, ClientApi> apis;
 
+    private final AdapteeRegistry registry;
+
+    private final LongAdder prefetchWaitNanos = new LongAdder();
+
+    private final GetHedger hedger;
+
+    private final StaleRevalidator revalidator = new StaleRevalidator();
+
+    private final LongAdder notModifiedGets = new LongAdder();
+
+    private final ClassValue<String> apiPrefixes;
+
     private Substitute substitute;
 
+    private Executor executor;
+
+    private GetCoalescer coalescer;
+
+    private RemoteCallMetrics metrics;
+
+    private RemoteCallTracer tracer;
+
+    private WriteBehindQueue writeBehind;
+
+    private boolean writeBehindDrop;
+
+    private InvalidationListener invalidationListener;
+
     @SuppressWarnings( "rawtypes" )
     @Inject
     RestFacadeAdapter( MapperFacade mapper,
@@ -113,9 +144,26 @@ public class RestFacadeAdapter
                        Map<String, ClientApi> apis )
     {
         this.mapper = mapper;
-        this.injector = injector;
         this.apiFactory = apiFactory;
         this.apis = apis;
+        this.registry = new AdapteeRegistry( injector );
+        this.hedger = new GetHedger( apiFactory );
+        this.apiPrefixes = new ClassValue<String>()
+        {
+            @Override
+            protected String computeValue( Class<?> type )
+            {
+                for ( Map.Entry<String, ClientApi> entry : apis.entrySet() )
+                {
+                    Object client = entry.getValue().get();
+                    if ( client != null && client.getClass() == type )
+                    {
+                        return entry.getKey();
+                    }
+                }
+                return DEFAULT_CREDENTIAL_PREFIX;
+            }
+        };
     }
 
     @com.google.inject.Inject( optional = true )
@@ -124,6 +172,307 @@ public class RestFacadeAdapter
         this.substitute = substitute;
     }
 
+    @com.google.inject.Inject( optional = true )
+    public void setExecutor( @RemoteCallExecutor Executor executor )
+    {
+        this.executor = executor;
+    }
+
+    /**
+     * Enables the coalescing of the identical concurrent GET requests, see {@link Constants#COALESCE_GET}.
+     *
+     * @param coalesce {@code true} to enable coalescing
+     */
+    @com.google.inject.Inject( optional = true )
+    public void setCoalesceGet( @Named( Constants.COALESCE_GET ) boolean coalesce )
+    {
+        this.coalescer = coalesce ? new GetCoalescer() : null;
+    }
+
+    /**
+     * Enables the write-behind of the local resource provider writes, see {@link Constants#WRITE_BEHIND}.
+     *
+     * @param capacity the capacity of the queue, zero to disable
+     */
+    @com.google.inject.Inject( optional = true )
+    public void setWriteBehind( @Named( Constants.WRITE_BEHIND ) int capacity )
+    {
+        this.writeBehind = capacity > 0 ? new WriteBehindQueue( capacity, writeBehindDrop ) : null;
+    }
+
+    /**
+     * Drops the write once the write-behind queue is full, see {@link Constants#WRITE_BEHIND_DROP}.
+     *
+     * @param drop {@code true} to drop, {@code false} to execute the write by the caller
+     */
+    @com.google.inject.Inject( optional = true )
+    public void setWriteBehindDrop( @Named( Constants.WRITE_BEHIND_DROP ) boolean drop )
+    {
+        this.writeBehindDrop = drop;
+        WriteBehindQueue writeBehind = this.writeBehind;
+        if ( writeBehind != null )
+        {
+            writeBehind.setDropWhenFull( drop );
+        }
+    }
+
+    /**
+     * Enables the latency metrics of the facade operations, see {@link LatencyHistograms}.
+     *
+     * @param metrics the metrics to be fed
+     */
+    @com.google.inject.Inject( optional = true )
+    public void setMetrics( RemoteCallMetrics metrics )
+    {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Enables the tracing of the facade operations and their phases, see {@link RemoteCallTracer}.
+     *
+     * @param tracer the tracer to be used
+     */
+    @com.google.inject.Inject( optional = true )
+    public void setTracer( RemoteCallTracer tracer )
+    {
+        this.tracer = tracer;
+    }
+
+    /**
+     * Sets the listener notified once the local caches have been evicted after a successful write,
+     * see {@link InvalidationListener}.
+     *
+     * @param listener the listener to be notified
+     */
+    @com.google.inject.Inject( optional = true )
+    public void setInvalidationListener( InvalidationListener listener )
+    {
+        this.invalidationListener = listener;
+    }
+
+    /**
+     * Runs the operation, records its latency and outcome if metrics are enabled and ends its trace.
+     */
+    private <R> R observed( RemoteCallMetrics.Operation operation,
+                            String apiPrefix,
+                            Class<?> resource,
+                            CallTrace trace,
+                            Supplier<R> call )
+    {
+        long start = System.nanoTime();
+        RuntimeException failure = null;
+        try
+        {
+            return call.get();
+        }
+        catch ( RuntimeException e )
+        {
+            failure = e;
+            throw e;
+        }
+        finally
+        {
+            long nanos = System.nanoTime() - start;
+            trace.end( failure );
+
+            RemoteCallMetrics metrics = this.metrics;
+            if ( metrics != null )
+            {
+                metrics.record( apiPrefix, resource, operation, RemoteCallMetrics.Outcome.of( failure ), nanos );
+            }
+        }
+    }
+
+    /**
+     * Runs the callback on the configured {@link RemoteCallExecutor} executor,
+     * or on the default one if not configured.
+     *
+     * @param callback the callback to run, typically the request's {@code finish}
+     * @param <T>      the type of the result
+     * @return the future of the result
+     */
+    <T> AsyncCall<T> callbackAsync( @Nonnull Callable<T> callback )
+    {
+        return AsyncCall.submit( callback, asyncExecutor() );
+    }
+
+    private Executor asyncExecutor()
+    {
+        Executor executor = this.executor;
+        return executor == null ? AsyncCall.sharedExecutor() : executor;
+    }
+
+    /**
+     * Runs the callback asynchronously, see {@link #callbackAsync(Callable)}.
+     * The future completes exceptionally once given timeout elapses.
+     *
+     * @param callback the callback to run, typically the request's {@code finish}
+     * @param timeout  the maximum time to wait for the result
+     * @param unit     the time unit of the timeout
+     * @param <T>      the type of the result
+     * @return the future of the result
+     */
+    <T> AsyncCall<T> callbackAsync( @Nonnull Callable<T> callback, long timeout, @Nonnull TimeUnit unit )
+    {
+        return callbackAsync( callback ).within( timeout, unit );
+    }
+
+    /**
+     * Creates a new batch of requests to be sent as a single Google batch HTTP request per API client.
+     *
+     * @return the new empty batch
+     */
+    public RequestBatch batch()
+    {
+        return new RequestBatch( this );
+    }
+
+    /**
+     * Returns {@code true} if the substitute is configured and it has not been declined up front
+     * by {@link RoutingSubstitute#substitutes(RoutingSubstitute.Operation, Class)}.
+     * The plain {@link Substitute} is being consulted always.
+     */
+    private boolean isSubstituted( @Nonnull RoutingSubstitute.Operation operation, @Nullable Class<?> type )
+    {
+        Substitute substitute = this.substitute;
+        if ( substitute instanceof RoutingSubstitute )
+        {
+            return ( ( RoutingSubstitute ) substitute ).substitutes( operation, type );
+        }
+        return substitute != null;
+    }
+
+    /**
+     * Returns the API prefix of the client that has created given request, or the default prefix
+     * if the request is not a Google client request or the client is not a registered {@link ClientApi}.
+     *
+     * @param remoteRequest the remote request
+     * @return the API prefix
+     */
+    String apiPrefix( @Nonnull Object remoteRequest )
+    {
+        if ( remoteRequest instanceof AbstractGoogleClientRequest )
+        {
+            AbstractGoogleClientRequest<?> request = ( AbstractGoogleClientRequest<?> ) remoteRequest;
+            return apiPrefixes.get( request.getAbstractGoogleClient().getClass() );
+        }
+        return DEFAULT_CREDENTIAL_PREFIX;
+    }
+
+    /**
+     * Executes the remote call guarded by the concurrency limiter and the circuit breaker of the API,
+     * if configured. The failure with a transient HTTP status code (see {@link #isTransient(int)})
+     * or an unknown I/O failure is recorded as failed, any other outcome as successful.
+     * <p>
+     * The optional deadline is bound to the current thread while executing the remote call.
+     * The failure once the deadline has passed is not recorded as failed, as it was caused by the caller's budget.
+     *
+     * @param apiPrefix the API prefix
+     * @param deadline  the optional deadline of the request
+     * @param call      the remote call
+     * @param <R>       the type of the result
+     * @return the result of the remote call
+     * @throws IOException                 if the remote call has failed
+     * @throws DeadlineExceededException   if the deadline has passed before the remote call
+     * @throws ServiceUnavailableException if the concurrency limit has been reached or the circuit breaker is open
+     */
+    private <R> R guarded( @Nullable String apiPrefix, @Nullable Deadline deadline, @Nonnull RemoteCall<R> call )
+            throws IOException
+    {
+        if ( deadline == null )
+        {
+            return guarded( apiPrefix, call );
+        }
+
+        deadline.check();
+        Deadline previous = Deadline.bind( deadline );
+        try
+        {
+            return guarded( apiPrefix, call );
+        }
+        finally
+        {
+            Deadline.bind( previous );
+        }
+    }
+
+    private <R> R guarded( @Nullable String apiPrefix, @Nonnull RemoteCall<R> call ) throws IOException
+    {
+        ConcurrencyLimiter limiter = apiFactory.getConcurrencyLimiter( apiPrefix );
+        CircuitBreaker breaker = apiFactory.getCircuitBreaker( apiPrefix );
+        if ( limiter == null && breaker == null )
+        {
+            return call.execute();
+        }
+
+        if ( limiter != null )
+        {
+            limiter.acquire();
+        }
+        if ( breaker != null )
+        {
+            try
+            {
+                breaker.acquire();
+            }
+            catch ( RuntimeException e )
+            {
+                release( limiter, null );
+                throw e;
+            }
+        }
+
+        long start = System.nanoTime();
+        try
+        {
+            R result = call.execute();
+            onResult( limiter, breaker, System.nanoTime() - start, false );
+            return result;
+        }
+        catch ( IOException e )
+        {
+            int statusCode = statusCode( e );
+            Deadline deadline = Deadline.current();
+            boolean failed = ( deadline == null || !deadline.isExpired() )
+                    && ( statusCode == -1 || isTransient( statusCode ) );
+
+            onResult( limiter, breaker, System.nanoTime() - start, failed );
+            throw e;
+        }
+        catch ( RuntimeException e )
+        {
+            release( limiter, breaker );
+            throw e;
+        }
+    }
+
+    private void onResult( @Nullable ConcurrencyLimiter limiter,
+                           @Nullable CircuitBreaker breaker,
+                           long nanos,
+                           boolean failed )
+    {
+        if ( limiter != null )
+        {
+            limiter.onSample( nanos, failed );
+        }
+        if ( breaker != null )
+        {
+            breaker.onResult( nanos, failed );
+        }
+    }
+
+    private void release( @Nullable ConcurrencyLimiter limiter, @Nullable CircuitBreaker breaker )
+    {
+        if ( limiter != null )
+        {
+            limiter.release();
+        }
+        if ( breaker != null )
+        {
+            breaker.release();
+        }
+    }
+
     /**
      * Returns the mapper instance.
      *
@@ -157,6 +506,29 @@ public class RestFacadeAdapter
                                          @Nonnull GoogleRequestHeaders grh,
                                          @Nullable Map<String, Object> params,
                                          @Nullable Locale locale )
+    {
+        String apiPrefix = adaptee.getApiPrefix();
+        CallTrace trace = CallTrace.start( tracer, RemoteCallMetrics.Operation.DOWNLOAD, apiPrefix, resource );
+        if ( metrics == null && trace == CallTrace.NONE )
+        {
+            return downloadMedia( downloader, adaptee, resource, identifier, output, interceptor, grh, params,
+                    locale, trace );
+        }
+        return observed( RemoteCallMetrics.Operation.DOWNLOAD, apiPrefix, resource, trace,
+                () -> downloadMedia( downloader, adaptee, resource, identifier, output, interceptor, grh, params,
+                        locale, trace ) );
+    }
+
+    private Map<String, Object> downloadMedia( @Nonnull MediaHttpDownloader downloader,
+                                               @Nonnull DownloadExecutorAdaptee<?> adaptee,
+                                               @Nonnull Class<?> resource,
+                                               @Nonnull Identifier identifier,
+                                               @Nonnull OutputStream output,
+                                               @Nonnull DownloadResponseInterceptor interceptor,
+                                               @Nonnull GoogleRequestHeaders grh,
+                                               @Nullable Map<String, Object> params,
+                                               @Nullable Locale locale,
+                                               @Nonnull CallTrace trace )
     {
         //noinspection MismatchedQueryAndUpdateOfCollection
         RequestCredential credential = new RequestCredential();
@@ -173,9 +545,10 @@ public class RestFacadeAdapter
 
         try
         {
-            boolean remote = substitute == null;
+            boolean remote = !isSubstituted( RoutingSubstitute.Operation.DOWNLOAD, resource );
             if ( !remote )
             {
+                trace.phase( CallTrace.SUBSTITUTE );
                 try
                 {
                     substitute.download( checkNotNull( resource ),
@@ -193,8 +566,13 @@ public class RestFacadeAdapter
 
             if ( remote )
             {
+                trace.phase( CallTrace.AUTH );
                 grh.setAuthorizationIf( this::getTokenProvider );
-                requireNonNull( downloader ).download( new GenericUrl( path ), headers, output );
+                trace.remote( null );
+                guarded( adaptee.getApiPrefix(), grh.getDeadline(), () -> {
+                    requireNonNull( downloader ).download( new GenericUrl( path ), headers, output );
+                    return null;
+                } );
             }
         }
         catch ( IOException e )
@@ -255,6 +633,7 @@ public class RestFacadeAdapter
     {
         NewExecutorAdaptee<?> adaptee = adaptee( NewExecutorAdaptee.class, checkNotNull( resource ) );
         Object remoteRequest;
+        CallTrace trace = CallTrace.prepare( tracer, RemoteCallMetrics.Operation.NEW, resource );
         try
         {
             remoteRequest = adaptee.prepareNew( resource.getSimpleName() );
@@ -263,6 +642,10 @@ public class RestFacadeAdapter
         {
             throw new ClientErrorException( e.getMessage() );
         }
+        finally
+        {
+            trace.end( null );
+        }
 
         return new NewInstanceRequest<>( resource, this, adaptee, remoteRequest );
     }
@@ -285,6 +668,24 @@ public class RestFacadeAdapter
                                @Nonnull GoogleRequestHeaders headers,
                                @Nullable Map<String, Object> parameters,
                                @Nullable Locale locale )
+    {
+        String apiPrefix = apiPrefix( remoteRequest );
+        CallTrace trace = CallTrace.start( tracer, RemoteCallMetrics.Operation.NEW, apiPrefix, responseType );
+        if ( metrics == null && trace == CallTrace.NONE )
+        {
+            return executeNew( adaptee, remoteRequest, responseType, headers, parameters, locale, trace );
+        }
+        return observed( RemoteCallMetrics.Operation.NEW, apiPrefix, responseType, trace,
+                () -> executeNew( adaptee, remoteRequest, responseType, headers, parameters, locale, trace ) );
+    }
+
+    private <R> R executeNew( @Nonnull NewExecutorAdaptee<?> adaptee,
+                              @Nonnull Object remoteRequest,
+                              @Nonnull Class<R> responseType,
+                              @Nonnull GoogleRequestHeaders headers,
+                              @Nullable Map<String, Object> parameters,
+                              @Nullable Locale locale,
+                              @Nonnull CallTrace trace )
     {
         if ( parameters == null )
         {
@@ -294,9 +695,10 @@ public class RestFacadeAdapter
         Object remoteInstance = null;
         try
         {
-            boolean remote = substitute == null;
+            boolean remote = !isSubstituted( RoutingSubstitute.Operation.NEW, responseType );
             if ( !remote )
             {
+                trace.phase( CallTrace.SUBSTITUTE );
                 try
                 {
                     remoteInstance = substitute.newInstance( checkNotNull( remoteRequest ),
@@ -312,7 +714,9 @@ public class RestFacadeAdapter
 
             if ( remote )
             {
+                trace.phase( CallTrace.AUTH );
                 headers.setAuthorizationIf( this::getTokenProvider );
+                trace.remote( remoteRequest );
                 remoteInstance = adaptee.executeNew( remoteRequest, parameters, locale );
             }
         }
@@ -329,6 +733,7 @@ public class RestFacadeAdapter
         }
         else
         {
+            trace.mapping( remoteInstance );
             return mapper.map( remoteInstance, responseType );
         }
     }
@@ -343,6 +748,7 @@ public class RestFacadeAdapter
     {
         GetExecutorAdaptee<?> adaptee = adaptee( GetExecutorAdaptee.class, checkNotNull( resource ) );
         Object remoteRequest;
+        CallTrace trace = CallTrace.prepare( tracer, RemoteCallMetrics.Operation.GET, resource );
         try
         {
             String errorMessage = "Identifier for GET operation cannot be null.";
@@ -352,6 +758,10 @@ public class RestFacadeAdapter
         {
             throw new ClientErrorException( e.getMessage() );
         }
+        finally
+        {
+            trace.end( null );
+        }
 
         return new GetRequest<>( resource, identifier.root(), this, adaptee, remoteRequest );
     }
@@ -364,73 +774,249 @@ public class RestFacadeAdapter
                               @Nullable Map<String, Object> parameters,
                               @Nullable Locale locale )
     {
-        if ( parameters == null )
+        String apiPrefix = apiPrefix( remoteRequest );
+        CallTrace trace = CallTrace.start( tracer, RemoteCallMetrics.Operation.GET, apiPrefix, responseType );
+        if ( metrics == null && trace == CallTrace.NONE )
         {
-            parameters = new HashMap<>();
+            return executeGet( adaptee, remoteRequest, responseType, identifier, headers, parameters, locale, trace );
         }
+        return observed( RemoteCallMetrics.Operation.GET, apiPrefix, responseType, trace,
+                () -> executeGet( adaptee, remoteRequest, responseType, identifier, headers, parameters,
+                        locale, trace ) );
+    }
+
+    private <R> R executeGet( @Nonnull GetExecutorAdaptee<?> adaptee,
+                              @Nonnull Object remoteRequest,
+                              @Nonnull Class<R> responseType,
+                              @Nonnull Identifier identifier,
+                              @Nonnull GoogleRequestHeaders headers,
+                              @Nullable Map<String, Object> parameters,
+                              @Nullable Locale locale,
+                              @Nonnull CallTrace trace )
+    {
+        Map<String, Object> params = parameters == null ? new HashMap<>() : parameters;
 
         // looking for LocalResourceProvider optional implementation for given resource type
         LocalResourceProvider<R> provider = getExistingResourceProvider( checkNotNull( responseType ) );
+        CachedResource<R> cached = null;
         R response = null;
 
-        boolean requestForPersist = false;
         if ( provider != null )
         {
             // retrieve requested local resource
-            response = provider.get( identifier.root(), parameters, locale );
-            requestForPersist = response == null;
+            trace.phase( CallTrace.LOCAL );
+            if ( provider instanceof StaleResourceProvider )
+            {
+                cached = ( ( StaleResourceProvider<R> ) provider ).getCached( identifier.root(), params, locale );
+                response = serveCached( adaptee, responseType, identifier, headers, params, locale,
+                        ( StaleResourceProvider<R> ) provider, cached, trace );
+            }
+            else
+            {
+                response = provider.get( identifier.root(), params, locale );
+            }
+            trace.attribute( CallTrace.LOCAL_HIT, response != null );
         }
 
         if ( response == null )
         {
-            Object remoteObject = null;
+            GetCoalescer coalescer = this.coalescer;
+            if ( coalescer == null )
+            {
+                response = remoteGet( adaptee, remoteRequest, responseType, identifier, headers, params, locale,
+                        provider, cached, trace );
+            }
+            else
+            {
+                GetCoalescer.Key key = new GetCoalescer.Key( responseType, identifier.root(), params, locale, headers );
+                CachedResource<R> revalidated = cached;
+                // the follower waits for the leader's call within this phase
+                trace.phase( CallTrace.COALESCE );
+                response = coalescer.execute( key, headers.getDeadline(), () -> remoteGet( adaptee, remoteRequest,
+                        responseType, identifier, headers, params, locale, provider, revalidated, trace ) );
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Returns the cached resource to be served, also the stale one within the provider's max staleness.
+     * The stale resource is being served immediately, while refreshed in background, single flight per key,
+     * by a new remote request with a copy of the caller's headers.
+     */
+    private <R> R serveCached( @Nonnull GetExecutorAdaptee<?> adaptee,
+                               @Nonnull Class<R> responseType,
+                               @Nonnull Identifier identifier,
+                               @Nonnull GoogleRequestHeaders headers,
+                               @Nonnull Map<String, Object> params,
+                               @Nullable Locale locale,
+                               @Nonnull StaleResourceProvider<R> provider,
+                               @Nullable CachedResource<R> cached,
+                               @Nonnull CallTrace trace )
+    {
+        if ( cached == null )
+        {
+            return null;
+        }
+        if ( !cached.isStale() )
+        {
+            return cached.getResource();
+        }
+        if ( cached.getStaleFor().compareTo( provider.getMaxStaleness() ) > 0 )
+        {
+            // too stale to be served, the caller waits for the remote call (conditional if ETag is known)
+            return null;
+        }
+
+        trace.attribute( CallTrace.LOCAL_STALE, true );
+        GetCoalescer.Key key = new GetCoalescer.Key( responseType, identifier.root(), params, locale, headers );
+        revalidator.revalidate( key, () -> {
+            // the caller's request is left untouched, the refresh is not bound to its deadline
+            Object refresh;
             try
             {
-                boolean remote = substitute == null;
-                if ( !remote )
+                refresh = adaptee.prepareGet( identifier );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientErrorException( e.getMessage() );
+            }
+            remoteGet( adaptee, refresh, responseType, identifier, headers.copyTo( refresh ), params, locale,
+                    provider, cached, CallTrace.NONE );
+        }, asyncExecutor() );
+
+        return cached.getResource();
+    }
+
+    /**
+     * Executes the remote GET (or its substitute) and maps the result.
+     * If the local resource provider is available, the response will be provided to be persisted.
+     * <p>
+     * If the cached resource to be revalidated has an ETag, the remote GET is conditional
+     * and the {@code 304 Not Modified} response reuses the cached resource, skipping parsing and mapping.
+     */
+    private <R> R remoteGet( @Nonnull GetExecutorAdaptee<?> adaptee,
+                             @Nonnull Object remoteRequest,
+                             @Nonnull Class<R> responseType,
+                             @Nonnull Identifier identifier,
+                             @Nonnull GoogleRequestHeaders headers,
+                             @Nonnull Map<String, Object> parameters,
+                             @Nullable Locale locale,
+                             @Nullable LocalResourceProvider<R> provider,
+                             @Nullable CachedResource<R> cached,
+                             @Nonnull CallTrace trace )
+    {
+        R response;
+        Object remoteObject = null;
+        String etag = cached == null ? null : cached.getETag();
+        try
+        {
+            boolean remote = !isSubstituted( RoutingSubstitute.Operation.GET, responseType );
+            if ( !remote )
+            {
+                trace.phase( CallTrace.SUBSTITUTE );
+                try
                 {
-                    try
-                    {
-                        remoteObject = substitute.get( remoteRequest, responseType, identifier, parameters, locale );
-                    }
-                    catch ( Substitute.ProceedWithRemoteCall e )
-                    {
-                        remote = true;
-                    }
+                    remoteObject = substitute.get( remoteRequest, responseType, identifier, parameters, locale );
                 }
-
-                if ( remote )
+                catch ( Substitute.ProceedWithRemoteCall e )
                 {
-                    headers.setAuthorizationIf( this::getTokenProvider );
-                    remoteObject = adaptee.executeGet( remoteRequest, parameters, locale );
+                    remote = true;
                 }
             }
-            catch ( IOException e )
-            {
-                throw prepareRetrievalException( e, responseType, identifier );
-            }
 
-            checkNotNull( remoteObject, "Callback must not return null" );
-            if ( remoteObject.getClass() == responseType )
+            if ( remote )
             {
-                //noinspection unchecked
-                response = ( R ) remoteObject;
+                trace.phase( CallTrace.AUTH );
+                headers.setAuthorizationIf( this::getTokenProvider );
+                if ( etag != null )
+                {
+                    headers.ifNoneMatch( etag );
+                }
+                trace.remote( remoteRequest );
+                String apiPrefix = apiPrefix( remoteRequest );
+                Deadline deadline = headers.getDeadline();
+                remoteObject = guarded( apiPrefix, deadline, () -> hedger.execute( apiPrefix,
+                        // the primary and the hedge might run on the executor
+                        Deadline.bound( deadline, () -> adaptee.executeGet( remoteRequest, parameters, locale ) ),
+                        () -> Deadline.bound( deadline,
+                                duplicateGet( adaptee, remoteRequest, identifier, parameters, locale ) ),
+                        asyncExecutor() ) );
             }
-            else
+        }
+        catch ( IOException e )
+        {
+            if ( etag != null && statusCode( e ) == HttpStatusCodes.STATUS_CODE_NOT_MODIFIED )
             {
-                response = mapper.map( remoteObject, responseType );
+                trace.attribute( CallTrace.NOT_MODIFIED, true );
+                notModifiedGets.increment();
+
+                response = cached.getResource();
+                if ( provider != null )
+                {
+                    // expiration restarts
+                    trace.phase( CallTrace.PERSIST );
+                    persist( provider, response, identifier.root(), parameters, locale, etag );
+                }
+                return response;
             }
+            throw prepareRetrievalException( e, responseType, identifier );
+        }
+
+        checkNotNull( remoteObject, "Callback must not return null" );
+        if ( remoteObject.getClass() == responseType )
+        {
+            //noinspection unchecked
+            response = ( R ) remoteObject;
+        }
+        else
+        {
+            trace.mapping( remoteObject );
+            response = mapper.map( remoteObject, responseType );
         }
 
-        if ( requestForPersist && response != null )
+        if ( provider != null && response != null )
         {
             // TODO resource provider lastFor not implemented yet
             // provide remote resource instance to be either persisted or cached
-            provider.persist( response, identifier.root(), parameters, locale, null );
+            trace.phase( CallTrace.PERSIST );
+            persist( provider, response, identifier.root(), parameters, locale, etag( remoteObject ) );
         }
         return response;
     }
 
+    /**
+     * Returns the ETag of the remote resource (for example {@code GenericJson}) if available.
+     */
+    private static String etag( @Nonnull Object remoteObject )
+    {
+        if ( remoteObject instanceof GenericData )
+        {
+            Object etag = ( ( GenericData ) remoteObject ).get( "etag" );
+            return etag instanceof String ? ( String ) etag : null;
+        }
+        return null;
+    }
+
+    /**
+     * Prepares the duplicate of the GET request to be sent as a hedge, with the same headers as the original one.
+     */
+    private Callable<Object> duplicateGet( @Nonnull GetExecutorAdaptee<?> adaptee,
+                                           @Nonnull Object remoteRequest,
+                                           @Nonnull Identifier identifier,
+                                           @Nonnull Map<String, Object> parameters,
+                                           @Nullable Locale locale )
+            throws IOException
+    {
+        Object duplicate = adaptee.prepareGet( identifier );
+        if ( duplicate instanceof AbstractGoogleClientRequest && remoteRequest instanceof AbstractGoogleClientRequest )
+        {
+            HttpHeaders headers = ( ( AbstractGoogleClientRequest<?> ) remoteRequest ).getRequestHeaders();
+            ( ( AbstractGoogleClientRequest<?> ) duplicate ).getRequestHeaders().putAll( headers );
+        }
+        return () -> adaptee.executeGet( duplicate, parameters, locale );
+    }
+
     @Override
     public <T> ListRequest<T> list( @Nonnull Class<T> resource )
     {
@@ -442,6 +1028,7 @@ public class RestFacadeAdapter
     {
         ListExecutorAdaptee<?> adaptee = adaptee( ListExecutorAdaptee.class, checkNotNull( resource ) );
         Object remoteRequest;
+        CallTrace trace = CallTrace.prepare( tracer, RemoteCallMetrics.Operation.LIST, resource );
         try
         {
             remoteRequest = adaptee.prepareList( parent == null ? null : parent.root() );
@@ -450,6 +1037,10 @@ public class RestFacadeAdapter
         {
             throw new ClientErrorException( e.getMessage() );
         }
+        finally
+        {
+            trace.end( null );
+        }
 
         return new ListRequest<>( resource, this, adaptee, remoteRequest );
     }
@@ -464,6 +1055,30 @@ public class RestFacadeAdapter
                                      int length,
                                      @Nullable String orderBy,
                                      @Nullable Boolean ascending )
+    {
+        String apiPrefix = apiPrefix( remoteRequest );
+        CallTrace trace = CallTrace.start( tracer, RemoteCallMetrics.Operation.LIST, apiPrefix, responseType );
+        if ( metrics == null && trace == CallTrace.NONE )
+        {
+            return executeList( adaptee, remoteRequest, responseType, headers, criteria, locale,
+                    start, length, orderBy, ascending, trace );
+        }
+        return observed( RemoteCallMetrics.Operation.LIST, apiPrefix, responseType, trace,
+                () -> executeList( adaptee, remoteRequest, responseType, headers, criteria, locale,
+                        start, length, orderBy, ascending, trace ) );
+    }
+
+    private <R> List<R> executeList( @Nonnull ListExecutorAdaptee<?> adaptee,
+                                     @Nonnull Object remoteRequest,
+                                     @Nonnull Class<R> responseType,
+                                     @Nonnull GoogleRequestHeaders headers,
+                                     @Nullable Map<String, Object> criteria,
+                                     @Nullable Locale locale,
+                                     int start,
+                                     int length,
+                                     @Nullable String orderBy,
+                                     @Nullable Boolean ascending,
+                                     @Nonnull CallTrace trace )
     {
         if ( criteria == null )
         {
@@ -478,7 +1093,9 @@ public class RestFacadeAdapter
         if ( provider != null )
         {
             // retrieve requested local list of resources
+            trace.phase( CallTrace.LOCAL );
             response = provider.list( criteria, locale, null );
+            trace.attribute( CallTrace.LOCAL_HIT, response != null );
             requestForPersist = response == null;
         }
 
@@ -487,9 +1104,10 @@ public class RestFacadeAdapter
             List<R> remoteList = null;
             try
             {
-                boolean remote = substitute == null;
+                boolean remote = !isSubstituted( RoutingSubstitute.Operation.LIST, responseType );
                 if ( !remote )
                 {
+                    trace.phase( CallTrace.SUBSTITUTE );
                     try
                     {
                         remoteList = substitute.list( remoteRequest, responseType, criteria,
@@ -503,38 +1121,245 @@ public class RestFacadeAdapter
 
                 if ( remote )
                 {
+                    trace.phase( CallTrace.AUTH );
                     headers.setAuthorizationIf( this::getTokenProvider );
+                    trace.remote( remoteRequest );
+                    Map<String, Object> filter = criteria;
                     //noinspection unchecked
-                    remoteList = ( List<R> ) adaptee.executeList( remoteRequest, criteria, locale, start, length, orderBy, ascending );
+                    remoteList = ( List<R> ) guarded( apiPrefix( remoteRequest ), headers.getDeadline(),
+                            () -> adaptee.executeList( remoteRequest, filter, locale, start, length, orderBy, ascending ) );
                 }
             }
             catch ( IOException e )
             {
-                throw prepareRetrievalException( e, responseType, null );
+                throw prepareRetrievalException( e, responseType, null );
+            }
+            if ( remoteList == null || remoteList.isEmpty() )
+            {
+                response = Lists.newArrayList();
+            }
+            else
+            {
+                if ( remoteList.get( 0 ).getClass() == responseType )
+                {
+                    response = remoteList;
+                }
+                else
+                {
+                    trace.mapping( remoteList.get( 0 ) );
+                    response = mapper.mapAsList( remoteList, responseType );
+                }
+            }
+        }
+
+        if ( requestForPersist && response != null && !response.isEmpty() )
+        {
+            // provide remote list of resource to be either persisted or cached
+            trace.phase( CallTrace.PERSIST );
+            persistList( provider, response, criteria, locale );
+        }
+        return response;
+    }
+
+    /**
+     * Provides the remote resource to the local resource provider to be either persisted or cached,
+     * in background if write-behind is enabled.
+     */
+    <R> void persist( @Nonnull LocalResourceProvider<R> provider,
+                      @Nonnull R resource,
+                      @Nonnull Identifier identifier,
+                      @Nullable Map<String, Object> parameters,
+                      @Nullable Locale locale )
+    {
+        persist( provider, resource, identifier, parameters, locale, null );
+    }
+
+    /**
+     * Provides the remote resource to the local resource provider, along with its ETag
+     * if the provider is a {@link StaleResourceProvider}.
+     */
+    private <R> void persist( @Nonnull LocalResourceProvider<R> provider,
+                              @Nonnull R resource,
+                              @Nonnull Identifier identifier,
+                              @Nullable Map<String, Object> parameters,
+                              @Nullable Locale locale,
+                              @Nullable String etag )
+    {
+        WriteBehindQueue writeBehind = this.writeBehind;
+        if ( writeBehind == null )
+        {
+            persist( provider, resource, identifier, parameters, locale, etag, null );
+            return;
+        }
+
+        WriteBehindQueue.Key key = new WriteBehindQueue.Key( provider, false, identifier, parameters, locale );
+        // the write runs later on, the caller might change the parameters meanwhile
+        Map<String, Object> snapshot = parameters == null ? null : key.getParameters();
+        Runnable write = () -> persist( provider, resource, identifier, snapshot, locale, etag, null );
+        if ( !writeBehind.submit( key, write, asyncExecutor() ) )
+        {
+            write.run();
+        }
+    }
+
+    private static <R> void persist( @Nonnull LocalResourceProvider<R> provider,
+                                     @Nonnull R resource,
+                                     @Nonnull Identifier identifier,
+                                     @Nullable Map<String, Object> parameters,
+                                     @Nullable Locale locale,
+                                     @Nullable String etag,
+                                     @Nullable Long lastFor )
+    {
+        if ( etag != null && provider instanceof StaleResourceProvider )
+        {
+            StaleResourceProvider<R> stale = ( StaleResourceProvider<R> ) provider;
+            stale.persist( resource, identifier, parameters, locale, lastFor, etag );
+        }
+        else
+        {
+            provider.persist( resource, identifier, parameters, locale, lastFor );
+        }
+    }
+
+    /**
+     * Provides the remote list of resources to the local resource provider to be either persisted or cached,
+     * in background if write-behind is enabled.
+     */
+    private <R> void persistList( @Nonnull LocalListResourceProvider<R> provider,
+                                  @Nonnull List<R> resources,
+                                  @Nullable Map<String, Object> criteria,
+                                  @Nullable Locale locale )
+    {
+        WriteBehindQueue writeBehind = this.writeBehind;
+        if ( writeBehind == null )
+        {
+            provider.persistList( resources, criteria, locale, null );
+            return;
+        }
+
+        WriteBehindQueue.Key key = new WriteBehindQueue.Key( provider, true, null, criteria, locale );
+        // the write runs later on, the caller might change the criteria meanwhile
+        Map<String, Object> snapshot = criteria == null ? null : key.getParameters();
+        Runnable write = () -> provider.persistList( resources, snapshot, locale, null );
+        if ( !writeBehind.submit( key, write, asyncExecutor() ) )
+        {
+            write.run();
+        }
+    }
+
+    /**
+     * Returns the lazy iterator over all pages of the list, see {@link PagedListRequest}.
+     *
+     * @param start    the number of items to be skipped, negative for none
+     * @param prefetch the number of pages to be fetched ahead in background, zero to fetch on demand
+     * @throws UnsupportedOperationException if the adaptee is not a {@link PagedListExecutorAdaptee}
+     *                                       and the list is not substituted
+     */
+    <R> Iterator<R> callbackIterateList( @Nonnull ListExecutorAdaptee<?> adaptee,
+                                         @Nonnull Object remoteRequest,
+                                         @Nonnull Class<R> responseType,
+                                         @Nonnull GoogleRequestHeaders headers,
+                                         @Nullable Map<String, Object> criteria,
+                                         @Nullable Locale locale,
+                                         int start,
+                                         int length,
+                                         @Nullable String orderBy,
+                                         @Nullable Boolean ascending,
+                                         int prefetch )
+    {
+        Map<String, Object> params = criteria == null ? new HashMap<>() : criteria;
+        boolean substituted = isSubstituted( RoutingSubstitute.Operation.LIST, responseType );
+
+        if ( !( adaptee instanceof PagedListExecutorAdaptee ) && !substituted )
+        {
+            // the single list result would be silently truncated to the first page
+            throw new UnsupportedOperationException( "The list adaptee " + adaptee.getClass().getName()
+                    + " does not support paging, implement " + PagedListExecutorAdaptee.class.getSimpleName() );
+        }
+
+        if ( substituted || getExistingListResourceProvider( checkNotNull( responseType ) ) != null )
+        {
+            return callbackExecuteList( adaptee, remoteRequest, responseType, headers, params, locale,
+                    start, length, orderBy, ascending ).iterator();
+        }
+
+        PagedListExecutorAdaptee<?> paged = ( PagedListExecutorAdaptee<?> ) adaptee;
+        Integer pageSize = length > 0 ? length : null;
+
+        headers.setAuthorizationIf( this::getTokenProvider );
+        String apiPrefix = apiPrefix( remoteRequest );
+        PageIterator.PageFetcher<R> fetcher = pageToken -> {
+            // each page is being observed as a single LIST operation
+            CallTrace trace = CallTrace.start( tracer, RemoteCallMetrics.Operation.LIST, apiPrefix, responseType );
+            if ( metrics == null && trace == CallTrace.NONE )
+            {
+                return fetchPage( paged, remoteRequest, responseType, headers, params, locale, pageSize, pageToken,
+                        apiPrefix, trace );
             }
-            if ( remoteList == null || remoteList.isEmpty() )
+            return observed( RemoteCallMetrics.Operation.LIST, apiPrefix, responseType, trace,
+                    () -> fetchPage( paged, remoteRequest, responseType, headers, params, locale, pageSize, pageToken,
+                            apiPrefix, trace ) );
+        };
+
+        Iterator<R> iterator = prefetch > 0
+                ? new PrefetchPageIterator<>( fetcher, asyncExecutor(), prefetch, prefetchWaitNanos )
+                : new PageIterator<>( fetcher );
+
+        if ( start > 0 )
+        {
+            // the page token has no offset, the leading items are fetched and skipped
+            try
             {
-                response = Lists.newArrayList();
+                Iterators.advance( iterator, start );
             }
-            else
+            catch ( RuntimeException | Error e )
             {
-                if ( remoteList.get( 0 ).getClass() == responseType )
-                {
-                    response = remoteList;
-                }
-                else
+                if ( iterator instanceof PrefetchPageIterator )
                 {
-                    response = mapper.mapAsList( remoteList, responseType );
+                    ( ( PrefetchPageIterator<R> ) iterator ).close();
                 }
+                throw e;
             }
         }
+        return iterator;
+    }
 
-        if ( requestForPersist && response != null && !response.isEmpty() )
+    private <R> ListPage<R> fetchPage( @Nonnull PagedListExecutorAdaptee<?> paged,
+                                       @Nonnull Object remoteRequest,
+                                       @Nonnull Class<R> responseType,
+                                       @Nonnull GoogleRequestHeaders headers,
+                                       @Nonnull Map<String, Object> params,
+                                       @Nullable Locale locale,
+                                       @Nullable Integer pageSize,
+                                       @Nullable String pageToken,
+                                       @Nonnull String apiPrefix,
+                                       @Nonnull CallTrace trace )
+    {
+        ListPage<?> page;
+        try
         {
-            // provide remote list of resource to be either persisted or cached
-            provider.persistList( response, criteria, locale, null );
+            trace.remote( remoteRequest );
+            page = guarded( apiPrefix, headers.getDeadline(),
+                    () -> paged.executeListPage( remoteRequest, params, locale, pageSize, pageToken ) );
         }
-        return response;
+        catch ( IOException e )
+        {
+            throw prepareRetrievalException( e, responseType, null );
+        }
+
+        List<?> items = page.getItems();
+        List<R> response;
+        if ( items.isEmpty() || items.get( 0 ).getClass() == responseType )
+        {
+            //noinspection unchecked
+            response = ( List<R> ) items;
+        }
+        else
+        {
+            trace.mapping( items.get( 0 ) );
+            response = mapper.mapAsList( items, responseType );
+        }
+        return new ListPage<>( response, page.getNextPageToken() );
     }
 
     @Override
@@ -566,8 +1391,9 @@ public class RestFacadeAdapter
         }
 
         @SuppressWarnings( "unchecked" )
-        InsertExecutorAdaptee<Object> adaptee = adaptee( InsertExecutorAdaptee.class, resource.getClass() );
+        InsertExecutorAdaptee<Object> adaptee = adaptee( InsertExecutorAdaptee.class, resource.getClass(), remoteResource );
         Object remoteRequest;
+        CallTrace trace = CallTrace.prepare( tracer, RemoteCallMetrics.Operation.INSERT, resource.getClass() );
         try
         {
             remoteRequest = adaptee.prepareInsert( source, parentKey == null ? null : parentKey.root(), provider );
@@ -576,6 +1402,10 @@ public class RestFacadeAdapter
         {
             throw new ClientErrorException( e.getMessage() );
         }
+        finally
+        {
+            trace.end( null );
+        }
 
         @SuppressWarnings( "unchecked" )
         Class<T> resourceClass = ( Class<T> ) resource.getClass();
@@ -589,13 +1419,34 @@ public class RestFacadeAdapter
                                  @Nonnull GoogleRequestHeaders headers,
                                  @Nullable Map<String, Object> parameters,
                                  @Nullable Locale locale )
+    {
+        String apiPrefix = apiPrefix( remoteRequest );
+        CallTrace trace = CallTrace.start( tracer, RemoteCallMetrics.Operation.INSERT, apiPrefix, responseType );
+        if ( metrics == null && trace == CallTrace.NONE )
+        {
+            return executeInsert( adaptee, remoteRequest, responseType, parentKey, headers, parameters, locale, trace );
+        }
+        return observed( RemoteCallMetrics.Operation.INSERT, apiPrefix, responseType, trace,
+                () -> executeInsert( adaptee, remoteRequest, responseType, parentKey, headers, parameters,
+                        locale, trace ) );
+    }
+
+    private <R> R executeInsert( @Nonnull InsertExecutorAdaptee<?> adaptee,
+                                 @Nonnull Object remoteRequest,
+                                 @Nonnull Class<R> responseType,
+                                 @Nullable Identifier parentKey,
+                                 @Nonnull GoogleRequestHeaders headers,
+                                 @Nullable Map<String, Object> parameters,
+                                 @Nullable Locale locale,
+                                 @Nonnull CallTrace trace )
     {
         Object source = null;
         try
         {
-            boolean remote = substitute == null;
+            boolean remote = !isSubstituted( RoutingSubstitute.Operation.INSERT, responseType );
             if ( !remote )
             {
+                trace.phase( CallTrace.SUBSTITUTE );
                 try
                 {
                     source = substitute.insert( checkNotNull( remoteRequest ),
@@ -612,8 +1463,11 @@ public class RestFacadeAdapter
 
             if ( remote )
             {
+                trace.phase( CallTrace.AUTH );
                 headers.setAuthorizationIf( this::getTokenProvider );
-                source = adaptee.executeInsert( remoteRequest, parameters, locale );
+                trace.remote( remoteRequest );
+                source = guarded( apiPrefix( remoteRequest ), headers.getDeadline(),
+                        () -> adaptee.executeInsert( remoteRequest, parameters, locale ) );
             }
         }
         catch ( IOException e )
@@ -621,6 +1475,8 @@ public class RestFacadeAdapter
             throw prepareUpdateException( e, responseType, parentKey );
         }
 
+        coherent( responseType, null, null, parameters, locale, trace );
+
         if ( source == null )
         {
             return null;
@@ -633,6 +1489,7 @@ public class RestFacadeAdapter
         }
         else
         {
+            trace.mapping( source );
             return mapper.map( source, responseType );
         }
     }
@@ -660,8 +1517,9 @@ public class RestFacadeAdapter
         }
 
         @SuppressWarnings( "unchecked" )
-        UpdateExecutorAdaptee<Object> adaptee = adaptee( UpdateExecutorAdaptee.class, resource.getClass() );
+        UpdateExecutorAdaptee<Object> adaptee = adaptee( UpdateExecutorAdaptee.class, resource.getClass(), remoteResource );
         Object remoteRequest;
+        CallTrace trace = CallTrace.prepare( tracer, RemoteCallMetrics.Operation.UPDATE, resource.getClass() );
         try
         {
             String errorMessage = "Identifier for UPDATE operation cannot be null.";
@@ -671,6 +1529,10 @@ public class RestFacadeAdapter
         {
             throw new ClientErrorException( e.getMessage() );
         }
+        finally
+        {
+            trace.end( null );
+        }
 
         @SuppressWarnings( "unchecked" )
         Class<T> resourceClass = ( Class<T> ) resource.getClass();
@@ -684,13 +1546,35 @@ public class RestFacadeAdapter
                                  @Nonnull GoogleRequestHeaders headers,
                                  @Nullable Map<String, Object> parameters,
                                  @Nullable Locale locale )
+    {
+        String apiPrefix = apiPrefix( remoteRequest );
+        CallTrace trace = CallTrace.start( tracer, RemoteCallMetrics.Operation.UPDATE, apiPrefix, responseType );
+        if ( metrics == null && trace == CallTrace.NONE )
+        {
+            return executeUpdate( adaptee, remoteRequest, responseType, identifier, headers, parameters,
+                    locale, trace );
+        }
+        return observed( RemoteCallMetrics.Operation.UPDATE, apiPrefix, responseType, trace,
+                () -> executeUpdate( adaptee, remoteRequest, responseType, identifier, headers, parameters,
+                        locale, trace ) );
+    }
+
+    private <R> R executeUpdate( @Nonnull UpdateExecutorAdaptee<?> adaptee,
+                                 @Nonnull Object remoteRequest,
+                                 @Nonnull Class<R> responseType,
+                                 @Nonnull Object identifier,
+                                 @Nonnull GoogleRequestHeaders headers,
+                                 @Nullable Map<String, Object> parameters,
+                                 @Nullable Locale locale,
+                                 @Nonnull CallTrace trace )
     {
         Object source = null;
         try
         {
-            boolean remote = substitute == null;
+            boolean remote = !isSubstituted( RoutingSubstitute.Operation.UPDATE, responseType );
             if ( !remote )
             {
+                trace.phase( CallTrace.SUBSTITUTE );
                 try
                 {
                     source = substitute.update( checkNotNull( remoteRequest ), checkNotNull( responseType ), checkNotNull( identifier ), parameters, locale );
@@ -703,8 +1587,11 @@ public class RestFacadeAdapter
 
             if ( remote )
             {
+                trace.phase( CallTrace.AUTH );
                 headers.setAuthorizationIf( this::getTokenProvider );
-                source = adaptee.executeUpdate( remoteRequest, parameters, locale );
+                trace.remote( remoteRequest );
+                source = guarded( apiPrefix( remoteRequest ), headers.getDeadline(),
+                        () -> adaptee.executeUpdate( remoteRequest, parameters, locale ) );
             }
         }
         catch ( IOException e )
@@ -712,20 +1599,24 @@ public class RestFacadeAdapter
             throw prepareUpdateException( e, responseType, identifier );
         }
 
+        R response;
         if ( source == null )
         {
-            return null;
+            response = null;
         }
-
-        if ( source.getClass() == responseType )
+        else if ( source.getClass() == responseType )
         {
             //noinspection unchecked
-            return ( R ) source;
+            response = ( R ) source;
         }
         else
         {
-            return mapper.map( source, responseType );
+            trace.mapping( source );
+            response = mapper.map( source, responseType );
         }
+
+        coherent( responseType, identifier, response, parameters, locale, trace );
+        return response;
     }
 
     @Override
@@ -781,6 +1672,7 @@ public class RestFacadeAdapter
     {
         DeleteExecutorAdaptee<?> adaptee = adaptee( DeleteExecutorAdaptee.class, checkNotNull( resource ) );
         Object remoteRequest;
+        CallTrace trace = CallTrace.prepare( tracer, RemoteCallMetrics.Operation.DELETE, resource );
         try
         {
             String errorMessage = "Identifier for DELETE operation cannot be null.";
@@ -790,26 +1682,56 @@ public class RestFacadeAdapter
         {
             throw new ClientErrorException( e.getMessage() );
         }
+        finally
+        {
+            trace.end( null );
+        }
 
         // by default response type is not being provided (resulting in null), client can configure if expected
         //noinspection rawtypes
-        return new DeleteRequest( identifier, this, adaptee, remoteRequest );
+        return new DeleteRequest( resource, identifier, this, adaptee, remoteRequest );
     }
 
     <R> R callbackExecuteDelete( @Nonnull DeleteExecutorAdaptee<?> adaptee,
                                  @Nonnull Object remoteRequest,
+                                 @Nullable Class<?> resource,
                                  @Nonnull Object identifier,
                                  @Nonnull GoogleRequestHeaders headers,
                                  @Nullable Class<R> responseType,
                                  @Nullable Map<String, Object> parameters,
                                  @Nullable Locale locale )
+    {
+        // without response type the resource is being identified by the remote request
+        Class<?> traced = responseType == null ? remoteRequest.getClass() : responseType;
+        String apiPrefix = apiPrefix( remoteRequest );
+        CallTrace trace = CallTrace.start( tracer, RemoteCallMetrics.Operation.DELETE, apiPrefix, traced );
+        if ( metrics == null && trace == CallTrace.NONE )
+        {
+            return executeDelete( adaptee, remoteRequest, resource, identifier, headers, responseType, parameters,
+                    locale, trace );
+        }
+        return observed( RemoteCallMetrics.Operation.DELETE, apiPrefix, traced, trace,
+                () -> executeDelete( adaptee, remoteRequest, resource, identifier, headers, responseType,
+                        parameters, locale, trace ) );
+    }
+
+    private <R> R executeDelete( @Nonnull DeleteExecutorAdaptee<?> adaptee,
+                                 @Nonnull Object remoteRequest,
+                                 @Nullable Class<?> resource,
+                                 @Nonnull Object identifier,
+                                 @Nonnull GoogleRequestHeaders headers,
+                                 @Nullable Class<R> responseType,
+                                 @Nullable Map<String, Object> parameters,
+                                 @Nullable Locale locale,
+                                 @Nonnull CallTrace trace )
     {
         Object response = null;
         try
         {
-            boolean remote = substitute == null;
+            boolean remote = !isSubstituted( RoutingSubstitute.Operation.DELETE, resource );
             if ( !remote )
             {
+                trace.phase( CallTrace.SUBSTITUTE );
                 try
                 {
                     response = substitute.delete( checkNotNull( remoteRequest ),
@@ -826,8 +1748,11 @@ public class RestFacadeAdapter
 
             if ( remote )
             {
+                trace.phase( CallTrace.AUTH );
                 headers.setAuthorizationIf( this::getTokenProvider );
-                response = adaptee.executeDelete( remoteRequest, parameters, locale );
+                trace.remote( remoteRequest );
+                response = guarded( apiPrefix( remoteRequest ), headers.getDeadline(),
+                        () -> adaptee.executeDelete( remoteRequest, parameters, locale ) );
             }
         }
         catch ( IOException e )
@@ -835,6 +1760,11 @@ public class RestFacadeAdapter
             throw prepareUpdateException( e, responseType, identifier );
         }
 
+        if ( resource != null )
+        {
+            coherent( resource, identifier, null, parameters, locale, trace );
+        }
+
         if ( responseType == null || response == null )
         {
             return null;
@@ -847,50 +1777,218 @@ public class RestFacadeAdapter
         }
         else
         {
+            trace.mapping( response );
             return mapper.map( response, responseType );
         }
     }
 
-    private RuntimeException prepareRetrievalException( IOException e, Class<?> resource, @Nullable Object identifier )
+    /**
+     * Keeps the local resource providers of the resource type coherent after a successful batched write,
+     * see {@link #coherent(Class, Object, Object, Map, Locale, CallTrace)}.
+     *
+     * @param resource   the resource type
+     * @param identifier the identifier of the updated or deleted resource, {@code null} for insert
+     * @param response   the response of the update to be written through, otherwise {@code null}
+     * @param parameters the parameters of the request
+     * @param locale     the locale of the request
+     */
+    <R> void coherent( @Nonnull Class<R> resource,
+                       @Nullable Object identifier,
+                       @Nullable R response,
+                       @Nullable Map<String, Object> parameters,
+                       @Nullable Locale locale )
+    {
+        coherent( resource, identifier, response, parameters, locale, CallTrace.NONE );
+    }
+
+    /**
+     * Keeps the local resource providers of the resource type coherent after a successful write,
+     * if they are {@link EvictableResourceProvider} with a coherence other than
+     * {@link EvictableResourceProvider.Coherence#NONE}. The pending write-behind writes of the resource
+     * are discarded, while the one already running is evicted again once completed.
+     *
+     * @param resource   the resource type
+     * @param identifier the identifier of the updated or deleted resource, {@code null} for insert
+     * @param response   the response of the update to be written through, otherwise {@code null}
+     * @param parameters the parameters of the request
+     * @param locale     the locale of the request
+     * @param trace      the trace of the write
+     */
+    private <R> void coherent( @Nonnull Class<R> resource,
+                               @Nullable Object identifier,
+                               @Nullable R response,
+                               @Nullable Map<String, Object> parameters,
+                               @Nullable Locale locale,
+                               @Nonnull CallTrace trace )
+    {
+        Identifier root = identifier instanceof Identifier ? ( ( Identifier ) identifier ).root() : null;
+        boolean evicted = false;
+
+        LocalResourceProvider<R> provider = getExistingResourceProvider( resource );
+        if ( root != null && coherence( provider ) != EvictableResourceProvider.Coherence.NONE )
+        {
+            trace.phase( CallTrace.PERSIST );
+            EvictableResourceProvider evictable = ( EvictableResourceProvider ) provider;
+            discard( provider, false, root, () -> evictable.evict( root ) );
+            evictable.evict( root );
+            evicted = true;
+
+            if ( response != null && coherence( provider ) == EvictableResourceProvider.Coherence.WRITE_THROUGH )
+            {
+                persist( provider, response, root, parameters, locale );
+            }
+        }
+
+        LocalListResourceProvider<R> listProvider = getExistingListResourceProvider( resource );
+        if ( coherence( listProvider ) != EvictableResourceProvider.Coherence.NONE )
+        {
+            trace.phase( CallTrace.PERSIST );
+            EvictableResourceProvider evictable = ( EvictableResourceProvider ) listProvider;
+            discard( listProvider, true, null, () -> evictable.evictLists( root ) );
+            evictable.evictLists( root );
+            evicted = true;
+        }
+
+        InvalidationListener listener = this.invalidationListener;
+        if ( evicted && listener != null )
+        {
+            try
+            {
+                listener.onEvicted( resource, root );
+            }
+            catch ( RuntimeException e )
+            {
+                logger.warn( "Invalidation listener has failed for " + resource.getName(), e );
+            }
+        }
+    }
+
+    /**
+     * Evicts the local caches of the resource type as requested by another instance,
+     * see {@link InvalidationListener}. Only the {@link EvictableResourceProvider} with a coherence other than
+     * {@link EvictableResourceProvider.Coherence#NONE} is being evicted, the listener is not notified.
+     *
+     * @param resource   the resource type
+     * @param identifier the identifier of the evicted resource, or {@code null} to evict the lists only
+     */
+    public void evictLocal( @Nonnull Class<?> resource, @Nullable Identifier identifier )
+    {
+        checkNotNull( resource, "Resource type cannot be null" );
+
+        LocalResourceProvider<?> provider = getExistingResourceProvider( resource );
+        if ( identifier != null && coherence( provider ) != EvictableResourceProvider.Coherence.NONE )
+        {
+            EvictableResourceProvider evictable = ( EvictableResourceProvider ) provider;
+            discard( provider, false, identifier, () -> evictable.evictLocal( identifier ) );
+            evictable.evictLocal( identifier );
+        }
+
+        LocalListResourceProvider<?> listProvider = getExistingListResourceProvider( resource );
+        if ( coherence( listProvider ) != EvictableResourceProvider.Coherence.NONE )
+        {
+            EvictableResourceProvider evictable = ( EvictableResourceProvider ) listProvider;
+            discard( listProvider, true, null, () -> evictable.evictListsLocal( identifier ) );
+            evictable.evictListsLocal( identifier );
+        }
+    }
+
+    private static EvictableResourceProvider.Coherence coherence( @Nullable Object provider )
+    {
+        return provider instanceof EvictableResourceProvider
+                ? ( ( EvictableResourceProvider ) provider ).getCoherence()
+                : EvictableResourceProvider.Coherence.NONE;
+    }
+
+    /**
+     * Discards the pending write-behind writes, the eviction is being repeated once the write already running
+     * completes, as it might be stale.
+     */
+    private void discard( @Nonnull Object provider,
+                          boolean list,
+                          @Nullable Identifier identifier,
+                          @Nonnull Runnable evict )
+    {
+        WriteBehindQueue writeBehind = this.writeBehind;
+        if ( writeBehind != null )
+        {
+            writeBehind.discard( provider, list, identifier, evict );
+        }
+    }
+
+    RuntimeException prepareRetrievalException( IOException e, Class<?> resource, @Nullable Object identifier )
     {
         return prepareException( e, resource, identifier, false );
     }
 
-    private RuntimeException prepareUpdateException( IOException e, Class<?> resource, @Nullable Object identifier )
+    RuntimeException prepareUpdateException( IOException e, Class<?> resource, @Nullable Object identifier )
     {
         return prepareException( e, resource, identifier, true );
     }
 
+    /**
+     * Returns the HTTP status code of the failed remote call. The selected I/O failures are being treated
+     * as an equivalent HTTP status code, for example {@link SocketTimeoutException} as 408.
+     *
+     * @param e the exception thrown by the remote call
+     * @return the HTTP status code or {@code -1} if unknown
+     */
+    static int statusCode( @Nonnull IOException e )
+    {
+        if ( e instanceof HttpResponseException )
+        {
+            return ( ( HttpResponseException ) e ).getStatusCode();
+        }
+        if ( e instanceof SocketTimeoutException )
+        {
+            return 408;
+        }
+        if ( e instanceof UnknownHostException )
+        {
+            return HttpStatusCodes.STATUS_CODE_SERVICE_UNAVAILABLE;
+        }
+        if ( e instanceof SSLHandshakeException )
+        {
+            return HttpStatusCodes.STATUS_CODE_UNAUTHORIZED;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} if the failure with given HTTP status code is a transient one, thus the remote call
+     * might succeed once repeated. Those are the codes mapped to {@link ServiceUnavailableException}
+     * and {@link RemoteServerErrorException}, plus 429 (too many requests), 502 and 504 (gateway failures).
+     *
+     * @param statusCode the HTTP status code
+     * @return true if the remote call might be retried
+     */
+    static boolean isTransient( int statusCode )
+    {
+        return 408 == statusCode
+                || 429 == statusCode
+                || HttpStatusCodes.STATUS_CODE_SERVER_ERROR == statusCode
+                || HttpStatusCodes.STATUS_CODE_BAD_GATEWAY == statusCode
+                || HttpStatusCodes.STATUS_CODE_SERVICE_UNAVAILABLE == statusCode
+                || 504 == statusCode;
+    }
+
     private RuntimeException prepareException( IOException e,
                                                @Nullable Class<?> resource,
                                                @Nullable Object identifier,
                                                boolean update )
     {
-        int statusCode = -1;
+        int statusCode = statusCode( e );
         String statusMessage;
 
         RuntimeException toBeThrown;
 
         if ( e instanceof HttpResponseException )
         {
-            statusCode = ( ( HttpResponseException ) e ).getStatusCode();
             statusMessage = ( ( HttpResponseException ) e ).getStatusMessage();
         }
-        else if ( e instanceof SocketTimeoutException )
-        {
-            statusCode = 408;
-            statusMessage = e.getMessage();
-        }
         else if ( e instanceof UnknownHostException )
         {
-            statusCode = HttpStatusCodes.STATUS_CODE_SERVICE_UNAVAILABLE;
             statusMessage = "Unknown host: " + e.getMessage();
         }
-        else if ( e instanceof SSLHandshakeException )
-        {
-            statusCode = HttpStatusCodes.STATUS_CODE_UNAUTHORIZED;
-            statusMessage = e.getMessage();
-        }
         else
         {
             statusMessage = e.getMessage();
@@ -955,7 +2053,14 @@ public class RestFacadeAdapter
 
     private <A> A adaptee( Class<A> adapteeType, Class<?> resource )
     {
-        Class<?> remoteResource = evaluateRemoteResource( resource );
+        return adaptee( adapteeType, resource, evaluateRemoteResource( resource ) );
+    }
+
+    /**
+     * Returns the adaptee for already evaluated remote resource, see {@link #evaluateRemoteResource(Class)}.
+     */
+    private <A> A adaptee( Class<A> adapteeType, Class<?> resource, Class<?> remoteResource )
+    {
         A adaptee = getExecutorAdaptee( adapteeType, remoteResource );
 
         if ( adaptee == null && remoteResource == resource )
@@ -986,18 +2091,8 @@ public class RestFacadeAdapter
      */
     <T> LocalResourceProvider<T> getExistingResourceProvider( @Nonnull Class<T> resource )
     {
-        LocalResourceProvider<T> provider = null;
-
-        ParameterizedType pt = Types.newParameterizedType( LocalResourceProvider.class, resource );
-        Binding<?> binding = injector.getExistingBinding( Key.get( TypeLiteral.get( pt ) ) );
-
-        if ( binding != null )
-        {
-            //noinspection unchecked
-            provider = ( LocalResourceProvider<T> ) binding.getProvider().get();
-        }
-
-        return provider;
+        //noinspection unchecked
+        return registry.get( LocalResourceProvider.class, resource );
     }
 
     /**
@@ -1009,18 +2104,146 @@ public class RestFacadeAdapter
      */
     <T> LocalListResourceProvider<T> getExistingListResourceProvider( @Nonnull Class<T> resource )
     {
-        LocalListResourceProvider<T> provider = null;
+        //noinspection unchecked
+        return registry.get( LocalListResourceProvider.class, resource );
+    }
 
-        ParameterizedType pt = Types.newParameterizedType( LocalListResourceProvider.class, resource );
-        Binding<?> binding = injector.getExistingBinding( Key.get( TypeLiteral.get( pt ) ) );
+    /**
+     * Returns the number of {@link LocalResourceProvider} and {@link LocalListResourceProvider} lookups
+     * served from the cache, including the remembered misses, thus without a Guice binding lookup.
+     *
+     * @return the number of avoided local resource provider binding lookups
+     */
+    public long getLocalProviderLookupsAvoided()
+    {
+        return registry.avoided( LocalResourceProvider.class ) + registry.avoided( LocalListResourceProvider.class );
+    }
 
-        if ( binding != null )
-        {
-            //noinspection unchecked
-            provider = ( LocalListResourceProvider<T> ) binding.getProvider().get();
-        }
+    /**
+     * Returns the number of {@link LocalResourceProvider} and {@link LocalListResourceProvider} lookups
+     * that had to be resolved by Guice (at most once per resource type).
+     *
+     * @return the number of local resource provider binding lookups
+     */
+    public long getLocalProviderLookupsResolved()
+    {
+        return registry.resolved( LocalResourceProvider.class ) + registry.resolved( LocalListResourceProvider.class );
+    }
+
+    /**
+     * Returns the number of GET requests served by an identical GET request already in flight,
+     * thus without a remote call of its own. Always zero unless {@link Constants#COALESCE_GET} is enabled.
+     *
+     * @return the number of coalesced GET requests
+     */
+    public long getCoalescedGets()
+    {
+        GetCoalescer coalescer = this.coalescer;
+        return coalescer == null ? 0 : coalescer.coalesced();
+    }
+
+    /**
+     * Returns the number of GET requests served by a stale resource of the {@link StaleResourceProvider}
+     * without waiting for the remote call.
+     *
+     * @return the number of GET requests served stale
+     */
+    public long getStaleGets()
+    {
+        return revalidator.served();
+    }
+
+    /**
+     * Returns the number of conditional GET requests answered by {@code 304 Not Modified},
+     * served by the cached resource without parsing and mapping.
+     *
+     * @return the number of not modified GET requests
+     */
+    public long getNotModifiedGets()
+    {
+        return notModifiedGets.sum();
+    }
+
+    /**
+     * Returns the number of background refreshes of the stale resources that have failed.
+     *
+     * @return the number of failed refreshes
+     */
+    public long getStaleRefreshFailures()
+    {
+        return revalidator.failures();
+    }
+
+    /**
+     * Returns the number of the local resource provider writes waiting in the write-behind queue.
+     * Always zero unless {@link Constants#WRITE_BEHIND} is enabled.
+     *
+     * @return the depth of the write-behind queue
+     */
+    public int getWriteBehindQueueDepth()
+    {
+        WriteBehindQueue writeBehind = this.writeBehind;
+        return writeBehind == null ? 0 : writeBehind.depth();
+    }
+
+    /**
+     * Returns the number of queued writes replaced by a later write of the same resource,
+     * thus never executed. Always zero unless {@link Constants#WRITE_BEHIND} is enabled.
+     *
+     * @return the number of coalesced writes
+     */
+    public long getWriteBehindCoalesced()
+    {
+        WriteBehindQueue writeBehind = this.writeBehind;
+        return writeBehind == null ? 0 : writeBehind.coalesced();
+    }
+
+    /**
+     * Returns the number of writes dropped as the write-behind queue was full,
+     * see {@link Constants#WRITE_BEHIND_DROP}.
+     *
+     * @return the number of dropped writes
+     */
+    public long getWriteBehindDropped()
+    {
+        WriteBehindQueue writeBehind = this.writeBehind;
+        return writeBehind == null ? 0 : writeBehind.dropped();
+    }
+
+    /**
+     * Returns the number of the background writes that have failed. Always zero unless
+     * {@link Constants#WRITE_BEHIND} is enabled, otherwise the write failure is propagated to the caller.
+     *
+     * @return the number of failed writes
+     */
+    public long getWriteBehindFailures()
+    {
+        WriteBehindQueue writeBehind = this.writeBehind;
+        return writeBehind == null ? 0 : writeBehind.failures();
+    }
+
+    /**
+     * Returns the number of hedged GET requests sent, a duplicate sent once the original request
+     * has not completed within the configured latency percentile. Always zero unless hedging is enabled,
+     * see {@link GoogleApiProxyFactory#isHedgeOn(String)}.
+     *
+     * @return the number of hedged GET requests
+     */
+    public long getHedgedGets()
+    {
+        return hedger.hedged();
+    }
 
-        return provider;
+    /**
+     * Returns the total time the consumers of the prefetching list iterators spent waiting
+     * for a page to be fetched, see {@link PagedListRequest#iterate(int, int)}.
+     *
+     * @param unit the time unit of the result
+     * @return the total wait time
+     */
+    public long getPrefetchWaitTime( @Nonnull TimeUnit unit )
+    {
+        return unit.convert( prefetchWaitNanos.sum(), TimeUnit.NANOSECONDS );
     }
 
     /**
@@ -1033,34 +2256,28 @@ public class RestFacadeAdapter
      */
     <A> A getExecutorAdaptee( @Nonnull Class<A> adapteeType, @Nonnull Class<?> resource )
     {
-        A adaptee = null;
-
-        ParameterizedType pt = Types.newParameterizedType( adapteeType, resource );
-        Binding<?> binding = injector.getExistingBinding( Key.get( TypeLiteral.get( pt ) ) );
-
-        if ( binding != null )
-        {
-            //noinspection unchecked
-            adaptee = ( A ) binding.getProvider().get();
-        }
-        return adaptee;
+        return registry.get( adapteeType, resource );
     }
 
+    /**
+     * Returns the token provider bound for given type of the 'on behalf of' instance.
+     * If there is no {@code TokenProvider<type>} binding, the nearest binding of its superclass
+     * or interface will be returned. The resolution is cached per type.
+     *
+     * @param type the type of the 'on behalf of' instance
+     * @return the token provider or {@code null} if none has been bound
+     */
     TokenProvider<Object> getTokenProvider( @Nonnull Class<?> type )
     {
-        TokenProvider<Object> provider;
-        ParameterizedType pt = Types.newParameterizedType( TokenProvider.class, type );
-        Binding<?> binding = injector.getExistingBinding( Key.get( TypeLiteral.get( pt ) ) );
+        //noinspection unchecked
+        return registry.getAssignable( TokenProvider.class, type );
+    }
 
-        if ( binding != null )
-        {
-            //noinspection unchecked
-            provider = ( TokenProvider<Object> ) binding.getProvider().get();
-        }
-        else
-        {
-            provider = null;
-        }
-        return provider;
+    /**
+     * The remote call to the API.
+     */
+    private interface RemoteCall<R>
+    {
+        R execute() throws IOException;
     }
 }
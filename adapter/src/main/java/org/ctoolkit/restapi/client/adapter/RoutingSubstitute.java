@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The {@link Substitute} that decides up front whether to substitute the call, before any work has been done.
+ * The remote call is not being signaled by {@link Substitute.ProceedWithRemoteCall} but by returning
+ * {@code false} from {@link #substitutes(Operation, Class)}. Any {@link Substitute} method will be called only
+ * for the operation and type accepted by this predicate.
+ * <p>
+ * {@code bind( Substitute.class ).to( MyRoutingSubstituteImpl.class );}
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public interface RoutingSubstitute
+        extends Substitute
+{
+    /**
+     * Returns {@code true} if given operation for given type will be served by this substitute,
+     * {@code false} to continue with remote call.
+     *
+     * @param operation the operation to be executed
+     * @param type      the remote response type, the resource type in case of {@link Operation#DOWNLOAD},
+     *                  might be {@code null} in case of {@link Operation#DELETE}
+     * @return {@code true} to substitute the remote call
+     */
+    boolean substitutes( @Nonnull Operation operation, @Nullable Class<?> type );
+
+    /**
+     * The operations that might be substituted.
+     */
+    enum Operation
+    {
+        NEW,
+        GET,
+        LIST,
+        INSERT,
+        UPDATE,
+        DELETE,
+        DOWNLOAD
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.ctoolkit.restapi.client.Identifier;
+import org.ctoolkit.restapi.client.provider.LocalResourceProvider;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The local resource provider that is able to serve an expired resource (stale-while-revalidate).
+ * Implement it in order to avoid waiting for the remote call once the cached resource expires.
+ * <p>
+ * The GET request served by a stale resource within {@link #getMaxStaleness()} returns it immediately,
+ * while the resource is being refreshed in background by the remote call (single flight per resource),
+ * provided back via {@link #persist}. A resource stale for longer than the max staleness is treated as missing,
+ * thus the caller waits for the remote call.
+ * <p>
+ * The {@link #get} method is still being used where the stale resource is not acceptable (for example in batch),
+ * it should return the fresh resource only.
+ * <p>
+ * The expired resource returned along with its ETag is being revalidated by the conditional GET
+ * ({@code If-None-Match}), the {@code 304 Not Modified} response reuses the cached resource without mapping.
+ *
+ * @param <T> the type of the resource
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public interface StaleResourceProvider<T>
+        extends LocalResourceProvider<T>
+{
+    /**
+     * Returns the cached resource including the expired one.
+     *
+     * @param identifier the unique identifier of the resource
+     * @param params     the optional resource params
+     * @param locale     the language the client has configured to prefer in results if applicable
+     * @return the cached resource or {@code null} if not cached at all
+     */
+    @Nullable
+    CachedResource<T> getCached( @Nonnull Identifier identifier,
+                                 @Nullable Map<String, Object> params,
+                                 @Nullable Locale locale );
+
+    /**
+     * Returns the maximum time the resource might be served once expired.
+     *
+     * @return the max staleness
+     */
+    @Nonnull
+    Duration getMaxStaleness();
+
+    /**
+     * Persists the resource along with its ETag, provided once the remote GET has returned an ETag.
+     * The ETag is expected to be returned by {@link #getCached} in order to revalidate the expired resource
+     * by the conditional GET. By default the ETag is ignored.
+     *
+     * @param instance   the resource to be persisted
+     * @param identifier the unique identifier of the resource
+     * @param params     the optional resource params
+     * @param locale     the language the client has configured to prefer in results if applicable
+     * @param lastFor    the optional number of seconds the resource expires after
+     * @param etag       the ETag of the resource
+     */
+    default void persist( @Nonnull T instance,
+                          @Nonnull Identifier identifier,
+                          @Nullable Map<String, Object> params,
+                          @Nullable Locale locale,
+                          @Nullable Long lastFor,
+                          @Nonnull String etag )
+    {
+        persist( instance, identifier, params, locale, lastFor );
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The background refresh of the stale resources served by {@link StaleResourceProvider}.
+ * At most one refresh per key is in flight, a stale resource requested meanwhile is served without a refresh.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+final class StaleRevalidator
+{
+    private static final Logger logger = LoggerFactory.getLogger( StaleRevalidator.class );
+
+    private final Set<Object> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder served = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Records the stale resource has been served and starts its refresh unless already in flight.
+     *
+     * @param key      the identity of the resource
+     * @param refresh  the refresh to be executed, the remote call and the persist
+     * @param executor the executor to run the refresh
+     * @return {@code true} if refresh has been started
+     */
+    boolean revalidate( @Nonnull Object key, @Nonnull Runnable refresh, @Nonnull Executor executor )
+    {
+        checkNotNull( refresh );
+        served.increment();
+        if ( !inFlight.add( checkNotNull( key ) ) )
+        {
+            return false;
+        }
+
+        try
+        {
+            executor.execute( () -> {
+                try
+                {
+                    refresh.run();
+                }
+                catch ( RuntimeException e )
+                {
+                    failures.increment();
+                    logger.warn( "Background refresh of the stale resource has failed: " + key, e );
+                }
+                finally
+                {
+                    inFlight.remove( key );
+                }
+            } );
+            return true;
+        }
+        catch ( RejectedExecutionException e )
+        {
+            // the next stale hit will try again
+            inFlight.remove( key );
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of stale resources served.
+     */
+    long served()
+    {
+        return served.sum();
+    }
+
+    /**
+     * Returns the number of background refreshes that have failed.
+     */
+    long failures()
+    {
+        return failures.sum();
+    }
+}
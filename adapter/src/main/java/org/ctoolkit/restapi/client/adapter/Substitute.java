@@ -132,7 +132,7 @@ public interface Substitute
      * Same input parameters except Adaptee that is not provided here.
      *
      * @throws ProceedWithRemoteCall if it is preferred to continue with remote call for concrete use cases
-     * @see RestFacadeAdapter#callbackExecuteDelete(DeleteExecutorAdaptee, Object, Object,
+     * @see RestFacadeAdapter#callbackExecuteDelete(DeleteExecutorAdaptee, Object, Class, Object,
      * GoogleRequestHeaders, Class, Map, Locale)
      */
     <R> R delete( @Nonnull Object remoteRequest,
@@ -143,10 +143,24 @@ public interface Substitute
 
     /**
      * Conditional way to tell {@link RestFacadeAdapter} to continue with remote call.
+     * <p>
+     * The exception is a control flow signal only, thus it does not capture the stack trace.
+     * To avoid an allocation per call throw the shared {@link #INSTANCE}, or implement {@link RoutingSubstitute}
+     * to decide before the call.
      */
     class ProceedWithRemoteCall
             extends RuntimeException
     {
+        /**
+         * The preallocated, immutable instance.
+         */
+        public static final ProceedWithRemoteCall INSTANCE = new ProceedWithRemoteCall();
+
         private static final long serialVersionUID = 2512251444836265184L;
+
+        public ProceedWithRemoteCall()
+        {
+            super( null, null, false, false );
+        }
     }
 }
@@ -0,0 +1,521 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.ctoolkit.restapi.client.Identifier;
+import org.ctoolkit.restapi.client.provider.LocalListResourceProvider;
+import org.ctoolkit.restapi.client.provider.LocalResourceProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.cache.Cache;
+import javax.cache.CacheException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The two-tier local resource provider: an in-heap near cache ({@link InMemoryResourceProvider}, L1)
+ * with a short time to live in front of the shared JCache, typically App Engine memcache (L2).
+ * <p>
+ * A resource missing in L1 is looked up in L2 and, if found, it is cached in L1. The resource to persist
+ * goes to L1 immediately, while L2 is being written asynchronously. The list is stored in L2 by its elements,
+ * written by single {@code putAll} and read by single {@code getAll}. The instances are coherent
+ * within the L1 time to live, the L2 expiration is configured by the cache itself.
+ * <p>
+ * The updated resource is written through by default, see {@link EvictableResourceProvider}. The eviction
+ * applies to L1 of this instance, while in L2 a new generation of the identifier (or of all lists) is being
+ * written, the entries stored under the previous generation are treated as missing. The L1 of other instances
+ * stays coherent within its time to live, unless the eviction is broadcast, see {@link InvalidationListener}.
+ * The current generation is cached in L1 too, only its miss costs a synchronous L2 round trip on persist.
+ * Once evicted by another instance, the entries written meanwhile under the previous generation are not visible,
+ * thus missing in L2 until the cached generation expires.
+ * <p>
+ * The resource type must be serializable in order to be stored in L2. The L2 failures are logged,
+ * the read failure is treated as a miss. An instance serves single resource type, to enable it bind it
+ * per type in Guice:
+ * <pre>
+ * TwoTierResourceProvider&lt;Foo&gt; provider = new TwoTierResourceProvider.Builder&lt;&gt;( Foo.class, cache )
+ *         .nearCache( 1000, Duration.ofSeconds( 30 ) )
+ *         .build();
+ *
+ * bind( new TypeLiteral&lt;LocalResourceProvider&lt;Foo&gt;&gt;()
+ * {
+ * } ).toInstance( provider );
+ * bind( new TypeLiteral&lt;LocalListResourceProvider&lt;Foo&gt;&gt;()
+ * {
+ * } ).toInstance( provider );
+ * </pre>
+ *
+ * @param <T> the type of the resource
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class TwoTierResourceProvider<T>
+        implements LocalResourceProvider<T>, LocalListResourceProvider<T>, EvictableResourceProvider
+{
+    private static final Logger logger = LoggerFactory.getLogger( TwoTierResourceProvider.class );
+
+    private static final Identifier LIST = new Identifier( "ctoolkit.list" );
+
+    private final String namespace;
+
+    private final Cache cache;
+
+    private final Executor executor;
+
+    private final InMemoryResourceProvider<T> nearCache;
+
+    private final InMemoryResourceProvider<List<T>> nearListCache;
+
+    private final InMemoryResourceProvider<Object> generations;
+
+    private final Coherence coherence;
+
+    protected TwoTierResourceProvider( @Nonnull Builder<T> builder )
+    {
+        this.namespace = builder.type.getName();
+        this.cache = builder.cache;
+        this.executor = builder.executor == null ? AsyncCall.sharedExecutor() : builder.executor;
+        this.coherence = builder.coherence;
+        this.nearCache = new InMemoryResourceProvider.Builder<T>()
+                .maximumSize( builder.maximumSize )
+                .expireAfterWrite( builder.timeToLive )
+                .build();
+        this.nearListCache = new InMemoryResourceProvider.Builder<List<T>>()
+                .maximumSize( builder.maximumSize )
+                .expireAfterWrite( builder.timeToLive )
+                .build();
+        this.generations = new InMemoryResourceProvider.Builder<>()
+                .maximumSize( builder.maximumSize )
+                .expireAfterWrite( builder.timeToLive )
+                .build();
+    }
+
+    @Override
+    public T get( @Nonnull Identifier identifier,
+                  @Nullable Map<String, Object> params,
+                  @Nullable Locale locale )
+    {
+        T resource = nearCache.get( identifier, params, locale );
+        if ( resource != null )
+        {
+            return resource;
+        }
+
+        try
+        {
+            String generationKey = generationKey( identifier );
+            String key = key( identifier, params, locale );
+            //noinspection unchecked
+            Map<?, ?> entries = cache.getAll( Arrays.asList( generationKey, key ) );
+            //noinspection unchecked
+            resource = ( T ) current( entries.get( key ), entries.get( generationKey ) );
+        }
+        catch ( CacheException | RuntimeException e )
+        {
+            logger.warn( "Retrieval of the resource from the shared cache has failed: " + identifier, e );
+            return null;
+        }
+
+        if ( resource != null )
+        {
+            nearCache.persist( resource, identifier, params, locale, null );
+        }
+        return resource;
+    }
+
+    /**
+     * Caches the resource in L1 and asynchronously in L2.
+     *
+     * @param instance   the resource to be cached
+     * @param identifier the unique identifier of the resource
+     * @param params     the optional resource params
+     * @param locale     the language the client has configured to prefer in results if applicable
+     * @param lastFor    the optional number of seconds the resource expires after in L1
+     */
+    @Override
+    public void persist( @Nonnull T instance,
+                         @Nonnull Identifier identifier,
+                         @Nullable Map<String, Object> params,
+                         @Nullable Locale locale,
+                         @Nullable Long lastFor )
+    {
+        nearCache.persist( instance, identifier, params, locale, lastFor );
+
+        String key = key( identifier, params, locale );
+        Object generation = generation( identifier );
+        if ( generation != null )
+        {
+            //noinspection unchecked
+            write( () -> cache.put( key, new Object[]{generation, instance} ), key );
+        }
+    }
+
+    @Override
+    public List<T> list( @Nullable Map<String, Object> criteria,
+                         @Nullable Locale locale,
+                         @Nullable Date lastModifiedDate )
+    {
+        List<T> resources = nearListCache.get( LIST, criteria, locale );
+        if ( resources != null )
+        {
+            return resources;
+        }
+
+        String generationKey = listsGenerationKey();
+        String key = key( LIST, criteria, locale );
+        try
+        {
+            //noinspection unchecked
+            Map<?, ?> header = cache.getAll( Arrays.asList( generationKey, key ) );
+            Object size = current( header.get( key ), header.get( generationKey ) );
+            if ( !( size instanceof Integer ) )
+            {
+                return null;
+            }
+
+            List<String> keys = elementKeys( key, ( Integer ) size );
+            Map<?, ?> elements = cache.getAll( keys );
+
+            resources = new ArrayList<>( keys.size() );
+            for ( String next : keys )
+            {
+                //noinspection unchecked
+                T element = ( T ) elements.get( next );
+                if ( element == null )
+                {
+                    // partially evicted
+                    return null;
+                }
+                resources.add( element );
+            }
+        }
+        catch ( CacheException | RuntimeException e )
+        {
+            logger.warn( "Retrieval of the list from the shared cache has failed: " + criteria, e );
+            return null;
+        }
+
+        resources = Collections.unmodifiableList( resources );
+        nearListCache.persist( resources, LIST, criteria, locale, null );
+        return resources;
+    }
+
+    /**
+     * Caches the list in L1 and asynchronously in L2.
+     *
+     * @param instances the list of resources to be cached
+     * @param criteria  the optional criteria the list has been retrieved by
+     * @param locale    the language the client has configured to prefer in results if applicable
+     * @param lastFor   the optional number of seconds the list expires after in L1
+     */
+    @Override
+    public void persistList( @Nonnull List<T> instances,
+                             @Nullable Map<String, Object> criteria,
+                             @Nullable Locale locale,
+                             @Nullable Long lastFor )
+    {
+        List<T> resources = Collections.unmodifiableList( new ArrayList<>( instances ) );
+        nearListCache.persist( resources, LIST, criteria, locale, lastFor );
+
+        String key = key( LIST, criteria, locale );
+        List<String> keys = elementKeys( key, resources.size() );
+
+        Map<String, Object> entries = new HashMap<>();
+        for ( int i = 0; i < keys.size(); i++ )
+        {
+            entries.put( keys.get( i ), resources.get( i ) );
+        }
+        Object generation = generation( LIST );
+        if ( generation != null )
+        {
+            // the size is the last one, the list is not visible until all elements are written
+            //noinspection unchecked
+            write( () -> {
+                cache.putAll( entries );
+                cache.put( key, new Object[]{generation, resources.size()} );
+            }, key );
+        }
+    }
+
+    @Override
+    public void evict( @Nonnull Identifier identifier )
+    {
+        nearCache.evict( identifier );
+        generations.evict( identifier );
+        nextGeneration( generationKey( identifier ) );
+    }
+
+    @Override
+    public void evictLists( @Nullable Identifier identifier )
+    {
+        nearListCache.invalidateAll();
+        generations.evict( LIST );
+        nextGeneration( listsGenerationKey() );
+    }
+
+    /**
+     * Evicts L1 only, L2 has already been evicted by the instance that broadcast the eviction.
+     */
+    @Override
+    public void evictLocal( @Nonnull Identifier identifier )
+    {
+        nearCache.evict( identifier );
+        generations.evict( identifier );
+    }
+
+    /**
+     * Evicts the lists from L1 only, see {@link #evictLocal(Identifier)}.
+     */
+    @Override
+    public void evictListsLocal( @Nullable Identifier identifier )
+    {
+        nearListCache.invalidateAll();
+        generations.evict( LIST );
+    }
+
+    @Nonnull
+    @Override
+    public Coherence getCoherence()
+    {
+        return coherence;
+    }
+
+    /**
+     * Returns the L1 of the single resources.
+     *
+     * @return the near cache
+     */
+    public InMemoryResourceProvider<T> getNearCache()
+    {
+        return nearCache;
+    }
+
+    private void write( Runnable write, String key )
+    {
+        Runnable logged = () -> {
+            try
+            {
+                write.run();
+            }
+            catch ( RuntimeException e )
+            {
+                logger.warn( "Write to the shared cache has failed: " + key, e );
+            }
+        };
+
+        try
+        {
+            executor.execute( logged );
+        }
+        catch ( RejectedExecutionException e )
+        {
+            logged.run();
+        }
+    }
+
+    /**
+     * Returns the current generation of the identifier (or of all lists), cached in L1 as the entries are.
+     * The L1 miss reads it synchronously, thus the entry written asynchronously is not visible if evicted
+     * in between. The missing generation is seeded by a random value, added only if still absent (atomically
+     * if supported by the cache), thus a concurrent eviction is never overwritten. Returns null if failed.
+     */
+    private Object generation( Identifier identifier )
+    {
+        Object generation = generations.get( identifier, null, null );
+        if ( generation != null )
+        {
+            return generation;
+        }
+
+        String generationKey = generationKey( identifier );
+        try
+        {
+            Object seed = ThreadLocalRandom.current().nextLong();
+            //noinspection unchecked
+            Object current = cache.putIfAbsent( generationKey, seed );
+            generation = current == null ? seed : current;
+        }
+        catch ( RuntimeException e )
+        {
+            logger.warn( "Write to the shared cache has failed: " + generationKey, e );
+            return null;
+        }
+
+        generations.persist( generation, identifier, null, null, null );
+        return generation;
+    }
+
+    /**
+     * Writes a new generation synchronously, thus the next read does not see the evicted entries.
+     */
+    private void nextGeneration( String generationKey )
+    {
+        try
+        {
+            //noinspection unchecked
+            cache.put( generationKey, ThreadLocalRandom.current().nextLong() );
+        }
+        catch ( RuntimeException e )
+        {
+            logger.warn( "Eviction from the shared cache has failed: " + generationKey, e );
+        }
+    }
+
+    /**
+     * Returns the value of the L2 entry if it has been stored under the current generation, otherwise null.
+     * The missing generation (never seeded or expired) is a miss.
+     */
+    private static Object current( Object entry, Object generation )
+    {
+        if ( generation == null || !( entry instanceof Object[] ) )
+        {
+            return null;
+        }
+        Object[] generationAndValue = ( Object[] ) entry;
+        return Objects.equals( generationAndValue[0], generation ) ? generationAndValue[1] : null;
+    }
+
+    private String generationKey( Identifier identifier )
+    {
+        return namespace + "|generation|" + identifier;
+    }
+
+    private String listsGenerationKey()
+    {
+        return namespace + "|generation|" + LIST;
+    }
+
+    private String key( Identifier identifier, Map<String, Object> params, Locale locale )
+    {
+        StringBuilder key = new StringBuilder( namespace ).append( '|' ).append( identifier );
+        if ( params != null && !params.isEmpty() )
+        {
+            // the stable order of the parameters
+            key.append( '|' ).append( new TreeMap<>( params ) );
+        }
+        if ( locale != null )
+        {
+            key.append( '|' ).append( locale.toLanguageTag() );
+        }
+        return key.toString();
+    }
+
+    private static List<String> elementKeys( String key, int size )
+    {
+        List<String> keys = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            keys.add( key + '#' + i );
+        }
+        return keys;
+    }
+
+    /**
+     * The builder of the {@link TwoTierResourceProvider}.
+     *
+     * @param <T> the type of the resource
+     */
+    public static class Builder<T>
+    {
+        private final Class<T> type;
+
+        private final Cache cache;
+
+        private long maximumSize = 1000;
+
+        private Duration timeToLive = Duration.ofSeconds( 30 );
+
+        private Executor executor;
+
+        private Coherence coherence = Coherence.WRITE_THROUGH;
+
+        /**
+         * @param type  the type of the resource, its name is the namespace of the keys in L2
+         * @param cache the shared cache (L2), see {@code JCacheProvider}
+         */
+        public Builder( @Nonnull Class<T> type, @Nonnull Cache cache )
+        {
+            this.type = checkNotNull( type, "Type cannot be null" );
+            this.cache = checkNotNull( cache, "Cache cannot be null" );
+        }
+
+        /**
+         * Sets the maximum size and the time to live of the near cache (L1), 1000 resources for 30 seconds
+         * by default. The same applies for the lists.
+         *
+         * @param maximumSize the maximum number of resources in L1
+         * @param timeToLive  the time the resource expires after in L1
+         * @return this builder
+         */
+        public Builder<T> nearCache( long maximumSize, @Nonnull Duration timeToLive )
+        {
+            checkArgument( maximumSize >= 0, "Maximum size cannot be negative" );
+            this.maximumSize = maximumSize;
+            this.timeToLive = checkNotNull( timeToLive, "Time to live cannot be null" );
+            return this;
+        }
+
+        /**
+         * Sets the executor of the L2 writes, the facade's default executor if not set.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder<T> executor( @Nonnull Executor executor )
+        {
+            this.executor = checkNotNull( executor, "Executor cannot be null" );
+            return this;
+        }
+
+        /**
+         * Sets how the cached resources are kept coherent after a successful write, defaults to
+         * {@link Coherence#WRITE_THROUGH}.
+         *
+         * @param coherence the coherence policy
+         * @return this builder
+         */
+        public Builder<T> coherence( @Nonnull Coherence coherence )
+        {
+            this.coherence = checkNotNull( coherence, "Coherence cannot be null" );
+            return this;
+        }
+
+        public TwoTierResourceProvider<T> build()
+        {
+            return new TwoTierResourceProvider<>( this );
+        }
+    }
+}
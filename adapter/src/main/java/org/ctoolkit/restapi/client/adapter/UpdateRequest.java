@@ -31,6 +31,8 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -40,7 +42,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
  */
 class UpdateRequest<T>
-        implements PayloadRequest<T>
+        implements PayloadRequest<T>, AsyncRequest<T>, BatchableRequest<T>, DeadlineRequest<T>
 {
     private final Class<T> resource;
 
@@ -119,6 +121,32 @@ class UpdateRequest<T>
         return adapter.callbackExecuteUpdate( adaptee, remoteRequest, resource, identifier, filler, params, locale );
     }
 
+    @Override
+    public CompletableFuture<T> finishAsync()
+    {
+        return finishAsync( null, withLocale );
+    }
+
+    @Override
+    public CompletableFuture<T> finishAsync( @Nullable Map<String, Object> parameters, @Nullable Locale locale )
+    {
+        return adapter.callbackAsync( () -> finish( parameters, locale ) );
+    }
+
+    @Override
+    public CompletableFuture<T> finishAsync( long timeout, @Nonnull TimeUnit unit )
+    {
+        return adapter.callbackAsync( () -> finish( null, withLocale ), timeout, unit );
+    }
+
+    @Override
+    public CompletableFuture<T> queue( @Nonnull RequestBatch batch )
+    {
+        filler.acceptLanguage( withLocale );
+        return batch.queue( remoteRequest, resource, identifier, filler, params,
+                response -> adapter.coherent( resource, identifier, response, params, withLocale ) );
+    }
+
     @Override
     public Request<T> configWith( @Nonnull Properties properties )
     {
@@ -171,6 +199,13 @@ class UpdateRequest<T>
         return this;
     }
 
+    @Override
+    public Request<T> withDeadline( @Nonnull Deadline deadline )
+    {
+        filler.setDeadline( checkNotNull( deadline, "Deadline cannot be null" ) );
+        return this;
+    }
+
     @Override
     public AuthRequest<T> authBy( @Nonnull String token )
     {
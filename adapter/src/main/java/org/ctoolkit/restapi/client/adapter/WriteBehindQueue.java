@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The bounded queue of the local resource provider writes (persist) drained in background, see
+ * {@link Constants#WRITE_BEHIND}. The writes are being executed one by one in order of submission, by at most
+ * one drain task at a time.
+ * <p>
+ * A write with an equal {@link Key} to a write still waiting in the queue replaces it (keeps its position),
+ * thus only the latest one is being executed. Once the queue is full, the write is either rejected
+ * to be executed by the caller (back-pressure, default) or dropped, see {@link Constants#WRITE_BEHIND_DROP}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+final class WriteBehindQueue
+{
+    private static final Logger logger = LoggerFactory.getLogger( WriteBehindQueue.class );
+
+    private final int capacity;
+
+    private final Map<Key, Runnable> pending = new LinkedHashMap<>();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private volatile boolean dropWhenFull;
+
+    private boolean draining;
+
+    private Key running;
+
+    private Runnable afterRunning;
+
+    WriteBehindQueue( int capacity, boolean dropWhenFull )
+    {
+        checkArgument( capacity > 0, "Capacity must be positive" );
+        this.capacity = capacity;
+        this.dropWhenFull = dropWhenFull;
+    }
+
+    /**
+     * Submits the write to be executed in background.
+     *
+     * @param key      the identity of the write
+     * @param write    the write to be executed
+     * @param executor the executor to run the drain task if not running yet
+     * @return {@code false} if the queue is full and the write has to be executed by the caller,
+     * otherwise {@code true} (queued, coalesced or dropped)
+     */
+    boolean submit( @Nonnull Key key, @Nonnull Runnable write, @Nonnull Executor executor )
+    {
+        checkNotNull( write );
+        synchronized ( this )
+        {
+            if ( pending.containsKey( checkNotNull( key ) ) )
+            {
+                pending.put( key, write );
+                coalesced.increment();
+                return true;
+            }
+
+            if ( pending.size() >= capacity )
+            {
+                if ( dropWhenFull )
+                {
+                    dropped.increment();
+                    logger.warn( "Write-behind queue is full, write has been dropped: " + key );
+                    return true;
+                }
+                return false;
+            }
+
+            pending.put( key, write );
+            if ( draining )
+            {
+                return true;
+            }
+            draining = true;
+        }
+
+        try
+        {
+            executor.execute( this::drain );
+        }
+        catch ( RejectedExecutionException e )
+        {
+            // back-pressure, drained by the caller
+            drain();
+        }
+        return true;
+    }
+
+    private void drain()
+    {
+        while ( true )
+        {
+            Runnable write;
+            synchronized ( this )
+            {
+                Iterator<Map.Entry<Key, Runnable>> iterator = pending.entrySet().iterator();
+                if ( !iterator.hasNext() )
+                {
+                    draining = false;
+                    return;
+                }
+                Map.Entry<Key, Runnable> next = iterator.next();
+                running = next.getKey();
+                write = next.getValue();
+                iterator.remove();
+            }
+
+            try
+            {
+                write.run();
+            }
+            catch ( RuntimeException e )
+            {
+                failures.increment();
+                logger.warn( "Write-behind persist has failed", e );
+            }
+
+            Runnable after;
+            synchronized ( this )
+            {
+                after = afterRunning;
+                afterRunning = null;
+                running = null;
+            }
+
+            if ( after != null )
+            {
+                try
+                {
+                    after.run();
+                }
+                catch ( RuntimeException e )
+                {
+                    logger.warn( "Eviction after the discarded write-behind persist has failed", e );
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards the pending writes of the provider for given identifier, or all pending list writes
+     * if {@code list} is {@code true}. The write already running can't be discarded, it might complete
+     * after the caller has evicted the resource, thus the given eviction is being repeated once it completes.
+     *
+     * @param provider   the local resource provider
+     * @param list       true to discard the list writes
+     * @param identifier the identifier of the resource if single resource writes
+     * @param evict      the optional eviction to be repeated once the matching running write completes
+     * @return the number of discarded writes
+     */
+    synchronized int discard( @Nonnull Object provider,
+                              boolean list,
+                              @Nullable Object identifier,
+                              @Nullable Runnable evict )
+    {
+        int discarded = 0;
+        Iterator<Key> iterator = pending.keySet().iterator();
+        while ( iterator.hasNext() )
+        {
+            if ( iterator.next().matches( provider, list, identifier ) )
+            {
+                iterator.remove();
+                discarded++;
+            }
+        }
+
+        if ( evict != null && running != null && running.matches( provider, list, identifier ) )
+        {
+            Runnable previous = afterRunning;
+            afterRunning = previous == null ? evict : () -> {
+                previous.run();
+                evict.run();
+            };
+        }
+        return discarded;
+    }
+
+    void setDropWhenFull( boolean dropWhenFull )
+    {
+        this.dropWhenFull = dropWhenFull;
+    }
+
+    /**
+     * Returns the number of writes waiting in the queue.
+     */
+    synchronized int depth()
+    {
+        return pending.size();
+    }
+
+    /**
+     * Returns the number of writes replaced by a later write with an equal key.
+     */
+    long coalesced()
+    {
+        return coalesced.sum();
+    }
+
+    /**
+     * Returns the number of writes dropped as the queue was full.
+     */
+    long dropped()
+    {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of writes that have failed.
+     */
+    long failures()
+    {
+        return failures.sum();
+    }
+
+    /**
+     * The identity of the write, the writes of the same provider (distinguishing single resource and list)
+     * for the same identifier (or list criteria) and locale are equal.
+     */
+    static final class Key
+    {
+        private final Object provider;
+
+        private final boolean list;
+
+        private final Object identifier;
+
+        private final Map<String, Object> parameters;
+
+        private final Locale locale;
+
+        private final int hash;
+
+        Key( @Nonnull Object provider,
+             boolean list,
+             @Nullable Object identifier,
+             @Nullable Map<String, Object> parameters,
+             @Nullable Locale locale )
+        {
+            this.provider = checkNotNull( provider );
+            this.list = list;
+            this.identifier = identifier;
+            // a snapshot, the caller might change the map later on
+            this.parameters = parameters == null || parameters.isEmpty()
+                    ? Collections.emptyMap()
+                    : new HashMap<>( parameters );
+            this.locale = locale;
+            this.hash = Objects.hash( System.identityHashCode( provider ), list, identifier, this.parameters, locale );
+        }
+
+        @Override
+        public boolean equals( Object o )
+        {
+            if ( this == o )
+            {
+                return true;
+            }
+            if ( !( o instanceof Key ) )
+            {
+                return false;
+            }
+            Key key = ( Key ) o;
+            return hash == key.hash
+                    && provider == key.provider
+                    && list == key.list
+                    && Objects.equals( identifier, key.identifier )
+                    && Objects.equals( parameters, key.parameters )
+                    && Objects.equals( locale, key.locale );
+        }
+
+        private boolean matches( Object provider, boolean list, @Nullable Object identifier )
+        {
+            return this.provider == provider
+                    && this.list == list
+                    && ( list || Objects.equals( this.identifier, identifier ) );
+        }
+
+        /**
+         * Returns the snapshot of the parameters taken once the key has been created,
+         * to be used by the write instead of the caller's map.
+         *
+         * @return the parameters, empty if none
+         */
+        Map<String, Object> getParameters()
+        {
+            return parameters;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public String toString()
+        {
+            return provider.getClass().getName()
+                    + ( list ? " list " + parameters : " " + identifier )
+                    + ( locale == null ? "" : " " + locale );
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.TypeLiteral;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.inject.Singleton;
+import java.util.function.Supplier;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ * Unit testing of the {@link AdapteeRegistry}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class AdapteeRegistryTest
+{
+    private Injector parent;
+
+    private Injector child;
+
+    @BeforeMethod
+    public void before()
+    {
+        parent = Guice.createInjector( new AbstractModule()
+        {
+            @Override
+            protected void configure()
+            {
+                bind( new TypeLiteral<Supplier<GetResource>>()
+                {
+                } ).to( GetResourceSupplier.class ).in( Singleton.class );
+            }
+        } );
+
+        child = parent.createChildInjector( new AbstractModule()
+        {
+            @Override
+            protected void configure()
+            {
+                bind( new TypeLiteral<Supplier<InsertResource>>()
+                {
+                } ).to( InsertResourceSupplier.class );
+            }
+        } );
+    }
+
+    @Test
+    public void prebuilt()
+    {
+        AdapteeRegistry tested = new AdapteeRegistry( parent );
+
+        Supplier<?> first = tested.get( Supplier.class, GetResource.class );
+        assertThat( first ).isInstanceOf( GetResourceSupplier.class );
+        // singleton scope respected
+        assertThat( tested.get( Supplier.class, GetResource.class ) ).isSameInstanceAs( first );
+    }
+
+    @Test
+    public void missing()
+    {
+        AdapteeRegistry tested = new AdapteeRegistry( parent );
+
+        assertThat( tested.get( Supplier.class, InsertResource.class ) ).isNull();
+        // remembered miss
+        assertThat( tested.get( Supplier.class, InsertResource.class ) ).isNull();
+    }
+
+    @Test
+    public void lookupCounters()
+    {
+        AdapteeRegistry tested = new AdapteeRegistry( child );
+
+        // missing binding, resolved once by injector
+        tested.get( Supplier.class, DeleteResource.class );
+        tested.get( Supplier.class, DeleteResource.class );
+        tested.get( Supplier.class, DeleteResource.class );
+
+        // prebuilt, never resolved by injector
+        tested.get( Supplier.class, InsertResource.class );
+
+        assertThat( tested.resolved( Supplier.class ) ).isEqualTo( 1 );
+        assertThat( tested.avoided( Supplier.class ) ).isEqualTo( 3 );
+    }
+
+    @Test
+    public void assignable()
+    {
+        AdapteeRegistry tested = new AdapteeRegistry( parent );
+
+        // exact binding
+        assertThat( tested.getAssignable( Supplier.class, GetResource.class ) )
+                .isInstanceOf( GetResourceSupplier.class );
+
+        // binding of the superclass
+        assertThat( tested.getAssignable( Supplier.class, SubGetResource.class ) )
+                .isInstanceOf( GetResourceSupplier.class );
+
+        // no binding for the whole hierarchy
+        assertThat( tested.getAssignable( Supplier.class, InsertResource.class ) ).isNull();
+        assertThat( tested.get( Supplier.class, SubGetResource.class ) ).isNull();
+    }
+
+    @Test
+    public void childInjector()
+    {
+        AdapteeRegistry tested = new AdapteeRegistry( child );
+
+        // own binding, no scope, new instance every time
+        Supplier<?> first = tested.get( Supplier.class, InsertResource.class );
+        assertThat( first ).isInstanceOf( InsertResourceSupplier.class );
+        assertThat( tested.get( Supplier.class, InsertResource.class ) ).isNotSameInstanceAs( first );
+
+        // inherited from the parent injector
+        assertThat( tested.get( Supplier.class, GetResource.class ) ).isInstanceOf( GetResourceSupplier.class );
+    }
+
+    static class SubGetResource
+            extends GetResource
+    {
+    }
+
+    static class GetResourceSupplier
+            implements Supplier<GetResource>
+    {
+        @Override
+        public GetResource get()
+        {
+            return new GetResource();
+        }
+    }
+
+    static class InsertResourceSupplier
+            implements Supplier<InsertResource>
+    {
+        @Override
+        public InsertResource get()
+        {
+            return new InsertResource();
+        }
+    }
+}
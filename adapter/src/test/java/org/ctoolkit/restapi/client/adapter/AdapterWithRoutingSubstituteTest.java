@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2018 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.inject.Injector;
+import mockit.Expectations;
+import mockit.Injectable;
+import mockit.Mocked;
+import mockit.Tested;
+import mockit.Verifications;
+import org.ctoolkit.restapi.client.Identifier;
+import org.ctoolkit.restapi.client.adaptee.DeleteExecutorAdaptee;
+import org.ctoolkit.restapi.client.adaptee.GetExecutorAdaptee;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.ctoolkit.restapi.client.adapter.RoutingSubstitute.Operation.DELETE;
+import static org.ctoolkit.restapi.client.adapter.RoutingSubstitute.Operation.GET;
+
+/**
+ * {@link RestFacadeAdapter} unit testing with injected {@link RoutingSubstitute}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+@SuppressWarnings( "rawtypes" )
+public class AdapterWithRoutingSubstituteTest
+{
+    @Tested
+    private RestFacadeAdapter tested;
+
+    @Injectable
+    private MapperFacade mapper;
+
+    @Injectable
+    private Injector injector;
+
+    @Injectable
+    private GoogleApiProxyFactory apiFactory;
+
+    @Injectable
+    private Map<String, ClientApi> apis = new HashMap<>();
+
+    @Injectable
+    private RoutingSubstitute substitute;
+
+    @Mocked
+    private GetExecutorAdaptee getAdaptee;
+
+    @Mocked
+    private DeleteExecutorAdaptee deleteAdaptee;
+
+    private GoogleRequestHeaders headers = new GoogleRequestHeaders();
+
+    @Test
+    public void callbackExecuteGet_Substituted()
+    {
+        Identifier identifier = new Identifier( 1L );
+
+        new Expectations()
+        {
+            {
+                substitute.substitutes( GET, GetResource.class );
+                result = true;
+            }
+        };
+
+        Object response = tested.callbackExecuteGet( getAdaptee, new Object(), GetResource.class, identifier,
+                headers, null, null );
+
+        assertThat( response ).isInstanceOf( GetResource.class );
+    }
+
+    @Test
+    public void callbackExecuteGet_Remote() throws IOException
+    {
+        Identifier identifier = new Identifier( 1L );
+
+        new Expectations()
+        {
+            {
+                substitute.substitutes( GET, RemoteResource.class );
+                result = false;
+
+                //noinspection unchecked
+                getAdaptee.executeGet( any, ( Map<String, Object> ) any, null );
+                result = new RemoteResource();
+            }
+        };
+
+        Object response = tested.callbackExecuteGet( getAdaptee, new Object(), RemoteResource.class, identifier,
+                headers, null, null );
+
+        assertThat( response ).isInstanceOf( RemoteResource.class );
+
+        new Verifications()
+        {
+            {
+                //noinspection ConstantConditions
+                substitute.get( any, RemoteResource.class, identifier, ( Map ) any, ( Locale ) any );
+                times = 0;
+            }
+        };
+    }
+
+    @Test
+    public void callbackExecuteDelete_Substituted() throws IOException
+    {
+        Identifier identifier = new Identifier( 1L );
+
+        new Expectations()
+        {
+            {
+                // routed by the resource type, the response type is not known
+                substitute.substitutes( DELETE, GetResource.class );
+                result = true;
+            }
+        };
+
+        Object response = tested.callbackExecuteDelete( deleteAdaptee, new Object(), GetResource.class, identifier,
+                headers, null, null, null );
+
+        assertThat( response ).isNull();
+
+        new Verifications()
+        {
+            {
+                //noinspection ConstantConditions
+                substitute.delete( any, identifier, null, null, null );
+                times = 1;
+
+                //noinspection unchecked
+                deleteAdaptee.executeDelete( any, ( Map<String, Object> ) any, ( Locale ) any );
+                times = 0;
+            }
+        };
+    }
+
+    @Test
+    public void proceedWithRemoteCallIsStackless()
+    {
+        assertThat( Substitute.ProceedWithRemoteCall.INSTANCE.getStackTrace() ).isEmpty();
+        assertThat( new Substitute.ProceedWithRemoteCall().getStackTrace() ).isEmpty();
+    }
+}
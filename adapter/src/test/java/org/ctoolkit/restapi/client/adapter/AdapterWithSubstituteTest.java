@@ -279,7 +279,7 @@ public class AdapterWithSubstituteTest
     public void callbackExecuteDelete()
     {
         Identifier identifier = new Identifier( 1L );
-        Object response = tested.callbackExecuteDelete( deleteAdaptee, new Object(), identifier,
+        Object response = tested.callbackExecuteDelete( deleteAdaptee, new Object(), DeleteResource.class, identifier,
                 headers, DeleteResource.class, null, null );
 
         assertThat( response ).isInstanceOf( DeleteResource.class );
@@ -301,7 +301,7 @@ public class AdapterWithSubstituteTest
             }
         };
 
-        Object response = tested.callbackExecuteDelete( deleteAdaptee, new Object(), identifier,
+        Object response = tested.callbackExecuteDelete( deleteAdaptee, new Object(), DeleteResource.class, identifier,
                 headers, RemoteResource.class, null, null );
 
         assertThat( response ).isInstanceOf( RemoteResource.class );
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.client.util.Sleeper;
+import org.ctoolkit.restapi.client.HttpFailureException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit testing of the {@link ApiRateLimiter}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class ApiRateLimiterTest
+{
+    private final List<Long> sleeps = new ArrayList<>();
+
+    private long now;
+
+    /**
+     * Sleeping moves the fake clock.
+     */
+    private final Sleeper sleeper = millis -> {
+        sleeps.add( millis );
+        now += TimeUnit.MILLISECONDS.toNanos( millis );
+    };
+
+    @BeforeMethod
+    public void before()
+    {
+        sleeps.clear();
+        now = 0;
+    }
+
+    private ApiRateLimiter limiter( int perMinute, int burst, long timeout )
+    {
+        return new ApiRateLimiter( "sheets", perMinute, burst, timeout, () -> now, sleeper );
+    }
+
+    @Test
+    public void burstThenEvenlySpaced() throws IOException
+    {
+        // one request per second
+        ApiRateLimiter tested = limiter( 60, 3, -1 );
+
+        tested.acquire();
+        tested.acquire();
+        tested.acquire();
+        assertThat( sleeps ).isEmpty();
+
+        tested.acquire();
+        tested.acquire();
+        assertThat( sleeps ).containsExactly( 1000L, 1000L ).inOrder();
+    }
+
+    @Test
+    public void failFast() throws IOException
+    {
+        ApiRateLimiter tested = limiter( 60, 1, 0 );
+        tested.acquire();
+
+        try
+        {
+            tested.acquire();
+            fail( "Expected rate limit exceeded" );
+        }
+        catch ( HttpFailureException e )
+        {
+            assertThat( e.getStatusCode() ).isEqualTo( 429 );
+        }
+
+        assertThat( sleeps ).isEmpty();
+        assertThat( tested.getRejected() ).isEqualTo( 1 );
+
+        now += TimeUnit.SECONDS.toNanos( 1 );
+        tested.acquire();
+    }
+
+    @Test
+    public void queueWithTimeout() throws IOException
+    {
+        // one request per 2 seconds, wait at most 3 seconds
+        ApiRateLimiter tested = limiter( 30, 1, 3000 );
+
+        tested.acquire();
+        tested.acquire();
+        assertThat( sleeps ).containsExactly( 2000L );
+
+        // another caller arriving at the same time as the previous one would wait 4 seconds
+        now -= TimeUnit.SECONDS.toNanos( 2 );
+        try
+        {
+            tested.acquire();
+            fail( "Expected rate limit exceeded" );
+        }
+        catch ( HttpFailureException e )
+        {
+            assertThat( tested.getRejected() ).isEqualTo( 1 );
+        }
+    }
+
+    @Test
+    public void pauseSharedByAllRequests() throws IOException
+    {
+        ApiRateLimiter tested = limiter( 600, 10, -1 );
+        tested.acquire();
+
+        tested.pause( 5000 );
+        // shorter pause is ignored
+        tested.pause( 1000 );
+        assertThat( tested.getPauses() ).isEqualTo( 1 );
+
+        tested.acquire();
+        assertThat( sleeps ).containsExactly( 5000L );
+
+        // no burst right after the pause, 100ms spacing
+        tested.acquire();
+        assertThat( sleeps ).containsExactly( 5000L, 100L ).inOrder();
+    }
+
+    @Test
+    public void pauseLongerThanTimeout() throws IOException
+    {
+        ApiRateLimiter tested = limiter( 600, 10, 1000 );
+        tested.pause( 5000 );
+
+        try
+        {
+            tested.acquire();
+            fail( "Expected rate limit exceeded" );
+        }
+        catch ( HttpFailureException e )
+        {
+            assertThat( sleeps ).isEmpty();
+        }
+    }
+
+    @Test
+    public void slotReturnedOnceRejectedByPause() throws IOException
+    {
+        Deque<Runnable> meanwhile = new ArrayDeque<>();
+        // one request per second, the first wait runs the other requests instead of sleeping
+        ApiRateLimiter tested = new ApiRateLimiter( "sheets", 60, 1, -1, () -> now, millis -> {
+            Runnable next = meanwhile.poll();
+            if ( next == null )
+            {
+                sleeper.sleep( millis );
+            }
+            else
+            {
+                next.run();
+            }
+        } );
+
+        tested.acquire();
+        meanwhile.add( () -> {
+            // other requests take the following slots, then the API asks for a pause
+            acquire( tested );
+            acquire( tested );
+            tested.pause( 500 );
+        } );
+
+        Deadline previous = Deadline.bind( Deadline.after( Duration.ofMillis( 1500 ) ) );
+        try
+        {
+            tested.acquire();
+            fail( "Expected rate limit exceeded" );
+        }
+        catch ( HttpFailureException e )
+        {
+            assertThat( tested.getRejected() ).isEqualTo( 1 );
+        }
+        finally
+        {
+            Deadline.bind( previous );
+        }
+
+        // the slot of the rejected request is taken once the pause ends
+        sleeps.clear();
+        tested.acquire();
+        assertThat( sleeps ).containsExactly( 500L );
+    }
+
+    @Test
+    public void retryAfterPausesApi() throws IOException
+    {
+        ApiRateLimiter tested = limiter( 600, 10, -1 );
+
+        MockHttpTransport transport = new MockHttpTransport()
+        {
+            @Override
+            public LowLevelHttpRequest buildRequest( String method, String url )
+            {
+                return new MockLowLevelHttpRequest( url )
+                {
+                    @Override
+                    public LowLevelHttpResponse execute()
+                    {
+                        return new MockLowLevelHttpResponse()
+                                .setStatusCode( 429 )
+                                .addHeader( "Retry-After", "30" );
+                    }
+                };
+            }
+        };
+
+        List<String> intercepted = new ArrayList<>();
+        HttpRequest request = transport.createRequestFactory()
+                .buildGetRequest( new GenericUrl( "https://sheets.googleapis.com/v4/spreadsheets/1" ) );
+        request.setInterceptor( r -> intercepted.add( "request" ) );
+        request.setResponseInterceptor( r -> intercepted.add( "response" ) );
+        request.setThrowExceptionOnExecuteError( false );
+
+        tested.install( request );
+        HttpResponse response = request.execute();
+
+        assertThat( response.getStatusCode() ).isEqualTo( 429 );
+        // the original interceptors kept
+        assertThat( intercepted ).containsExactly( "request", "response" ).inOrder();
+        assertThat( tested.getPauses() ).isEqualTo( 1 );
+
+        tested.acquire();
+        assertThat( sleeps ).containsExactly( 30000L );
+    }
+
+    /**
+     * Acquires the permission for another request, with no deadline.
+     */
+    private static void acquire( ApiRateLimiter limiter )
+    {
+        Deadline previous = Deadline.bind( null );
+        try
+        {
+            limiter.acquire();
+        }
+        catch ( IOException e )
+        {
+            throw new IllegalStateException( e );
+        }
+        finally
+        {
+            Deadline.bind( previous );
+        }
+    }
+}
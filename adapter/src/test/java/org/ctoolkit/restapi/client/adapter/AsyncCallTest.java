@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit testing of the {@link AsyncCall}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class AsyncCallTest
+{
+    @Test
+    public void completed() throws Exception
+    {
+        AsyncCall<String> tested = AsyncCall.submit( () -> "done", AsyncCall.sharedExecutor() );
+
+        assertThat( tested.get( 5, TimeUnit.SECONDS ) ).isEqualTo( "done" );
+    }
+
+    @Test
+    public void completedExceptionally() throws Exception
+    {
+        AsyncCall<String> tested = AsyncCall.submit( () -> {
+            throw new IllegalStateException( "failure" );
+        }, AsyncCall.sharedExecutor() );
+
+        try
+        {
+            tested.get( 5, TimeUnit.SECONDS );
+            fail( "ExecutionException expected" );
+        }
+        catch ( ExecutionException e )
+        {
+            assertThat( e.getCause() ).isInstanceOf( IllegalStateException.class );
+        }
+    }
+
+    @Test
+    public void cancelInterrupts() throws Exception
+    {
+        CountDownLatch started = new CountDownLatch( 1 );
+        CountDownLatch interrupted = new CountDownLatch( 1 );
+
+        AsyncCall<String> tested = AsyncCall.submit( () -> {
+            started.countDown();
+            try
+            {
+                Thread.sleep( 10000 );
+            }
+            catch ( InterruptedException e )
+            {
+                interrupted.countDown();
+            }
+            return "done";
+        }, AsyncCall.sharedExecutor() );
+
+        assertThat( started.await( 5, TimeUnit.SECONDS ) ).isTrue();
+        assertThat( tested.cancel( true ) ).isTrue();
+
+        assertThat( tested.isCancelled() ).isTrue();
+        assertThat( interrupted.await( 5, TimeUnit.SECONDS ) ).isTrue();
+    }
+
+    @Test( expectedExceptions = CancellationException.class )
+    public void cancelled() throws Exception
+    {
+        AsyncCall<String> tested = AsyncCall.submit( () -> "done", command -> {
+            // never runs the task
+        } );
+
+        tested.cancel( false );
+        tested.get();
+    }
+
+    @Test
+    public void timeout() throws Exception
+    {
+        CountDownLatch interrupted = new CountDownLatch( 1 );
+
+        AsyncCall<String> tested = AsyncCall.submit( () -> {
+            try
+            {
+                Thread.sleep( 10000 );
+            }
+            catch ( InterruptedException e )
+            {
+                interrupted.countDown();
+            }
+            return "done";
+        }, AsyncCall.sharedExecutor() ).within( 50, TimeUnit.MILLISECONDS );
+
+        try
+        {
+            tested.get( 5, TimeUnit.SECONDS );
+            fail( "ExecutionException expected" );
+        }
+        catch ( ExecutionException e )
+        {
+            assertThat( e.getCause() ).isInstanceOf( TimeoutException.class );
+        }
+        assertThat( interrupted.await( 5, TimeUnit.SECONDS ) ).isTrue();
+    }
+}
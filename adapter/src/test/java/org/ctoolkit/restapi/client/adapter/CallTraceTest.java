@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.testng.annotations.Test;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ * Unit testing of the {@link CallTrace}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class CallTraceTest
+{
+    @Test
+    public void none()
+    {
+        assertThat( CallTrace.start( null, RemoteCallMetrics.Operation.GET, "drive", GetResource.class ) )
+                .isSameInstanceAs( CallTrace.NONE );
+
+        // no-op
+        CallTrace.NONE.phase( CallTrace.AUTH );
+        CallTrace.NONE.attribute( CallTrace.LOCAL_HIT, true );
+        CallTrace.NONE.end( new IllegalStateException() );
+    }
+
+    @Test
+    public void sequentialPhases()
+    {
+        Recorder tracer = new Recorder();
+        CallTrace tested = CallTrace.start( tracer, RemoteCallMetrics.Operation.GET, "drive", GetResource.class );
+
+        tested.phase( CallTrace.LOCAL );
+        tested.attribute( CallTrace.LOCAL_HIT, false );
+        tested.phase( CallTrace.AUTH );
+        tested.remote( new RemoteRequest() );
+        tested.mapping( new GetResource() );
+        tested.end( null );
+
+        assertThat( tracer.names() )
+                .containsExactly( "ctoolkit.get", "ctoolkit.local", "ctoolkit.auth", "ctoolkit.remote", "ctoolkit.mapping" )
+                .inOrder();
+
+        Recorder.RecordedSpan root = tracer.spans.get( 0 );
+        assertThat( root.parent ).isNull();
+        assertThat( root.attributes.get( CallTrace.API ) ).isEqualTo( "drive" );
+        assertThat( root.attributes.get( CallTrace.RESOURCE ) ).isEqualTo( GetResource.class.getName() );
+        assertThat( root.attributes.get( CallTrace.OPERATION ) ).isEqualTo( "GET" );
+
+        for ( Recorder.RecordedSpan next : tracer.spans )
+        {
+            assertThat( next.ended ).isTrue();
+            if ( next != root )
+            {
+                assertThat( next.parent ).isSameInstanceAs( root );
+            }
+        }
+
+        assertThat( tracer.spans.get( 1 ).attributes.get( CallTrace.LOCAL_HIT ) ).isEqualTo( false );
+        assertThat( tracer.spans.get( 3 ).attributes.get( CallTrace.REMOTE_REQUEST ) )
+                .isEqualTo( RemoteRequest.class.getName() );
+        assertThat( tracer.spans.get( 4 ).attributes.get( CallTrace.MAPPING_SOURCE ) )
+                .isEqualTo( GetResource.class.getName() );
+    }
+
+    @Test
+    public void failureRecorded()
+    {
+        Recorder tracer = new Recorder();
+        CallTrace tested = CallTrace.start( tracer, RemoteCallMetrics.Operation.INSERT, "drive", InsertResource.class );
+
+        tested.phase( CallTrace.AUTH );
+        IllegalStateException failure = new IllegalStateException();
+        tested.end( failure );
+
+        assertThat( tracer.spans.get( 0 ).exception ).isSameInstanceAs( failure );
+        assertThat( tracer.spans.get( 1 ).exception ).isSameInstanceAs( failure );
+        assertThat( tracer.spans.get( 1 ).ended ).isTrue();
+    }
+
+    @Test
+    public void prepare()
+    {
+        Recorder tracer = new Recorder();
+        CallTrace.prepare( tracer, RemoteCallMetrics.Operation.LIST, GetResource.class ).end( null );
+
+        assertThat( tracer.names() ).containsExactly( "ctoolkit.prepare" );
+        assertThat( tracer.spans.get( 0 ).attributes.get( CallTrace.OPERATION ) ).isEqualTo( "LIST" );
+    }
+
+    static class RemoteRequest
+    {
+    }
+
+    /**
+     * The tracer that records all started spans in order.
+     */
+    static class Recorder
+            implements RemoteCallTracer
+    {
+        final List<RecordedSpan> spans = new ArrayList<>();
+
+        @Override
+        public Span startSpan( @Nonnull String name, @Nullable Span parent )
+        {
+            RecordedSpan span = new RecordedSpan( name, parent );
+            spans.add( span );
+            return span;
+        }
+
+        List<String> names()
+        {
+            List<String> names = new ArrayList<>();
+            for ( RecordedSpan next : spans )
+            {
+                names.add( next.name );
+            }
+            return names;
+        }
+
+        static class RecordedSpan
+                implements Span
+        {
+            final String name;
+
+            final Span parent;
+
+            final Map<String, Object> attributes = new HashMap<>();
+
+            Throwable exception;
+
+            boolean ended;
+
+            RecordedSpan( String name, Span parent )
+            {
+                this.name = name;
+                this.parent = parent;
+            }
+
+            @Override
+            public void setAttribute( @Nonnull String key, @Nonnull String value )
+            {
+                attributes.put( key, value );
+            }
+
+            @Override
+            public void setAttribute( @Nonnull String key, long value )
+            {
+                attributes.put( key, value );
+            }
+
+            @Override
+            public void setAttribute( @Nonnull String key, boolean value )
+            {
+                attributes.put( key, value );
+            }
+
+            @Override
+            public void recordException( @Nonnull Throwable exception )
+            {
+                this.exception = exception;
+            }
+
+            @Override
+            public void end()
+            {
+                ended = true;
+            }
+        }
+    }
+}
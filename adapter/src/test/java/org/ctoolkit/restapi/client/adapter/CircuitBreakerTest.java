@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import org.ctoolkit.restapi.client.ServiceUnavailableException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.ctoolkit.restapi.client.adapter.CircuitBreaker.State.CLOSED;
+import static org.ctoolkit.restapi.client.adapter.CircuitBreaker.State.HALF_OPEN;
+import static org.ctoolkit.restapi.client.adapter.CircuitBreaker.State.OPEN;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit testing of the {@link CircuitBreaker}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class CircuitBreakerTest
+{
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos( 10 );
+
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos( 2000 );
+
+    private final List<CircuitBreakerEvent> events = new ArrayList<>();
+
+    private long now;
+
+    private CircuitBreaker tested;
+
+    @BeforeMethod
+    public void before()
+    {
+        events.clear();
+        now = 0;
+
+        EventBus eventBus = new EventBus();
+        eventBus.register( this );
+
+        // 50% failure rate, 80% slow call rate, 1s slow call, window of 20 calls, 30s open
+        tested = new CircuitBreaker( "sheets", 50, 80, 1000, 20, 30000, eventBus, () -> now );
+    }
+
+    @Subscribe
+    public void onCircuitBreakerEvent( CircuitBreakerEvent event )
+    {
+        events.add( event );
+    }
+
+    private void calls( int count, long nanos, boolean failed )
+    {
+        for ( int index = 0; index < count; index++ )
+        {
+            tested.acquire();
+            tested.onResult( nanos, failed );
+        }
+    }
+
+    private void assertNotPermitted()
+    {
+        try
+        {
+            tested.acquire();
+            fail( ServiceUnavailableException.class.getSimpleName() + " expected" );
+        }
+        catch ( ServiceUnavailableException ignored )
+        {
+        }
+    }
+
+    @Test
+    public void notEnoughCalls()
+    {
+        calls( CircuitBreaker.MIN_CALLS - 1, FAST, true );
+
+        assertThat( tested.getState() ).isEqualTo( CLOSED );
+        assertThat( tested.getFailureRate() ).isEqualTo( -1f );
+    }
+
+    @Test
+    public void failureRateOpens()
+    {
+        calls( 10, FAST, false );
+        calls( 9, FAST, true );
+
+        assertThat( tested.getState() ).isEqualTo( CLOSED );
+        assertThat( tested.getFailureRate() ).isWithin( 0.1f ).of( 47.4f );
+
+        calls( 1, FAST, true );
+
+        assertThat( tested.getState() ).isEqualTo( OPEN );
+        assertNotPermitted();
+        assertThat( tested.getNotPermittedCalls() ).isEqualTo( 1 );
+
+        assertThat( events ).hasSize( 1 );
+        assertThat( events.get( 0 ).getApiPrefix() ).isEqualTo( "sheets" );
+        assertThat( events.get( 0 ).getFrom() ).isEqualTo( CLOSED );
+        assertThat( events.get( 0 ).getTo() ).isEqualTo( OPEN );
+    }
+
+    @Test
+    public void slowCallRateOpens()
+    {
+        calls( 2, FAST, false );
+        calls( 8, SLOW, false );
+
+        assertThat( tested.getState() ).isEqualTo( OPEN );
+    }
+
+    @Test
+    public void slidingWindow()
+    {
+        calls( 4, FAST, true );
+        // evicts all of the failures
+        calls( 20, FAST, false );
+
+        assertThat( tested.getFailureRate() ).isEqualTo( 0f );
+        assertThat( tested.getState() ).isEqualTo( CLOSED );
+    }
+
+    @Test
+    public void halfOpenCloses()
+    {
+        calls( 10, FAST, true );
+        assertThat( tested.getState() ).isEqualTo( OPEN );
+
+        now += TimeUnit.SECONDS.toNanos( 29 );
+        assertNotPermitted();
+
+        now += TimeUnit.SECONDS.toNanos( 1 );
+        for ( int index = 0; index < CircuitBreaker.HALF_OPEN_CALLS; index++ )
+        {
+            tested.acquire();
+        }
+        assertThat( tested.getState() ).isEqualTo( HALF_OPEN );
+        // all of the probing calls in flight
+        assertNotPermitted();
+
+        for ( int index = 0; index < CircuitBreaker.HALF_OPEN_CALLS; index++ )
+        {
+            tested.onResult( FAST, false );
+        }
+
+        assertThat( tested.getState() ).isEqualTo( CLOSED );
+        assertThat( events ).hasSize( 3 );
+        assertThat( events.get( 1 ).getTo() ).isEqualTo( HALF_OPEN );
+        assertThat( events.get( 2 ).getTo() ).isEqualTo( CLOSED );
+    }
+
+    @Test
+    public void halfOpenOpensAgain()
+    {
+        calls( 10, FAST, true );
+        now += TimeUnit.SECONDS.toNanos( 30 );
+
+        calls( 2, FAST, false );
+        calls( 3, FAST, true );
+
+        assertThat( tested.getState() ).isEqualTo( OPEN );
+        assertNotPermitted();
+    }
+
+    @Test
+    public void releasedProbe()
+    {
+        calls( 10, FAST, true );
+        now += TimeUnit.SECONDS.toNanos( 30 );
+
+        for ( int index = 0; index < CircuitBreaker.HALF_OPEN_CALLS; index++ )
+        {
+            tested.acquire();
+        }
+        tested.release();
+
+        // the released permission might be acquired again
+        tested.acquire();
+        assertThat( tested.getState() ).isEqualTo( HALF_OPEN );
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.ctoolkit.restapi.client.ServiceUnavailableException;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit testing of the {@link ConcurrencyLimiter}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class ConcurrencyLimiterTest
+{
+    private static final long BASELINE = TimeUnit.MILLISECONDS.toNanos( 10 );
+
+    /**
+     * Executes as many concurrent calls as the current limit, all with the same RTT.
+     */
+    private static void round( ConcurrencyLimiter tested, long rtt )
+    {
+        int concurrency = tested.getLimit();
+        for ( int index = 0; index < concurrency; index++ )
+        {
+            tested.acquire();
+        }
+        for ( int index = 0; index < concurrency; index++ )
+        {
+            tested.onSample( rtt, false );
+        }
+    }
+
+    @Test
+    public void shedAboveLimit()
+    {
+        ConcurrencyLimiter tested = new ConcurrencyLimiter( "analytics", 4, 100 );
+
+        for ( int index = 0; index < 4; index++ )
+        {
+            tested.acquire();
+        }
+        assertThat( tested.getInFlight() ).isEqualTo( 4 );
+
+        try
+        {
+            tested.acquire();
+            fail( ServiceUnavailableException.class.getSimpleName() + " expected" );
+        }
+        catch ( ServiceUnavailableException e )
+        {
+            assertThat( tested.getShed() ).isEqualTo( 1 );
+        }
+
+        tested.release();
+        tested.acquire();
+        assertThat( tested.getInFlight() ).isEqualTo( 4 );
+    }
+
+    @Test
+    public void stableLatencyGrowsLimit()
+    {
+        ConcurrencyLimiter tested = new ConcurrencyLimiter( "analytics", 10, 50 );
+
+        for ( int index = 0; index < 50; index++ )
+        {
+            round( tested, BASELINE );
+        }
+
+        assertThat( tested.getLimit() ).isEqualTo( 50 );
+        assertThat( tested.getInFlight() ).isEqualTo( 0 );
+    }
+
+    @Test
+    public void risingLatencyShrinksLimit()
+    {
+        ConcurrencyLimiter tested = new ConcurrencyLimiter( "analytics", 40, 40 );
+        // long-term RTT established
+        for ( int index = 0; index < 20; index++ )
+        {
+            round( tested, BASELINE );
+        }
+        assertThat( tested.getLimit() ).isEqualTo( 40 );
+
+        round( tested, BASELINE * 10 );
+
+        assertThat( tested.getLimit() ).isLessThan( 20 );
+    }
+
+    @Test
+    public void failureBacksOff()
+    {
+        ConcurrencyLimiter tested = new ConcurrencyLimiter( "analytics", 20, 100 );
+
+        tested.acquire();
+        tested.onSample( BASELINE, true );
+
+        assertThat( tested.getLimit() ).isEqualTo( 18 );
+        assertThat( tested.getInFlight() ).isEqualTo( 0 );
+    }
+
+    @Test
+    public void notUtilizedLimitDoesNotGrow()
+    {
+        ConcurrencyLimiter tested = new ConcurrencyLimiter( "analytics", 20, 100 );
+
+        for ( int index = 0; index < 100; index++ )
+        {
+            tested.acquire();
+            tested.onSample( BASELINE, false );
+        }
+
+        assertThat( tested.getLimit() ).isEqualTo( 20 );
+    }
+}
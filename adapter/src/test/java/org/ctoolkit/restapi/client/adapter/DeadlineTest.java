@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit testing of the {@link Deadline}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class DeadlineTest
+{
+    private int connectTimeout;
+
+    private int readTimeout;
+
+    private int calls;
+
+    @BeforeMethod
+    public void before()
+    {
+        calls = 0;
+        connectTimeout = -1;
+        readTimeout = -1;
+    }
+
+    @AfterMethod
+    public void after()
+    {
+        Deadline.bind( null );
+    }
+
+    private HttpRequest request() throws IOException
+    {
+        MockHttpTransport transport = new MockHttpTransport()
+        {
+            @Override
+            public LowLevelHttpRequest buildRequest( String method, String url )
+            {
+                return new MockLowLevelHttpRequest( url )
+                {
+                    @Override
+                    public void setTimeout( int connect, int read )
+                    {
+                        connectTimeout = connect;
+                        readTimeout = read;
+                    }
+
+                    @Override
+                    public LowLevelHttpResponse execute()
+                    {
+                        calls++;
+                        return new MockLowLevelHttpResponse();
+                    }
+                };
+            }
+        };
+
+        HttpRequest request = transport.createRequestFactory()
+                .buildGetRequest( new GenericUrl( "https://www.googleapis.com/drive/v3/files/1" ) );
+
+        request.setConnectTimeout( 20000 );
+        request.setReadTimeout( 20000 );
+        return request;
+    }
+
+    @Test
+    public void timeoutsCappedByRemainingTime() throws IOException
+    {
+        Deadline.bind( Deadline.after( Duration.ofSeconds( 2 ) ) );
+
+        HttpRequest request = request();
+        Deadline.installCurrent( request );
+        request.execute();
+
+        assertThat( calls ).isEqualTo( 1 );
+        assertThat( connectTimeout ).isAtMost( 2000 );
+        assertThat( connectTimeout ).isAtLeast( 1 );
+        assertThat( readTimeout ).isAtMost( 2000 );
+        assertThat( readTimeout ).isAtLeast( 1 );
+    }
+
+    @Test
+    public void configuredTimeoutsWithoutDeadline() throws IOException
+    {
+        HttpRequest request = request();
+        Deadline.installCurrent( request );
+        request.execute();
+
+        assertThat( connectTimeout ).isEqualTo( 20000 );
+        assertThat( readTimeout ).isEqualTo( 20000 );
+    }
+
+    @Test
+    public void passedDeadlineNotSent() throws IOException
+    {
+        Deadline.bind( Deadline.after( Duration.ZERO ) );
+
+        HttpRequest request = request();
+        Deadline.installCurrent( request );
+        try
+        {
+            request.execute();
+            fail( DeadlineExceededException.class.getSimpleName() + " expected" );
+        }
+        catch ( DeadlineExceededException e )
+        {
+            assertThat( calls ).isEqualTo( 0 );
+        }
+    }
+
+    @Test
+    public void boundToOtherThread() throws ExecutionException, InterruptedException
+    {
+        Deadline deadline = Deadline.after( Duration.ofMinutes( 1 ) );
+
+        CompletableFuture<Deadline> future = new CompletableFuture<>();
+        new Thread( () -> {
+            try
+            {
+                future.complete( Deadline.bound( deadline, Deadline::current ).call() );
+            }
+            catch ( Exception e )
+            {
+                future.completeExceptionally( e );
+            }
+        } ).start();
+
+        assertThat( future.get() ).isSameInstanceAs( deadline );
+        assertThat( Deadline.current() ).isNull();
+    }
+
+    @Test
+    public void remaining()
+    {
+        Deadline deadline = Deadline.after( Duration.ofMinutes( 1 ) );
+        assertThat( deadline.isExpired() ).isFalse();
+        assertThat( deadline.remaining( TimeUnit.SECONDS ) ).isAtMost( 60L );
+
+        assertThat( Deadline.after( Duration.ofMillis( -1 ) ).isExpired() ).isTrue();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.testng.annotations.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ * Unit testing of the {@link FrequencySketch}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class FrequencySketchTest
+{
+    @Test
+    public void frequency()
+    {
+        FrequencySketch tested = new FrequencySketch( 100 );
+
+        for ( int i = 0; i < 20; i++ )
+        {
+            tested.increment( "hot" );
+        }
+        tested.increment( "cold" );
+
+        assertThat( tested.frequency( "hot" ) ).isEqualTo( 15 );
+        assertThat( tested.frequency( "cold" ) ).isEqualTo( 1 );
+        assertThat( tested.frequency( "unseen" ) ).isEqualTo( 0 );
+    }
+
+    @Test
+    public void agesOutBySampleSize()
+    {
+        FrequencySketch tested = new FrequencySketch( 100 );
+        for ( int i = 0; i < 15; i++ )
+        {
+            tested.increment( "hot" );
+        }
+
+        // 10 times the expected size halves the counters
+        for ( int i = 0; i < 1000; i++ )
+        {
+            tested.increment( i );
+        }
+
+        assertThat( tested.frequency( "hot" ) ).isAtMost( 7 );
+    }
+
+    @Test
+    public void grows()
+    {
+        FrequencySketch tested = new FrequencySketch( 0 );
+        tested.increment( "hot" );
+
+        // discarded once grown
+        tested.ensureCapacity( 100 );
+        assertThat( tested.frequency( "hot" ) ).isEqualTo( 0 );
+
+        for ( int i = 0; i < 15; i++ )
+        {
+            tested.increment( "hot" );
+        }
+        // never shrinks
+        tested.ensureCapacity( 10 );
+        assertThat( tested.frequency( "hot" ) ).isEqualTo( 15 );
+
+        // the sample size grows as well
+        for ( int i = 0; i < 900; i++ )
+        {
+            tested.increment( i );
+        }
+        assertThat( tested.frequency( "hot" ) ).isEqualTo( 15 );
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.ctoolkit.restapi.client.Identifier;
+import org.ctoolkit.restapi.client.ServiceUnavailableException;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit testing of the {@link GetCoalescer}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class GetCoalescerTest
+{
+    private final GetCoalescer tested = new GetCoalescer();
+
+    private static GetCoalescer.Key key( long id, Locale locale )
+    {
+        return new GetCoalescer.Key( GetResource.class, new Identifier( id ), new HashMap<>(), locale,
+                new GoogleRequestHeaders() );
+    }
+
+    @Test
+    public void keyEquality()
+    {
+        assertThat( key( 1L, Locale.ENGLISH ) ).isEqualTo( key( 1L, Locale.ENGLISH ) );
+        assertThat( key( 1L, Locale.ENGLISH ) ).isNotEqualTo( key( 2L, Locale.ENGLISH ) );
+        assertThat( key( 1L, Locale.ENGLISH ) ).isNotEqualTo( key( 1L, Locale.GERMAN ) );
+
+        GoogleRequestHeaders authorized = new GoogleRequestHeaders();
+        authorized.setTokenCreator( ( FinalTokenProvider ) () -> "token" );
+        GetCoalescer.Key withToken = new GetCoalescer.Key( GetResource.class, new Identifier( 1L ),
+                new HashMap<>(), Locale.ENGLISH, authorized );
+
+        assertThat( key( 1L, Locale.ENGLISH ) ).isNotEqualTo( withToken );
+    }
+
+    @Test
+    public void concurrentCallsCoalesced() throws Exception
+    {
+        CountDownLatch started = new CountDownLatch( 1 );
+        CountDownLatch release = new CountDownLatch( 1 );
+        AtomicInteger calls = new AtomicInteger();
+        GetResource resource = new GetResource();
+
+        ExecutorService executor = Executors.newFixedThreadPool( 2 );
+        try
+        {
+            Future<GetResource> leader = executor.submit( () -> tested.execute( key( 1L, null ), null, () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await( release );
+                return resource;
+            } ) );
+
+            assertThat( started.await( 5, TimeUnit.SECONDS ) ).isTrue();
+
+            Future<GetResource> follower = executor.submit( () -> tested.execute( key( 1L, null ), null, () -> {
+                calls.incrementAndGet();
+                return new GetResource();
+            } ) );
+
+            // wait for the follower to join the in-flight call
+            long deadline = System.currentTimeMillis() + 5000;
+            while ( tested.coalesced() == 0 && System.currentTimeMillis() < deadline )
+            {
+                Thread.sleep( 10 );
+            }
+            release.countDown();
+
+            assertThat( leader.get( 5, TimeUnit.SECONDS ) ).isSameInstanceAs( resource );
+            assertThat( follower.get( 5, TimeUnit.SECONDS ) ).isSameInstanceAs( resource );
+            assertThat( calls.get() ).isEqualTo( 1 );
+            assertThat( tested.coalesced() ).isEqualTo( 1 );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void sequentialCallsNotCoalesced()
+    {
+        AtomicInteger calls = new AtomicInteger();
+
+        tested.execute( key( 1L, null ), null, calls::incrementAndGet );
+        tested.execute( key( 1L, null ), null, calls::incrementAndGet );
+
+        assertThat( calls.get() ).isEqualTo( 2 );
+        assertThat( tested.coalesced() ).isEqualTo( 0 );
+    }
+
+    @Test
+    public void failurePropagated()
+    {
+        try
+        {
+            tested.execute( key( 1L, null ), null, () -> {
+                throw new IllegalStateException( "failure" );
+            } );
+            fail( "IllegalStateException expected" );
+        }
+        catch ( IllegalStateException e )
+        {
+            assertThat( e ).hasMessageThat().isEqualTo( "failure" );
+        }
+
+        // nothing left in flight
+        assertThat( tested.execute( key( 1L, null ), null, () -> "next" ) ).isEqualTo( "next" );
+    }
+
+    @Test
+    public void followerWaitsWithinOwnDeadline() throws Exception
+    {
+        CountDownLatch started = new CountDownLatch( 1 );
+        CountDownLatch release = new CountDownLatch( 1 );
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            Future<String> leader = executor.submit( () -> tested.execute( key( 1L, null ), null, () -> {
+                started.countDown();
+                await( release );
+                return "leader";
+            } ) );
+            assertThat( started.await( 5, TimeUnit.SECONDS ) ).isTrue();
+
+            long start = System.nanoTime();
+            try
+            {
+                tested.execute( key( 1L, null ), Deadline.after( Duration.ofMillis( 100 ) ), () -> "follower" );
+                fail( "ServiceUnavailableException expected" );
+            }
+            catch ( ServiceUnavailableException e )
+            {
+                // the leader is still in flight
+                assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) ).isLessThan( 5000L );
+            }
+
+            release.countDown();
+            assertThat( leader.get( 5, TimeUnit.SECONDS ) ).isEqualTo( "leader" );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void leaderDeadlineNotShared() throws Exception
+    {
+        CountDownLatch started = new CountDownLatch( 1 );
+        AtomicInteger calls = new AtomicInteger();
+        Deadline expiring = Deadline.after( Duration.ofMillis( 200 ) );
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            Future<String> leader = executor.submit( () -> tested.execute( key( 1L, null ), expiring, () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                while ( !expiring.isExpired() )
+                {
+                    sleep( 10 );
+                }
+                throw new ServiceUnavailableException( "Deadline exceeded" );
+            } ) );
+            assertThat( started.await( 5, TimeUnit.SECONDS ) ).isTrue();
+
+            // the follower without deadline executes the call of its own once the leader's deadline has passed
+            String result = tested.execute( key( 1L, null ), null, () -> {
+                calls.incrementAndGet();
+                return "follower";
+            } );
+
+            assertThat( result ).isEqualTo( "follower" );
+            assertThat( calls.get() ).isEqualTo( 2 );
+            assertThat( tested.coalesced() ).isEqualTo( 1 );
+
+            try
+            {
+                leader.get( 5, TimeUnit.SECONDS );
+                fail( "ServiceUnavailableException expected" );
+            }
+            catch ( ExecutionException e )
+            {
+                assertThat( e.getCause() ).isInstanceOf( ServiceUnavailableException.class );
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await( CountDownLatch latch )
+    {
+        try
+        {
+            latch.await( 5, TimeUnit.SECONDS );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep( long millis )
+    {
+        try
+        {
+            Thread.sleep( millis );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit testing of the {@link GetHedger}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class GetHedgerTest
+{
+    private static final String PREFIX = "drive";
+
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void before()
+    {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterMethod
+    public void after()
+    {
+        executor.shutdownNow();
+    }
+
+    private static GetHedger hedger( GetHedger.Policy policy )
+    {
+        return new GetHedger( prefix -> PREFIX.equals( prefix ) ? policy : GetHedger.Policy.OFF );
+    }
+
+    private static GetHedger.Policy policy( int budget )
+    {
+        return new GetHedger.Policy( 50, budget, 1, TimeUnit.MILLISECONDS );
+    }
+
+    private void warmUp( GetHedger tested ) throws IOException
+    {
+        for ( int index = 0; index < GetHedger.Policy.MIN_SAMPLES; index++ )
+        {
+            tested.execute( PREFIX, () -> "fast", () -> () -> "hedge", executor );
+        }
+    }
+
+    private static Callable<String> slow( CountDownLatch interrupted )
+    {
+        return () -> {
+            try
+            {
+                Thread.sleep( 10000 );
+            }
+            catch ( InterruptedException e )
+            {
+                interrupted.countDown();
+                throw e;
+            }
+            return "slow";
+        };
+    }
+
+    @Test
+    public void off() throws IOException
+    {
+        GetHedger tested = hedger( policy( 100 ) );
+        Thread caller = Thread.currentThread();
+
+        String result = tested.execute( "sheets", () -> {
+            // executed at the calling thread
+            assertThat( Thread.currentThread() ).isSameInstanceAs( caller );
+            return "primary";
+        }, () -> () -> "hedge", executor );
+
+        assertThat( result ).isEqualTo( "primary" );
+        assertThat( tested.hedged() ).isEqualTo( 0 );
+    }
+
+    @Test
+    public void warmingUp() throws IOException
+    {
+        GetHedger.Policy policy = policy( 100 );
+        GetHedger tested = hedger( policy );
+
+        assertThat( policy.delayNanos() ).isEqualTo( -1 );
+        warmUp( tested );
+
+        assertThat( tested.hedged() ).isEqualTo( 0 );
+        // the fast calls, thus the minimum delay
+        assertThat( policy.delayNanos() ).isEqualTo( TimeUnit.MILLISECONDS.toNanos( 1 ) );
+    }
+
+    @Test
+    public void slowCallHedged() throws Exception
+    {
+        GetHedger tested = hedger( policy( 100 ) );
+        warmUp( tested );
+
+        CountDownLatch interrupted = new CountDownLatch( 1 );
+        String result = tested.execute( PREFIX, slow( interrupted ), () -> () -> "hedge", executor );
+
+        assertThat( result ).isEqualTo( "hedge" );
+        assertThat( tested.hedged() ).isEqualTo( 1 );
+        // the loser has been cancelled
+        assertThat( interrupted.await( 5, TimeUnit.SECONDS ) ).isTrue();
+    }
+
+    @Test
+    public void failedHedgeIgnored() throws Exception
+    {
+        GetHedger tested = hedger( policy( 100 ) );
+        warmUp( tested );
+
+        String result = tested.execute( PREFIX, () -> {
+            Thread.sleep( 200 );
+            return "primary";
+        }, () -> () -> {
+            throw new IOException( "hedge" );
+        }, executor );
+
+        assertThat( result ).isEqualTo( "primary" );
+        assertThat( tested.hedged() ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void bothFailed() throws Exception
+    {
+        GetHedger tested = hedger( policy( 100 ) );
+        warmUp( tested );
+
+        try
+        {
+            tested.execute( PREFIX, () -> {
+                Thread.sleep( 100 );
+                throw new IOException( "primary" );
+            }, () -> () -> {
+                throw new IOException( "hedge" );
+            }, executor );
+            fail( "IOException expected" );
+        }
+        catch ( IOException e )
+        {
+            assertThat( e ).hasMessageThat().isEqualTo( "primary" );
+        }
+    }
+
+    @Test
+    public void budgetExhausted() throws Exception
+    {
+        // 10 percent with the initial burst of 10 hedges
+        GetHedger tested = hedger( policy( 10 ) );
+        warmUp( tested );
+
+        AtomicInteger hedges = new AtomicInteger();
+        for ( int index = 0; index < 15; index++ )
+        {
+            String result = tested.execute( PREFIX, () -> {
+                Thread.sleep( 50 );
+                return "primary";
+            }, () -> () -> {
+                hedges.incrementAndGet();
+                Thread.sleep( 1000 );
+                return "hedge";
+            }, executor );
+
+            assertThat( result ).isEqualTo( "primary" );
+        }
+
+        // the burst plus a single hedge earned by the 10 percent of 10 requests
+        assertThat( tested.hedged() ).isEqualTo( 11 );
+        assertThat( hedges.get() ).isEqualTo( 11 );
+    }
+}
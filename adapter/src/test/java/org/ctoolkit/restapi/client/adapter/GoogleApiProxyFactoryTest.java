@@ -125,6 +125,90 @@ public class GoogleApiProxyFactoryTest
         assertFalse( credentialOn );
     }
 
+    @Test
+    public void hedgeMissingConfig()
+    {
+        assertFalse( tested.isHedgeOn( "drive" ) );
+        assertEquals( tested.getHedgePercentile( "drive" ), 95 );
+        assertEquals( tested.getHedgeBudget( "drive" ), 5 );
+        assertEquals( tested.getHedgeMinDelay( "drive" ), 5 );
+    }
+
+    @Test
+    public void hedgeNonDefaultOk()
+    {
+        credential.put( "credential.default.hedgeBudget", "10" );
+        credential.put( "credential.drive.hedge", "true" );
+        credential.put( "credential.drive.hedgePercentile", "99" );
+
+        assertThat( tested.isHedgeOn( "drive" ) ).isTrue();
+        assertThat( tested.isHedgeOn( "sheets" ) ).isFalse();
+        assertThat( tested.getHedgePercentile( "drive" ) ).isEqualTo( 99 );
+        assertThat( tested.getHedgeBudget( "drive" ) ).isEqualTo( 10 );
+    }
+
+    @Test( expectedExceptions = IllegalArgumentException.class )
+    public void hedgePercentileOutOfRange()
+    {
+        credential.put( "credential.drive.hedgePercentile", "101" );
+        tested.getHedgePercentile( "drive" );
+    }
+
+    @Test
+    public void retryPolicyMissingConfig()
+    {
+        assertThat( tested.getRetryPolicy( "drive" ) ).isNull();
+    }
+
+    @Test
+    public void retryPolicySharedPerApi()
+    {
+        credential.put( "credential.drive.retry", "true" );
+
+        HttpRetryPolicy policy = tested.getRetryPolicy( "drive" );
+        assertThat( policy ).isNotNull();
+        assertThat( tested.getRetryPolicy( "drive" ) ).isSameInstanceAs( policy );
+        assertThat( tested.getRetryPolicy( "sheets" ) ).isNull();
+    }
+
+    @Test
+    public void circuitBreakerPerApi()
+    {
+        credential.put( "credential.sheets.circuitBreaker", "true" );
+
+        CircuitBreaker breaker = tested.getCircuitBreaker( "sheets" );
+        assertThat( breaker ).isNotNull();
+        assertThat( breaker.getApiPrefix() ).isEqualTo( "sheets" );
+        assertThat( tested.getCircuitBreaker( "sheets" ) ).isSameInstanceAs( breaker );
+        assertThat( tested.getCircuitBreaker( "drive" ) ).isNull();
+    }
+
+    @Test
+    public void rateLimiterPerApi()
+    {
+        credential.put( "credential.sheets.rateLimit", "300" );
+
+        ApiRateLimiter limiter = tested.getRateLimiter( "sheets" );
+        assertThat( limiter ).isNotNull();
+        assertThat( limiter.getApiPrefix() ).isEqualTo( "sheets" );
+        assertThat( tested.getRateLimiter( "sheets" ) ).isSameInstanceAs( limiter );
+        assertThat( tested.getRateLimiter( "drive" ) ).isNull();
+        assertThat( tested.getRateLimit( "drive" ) ).isEqualTo( 0 );
+    }
+
+    @Test
+    public void concurrencyLimiterPerApi()
+    {
+        credential.put( "credential.analytics.concurrencyLimit", "true" );
+        credential.put( "credential.analytics.concurrencyLimitInitial", "8" );
+
+        ConcurrencyLimiter limiter = tested.getConcurrencyLimiter( "analytics" );
+        assertThat( limiter ).isNotNull();
+        assertThat( limiter.getLimit() ).isEqualTo( 8 );
+        assertThat( tested.getConcurrencyLimiter( "analytics" ) ).isSameInstanceAs( limiter );
+        assertThat( tested.getConcurrencyLimiter( "drive" ) ).isNull();
+    }
+
     @Test
     public void getScopes_DefaultOk()
     {
@@ -103,4 +103,21 @@ public class GoogleRequestHeadersTest
 
         assertThat( httpHeaders.getAuthorization() ).isEqualTo( oauthToken );
     }
-}
\ No newline at end of file
+
+    @Test( expectedExceptions = IllegalArgumentException.class )
+    public void authorizationOnBehalfOfMissingTokenProvider()
+    {
+        tested.setOnBehalfOf( new GetResource() );
+        tested.setAuthorizationIf( c -> null );
+    }
+
+    @Test
+    public void authorizationOnBehalfOf()
+    {
+        tested.setOnBehalfOf( new GetResource() );
+        tested.setAuthorizationIf( c -> ( FinalTokenProvider ) () -> fakeToken );
+        final HttpHeaders httpHeaders = tested.getHeaders();
+
+        assertThat( httpHeaders.getAuthorization() ).isEqualTo( fakeToken );
+    }
+}
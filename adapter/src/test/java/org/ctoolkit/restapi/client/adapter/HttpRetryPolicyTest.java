@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpMethods;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.client.util.Sleeper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit testing of the {@link HttpRetryPolicy}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class HttpRetryPolicyTest
+{
+    private final List<Long> sleeps = new ArrayList<>();
+
+    private final Sleeper sleeper = sleeps::add;
+
+    private Deque<MockLowLevelHttpResponse> responses;
+
+    private int calls;
+
+    private static MockLowLevelHttpResponse response( int statusCode )
+    {
+        return new MockLowLevelHttpResponse().setStatusCode( statusCode );
+    }
+
+    @BeforeMethod
+    public void before()
+    {
+        sleeps.clear();
+        calls = 0;
+        responses = new ArrayDeque<>();
+    }
+
+    private HttpRequest request( String method, HttpRetryPolicy policy, int numberOfRetries ) throws IOException
+    {
+        MockHttpTransport transport = new MockHttpTransport()
+        {
+            @Override
+            public LowLevelHttpRequest buildRequest( String method, String url )
+            {
+                return new MockLowLevelHttpRequest( url )
+                {
+                    @Override
+                    public LowLevelHttpResponse execute()
+                    {
+                        calls++;
+                        return responses.poll();
+                    }
+                };
+            }
+        };
+
+        HttpRequest request = transport.createRequestFactory()
+                .buildRequest( method, new GenericUrl( "https://www.googleapis.com/drive/v3/files/1" ), null );
+
+        request.setNumberOfRetries( numberOfRetries );
+        policy.install( request );
+        return request;
+    }
+
+    @Test
+    public void retryAfter()
+    {
+        assertThat( HttpRetryPolicy.retryAfter( null, 0 ) ).isEqualTo( -1 );
+        assertThat( HttpRetryPolicy.retryAfter( "invalid", 0 ) ).isEqualTo( -1 );
+        assertThat( HttpRetryPolicy.retryAfter( "120", 0 ) ).isEqualTo( 120000 );
+
+        long now = 784111777000L - 2000;
+        assertThat( HttpRetryPolicy.retryAfter( "Sun, 06 Nov 1994 08:49:37 GMT", now ) ).isEqualTo( 2000 );
+        // already passed
+        assertThat( HttpRetryPolicy.retryAfter( "Sun, 06 Nov 1994 08:49:37 GMT", now + 5000 ) ).isEqualTo( 0 );
+    }
+
+    @Test
+    public void backoffWithFullJitter()
+    {
+        HttpRetryPolicy tested = new HttpRetryPolicy( 100, 1000, 10, sleeper );
+
+        for ( int index = 0; index < 100; index++ )
+        {
+            assertThat( tested.backoff( 0 ) ).isAtMost( 100 );
+            assertThat( tested.backoff( 2 ) ).isAtMost( 400 );
+            assertThat( tested.backoff( 10 ) ).isAtMost( 1000 );
+            assertThat( tested.backoff( 100 ) ).isAtLeast( 0 );
+        }
+    }
+
+    @Test
+    public void transientFailureRetried() throws IOException
+    {
+        HttpRetryPolicy tested = new HttpRetryPolicy( 100, 1000, 100, sleeper );
+        responses.addAll( Arrays.asList( response( 503 ), response( 500 ), response( 200 ) ) );
+
+        HttpResponse response = request( HttpMethods.GET, tested, 3 ).execute();
+
+        assertThat( response.getStatusCode() ).isEqualTo( 200 );
+        assertThat( calls ).isEqualTo( 3 );
+        assertThat( tested.getRetries() ).isEqualTo( 2 );
+        assertThat( sleeps ).hasSize( 2 );
+        assertThat( sleeps.get( 1 ) ).isAtMost( 200L );
+    }
+
+    @Test
+    public void retryAfterHonored() throws IOException
+    {
+        HttpRetryPolicy tested = new HttpRetryPolicy( 100, 5000, 100, sleeper );
+        responses.add( response( 429 ).addHeader( "Retry-After", "3" ) );
+        responses.add( response( 200 ) );
+
+        request( HttpMethods.GET, tested, 1 ).execute();
+
+        assertThat( sleeps ).containsExactly( 3000L );
+    }
+
+    @Test
+    public void retryAfterTooLong() throws IOException
+    {
+        HttpRetryPolicy tested = new HttpRetryPolicy( 100, 1000, 100, sleeper );
+        responses.add( response( 503 ).addHeader( "Retry-After", "60" ) );
+
+        assertStatusCode( request( HttpMethods.GET, tested, 1 ), 503 );
+        assertThat( calls ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void retryAfterBeyondDeadline() throws IOException
+    {
+        HttpRetryPolicy tested = new HttpRetryPolicy( 100, 5000, 100, sleeper );
+        responses.add( response( 429 ).addHeader( "Retry-After", "3" ) );
+
+        Deadline previous = Deadline.bind( Deadline.after( Duration.ofSeconds( 1 ) ) );
+        try
+        {
+            assertStatusCode( request( HttpMethods.GET, tested, 1 ), 429 );
+        }
+        finally
+        {
+            Deadline.bind( previous );
+        }
+
+        assertThat( calls ).isEqualTo( 1 );
+        assertThat( sleeps ).isEmpty();
+    }
+
+    @Test
+    public void nonTransientFailureNotRetried() throws IOException
+    {
+        HttpRetryPolicy tested = new HttpRetryPolicy( 100, 1000, 100, sleeper );
+        responses.add( response( 404 ) );
+
+        assertStatusCode( request( HttpMethods.GET, tested, 1 ), 404 );
+        assertThat( calls ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void nonIdempotentNotRetried() throws IOException
+    {
+        HttpRetryPolicy tested = new HttpRetryPolicy( 100, 1000, 100, sleeper );
+        responses.add( response( 503 ) );
+
+        assertStatusCode( request( HttpMethods.POST, tested, 1 ), 503 );
+        assertThat( calls ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void budgetExhausted() throws IOException
+    {
+        // no extra load allowed except the initial burst of 10 retries
+        HttpRetryPolicy tested = new HttpRetryPolicy( 100, 1000, 0, sleeper );
+
+        for ( int index = 0; index < 10; index++ )
+        {
+            responses.addAll( Arrays.asList( response( 503 ), response( 200 ) ) );
+            request( HttpMethods.GET, tested, 1 ).execute();
+        }
+
+        responses.addAll( Arrays.asList( response( 503 ), response( 200 ) ) );
+        assertStatusCode( request( HttpMethods.GET, tested, 1 ), 503 );
+
+        assertThat( tested.getRetries() ).isEqualTo( 10 );
+        assertThat( tested.getRejected() ).isEqualTo( 1 );
+    }
+
+    private void assertStatusCode( HttpRequest request, int statusCode ) throws IOException
+    {
+        try
+        {
+            request.execute();
+            fail( HttpResponseException.class.getSimpleName() + " expected" );
+        }
+        catch ( HttpResponseException e )
+        {
+            assertThat( e.getStatusCode() ).isEqualTo( statusCode );
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.common.base.Strings;
+import org.ctoolkit.restapi.client.Identifier;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ * Unit testing of the {@link InMemoryResourceProvider}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class InMemoryResourceProviderTest
+{
+    private long now;
+
+    private InMemoryResourceProvider.Builder<String> builder;
+
+    @BeforeMethod
+    public void before()
+    {
+        now = 0;
+        builder = new InMemoryResourceProvider.Builder<String>().ticker( () -> now );
+    }
+
+    @Test
+    public void keyedByParamsAndLocale()
+    {
+        InMemoryResourceProvider<String> tested = builder.maximumSize( 10 ).build();
+        Map<String, Object> params = new HashMap<>();
+        params.put( "fields", "name" );
+
+        tested.persist( "plain", new Identifier( 1L ), null, null, null );
+        tested.persist( "params", new Identifier( 1L ), params, null, null );
+        tested.persist( "locale", new Identifier( 1L ), null, Locale.GERMAN, null );
+
+        assertThat( tested.get( new Identifier( 1L ), new HashMap<>(), null ) ).isEqualTo( "plain" );
+        assertThat( tested.get( new Identifier( 1L ), params, null ) ).isEqualTo( "params" );
+        assertThat( tested.get( new Identifier( 1L ), null, Locale.GERMAN ) ).isEqualTo( "locale" );
+        assertThat( tested.get( new Identifier( 2L ), null, null ) ).isNull();
+
+        assertThat( tested.getHitCount() ).isEqualTo( 3 );
+        assertThat( tested.getMissCount() ).isEqualTo( 1 );
+        assertThat( tested.size() ).isEqualTo( 3 );
+    }
+
+    @Test
+    public void expireAfterWrite()
+    {
+        InMemoryResourceProvider<String> tested = builder
+                .maximumSize( 10 )
+                .expireAfterWrite( Duration.ofSeconds( 10 ) )
+                .build();
+
+        tested.persist( "default", new Identifier( 1L ), null, null, null );
+        // last for overrides the default
+        tested.persist( "last for", new Identifier( 2L ), null, null, 60L );
+
+        now = TimeUnit.SECONDS.toNanos( 10 );
+        assertThat( tested.get( new Identifier( 1L ), null, null ) ).isNull();
+        assertThat( tested.get( new Identifier( 2L ), null, null ) ).isEqualTo( "last for" );
+        // expired removed
+        assertThat( tested.size() ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void staleWithinMaxStaleness()
+    {
+        InMemoryResourceProvider<String> tested = builder
+                .maximumSize( 10 )
+                .expireAfterWrite( Duration.ofSeconds( 10 ) )
+                .staleWhileRevalidate( Duration.ofSeconds( 5 ) )
+                .build();
+
+        tested.persist( "foo", new Identifier( 1L ), null, null, null );
+        assertThat( tested.getCached( new Identifier( 1L ), null, null ).isStale() ).isFalse();
+
+        now = TimeUnit.SECONDS.toNanos( 12 );
+        CachedResource<String> cached = tested.getCached( new Identifier( 1L ), null, null );
+        assertThat( cached.isStale() ).isTrue();
+        assertThat( cached.getStaleFor() ).isEqualTo( Duration.ofSeconds( 2 ) );
+        assertThat( cached.getResource() ).isEqualTo( "foo" );
+        // plain get serves the fresh resource only
+        assertThat( tested.get( new Identifier( 1L ), null, null ) ).isNull();
+
+        now = TimeUnit.SECONDS.toNanos( 16 );
+        assertThat( tested.getCached( new Identifier( 1L ), null, null ) ).isNull();
+        assertThat( tested.size() ).isEqualTo( 0 );
+    }
+
+    @Test
+    public void frequentlyUsedSurvivesScan()
+    {
+        InMemoryResourceProvider<String> tested = builder.maximumSize( 100 ).build();
+
+        for ( long id = 0; id < 10; id++ )
+        {
+            tested.persist( "hot", new Identifier( id ), null, null, null );
+        }
+        for ( int round = 0; round < 20; round++ )
+        {
+            for ( long id = 0; id < 10; id++ )
+            {
+                tested.get( new Identifier( id ), null, null );
+            }
+        }
+
+        // one-off scan of resources never requested again
+        for ( long id = 1000; id < 2000; id++ )
+        {
+            tested.persist( "cold", new Identifier( id ), null, null, null );
+        }
+
+        for ( long id = 0; id < 10; id++ )
+        {
+            assertThat( tested.get( new Identifier( id ), null, null ) ).isEqualTo( "hot" );
+        }
+        assertThat( tested.size() ).isAtMost( 100L );
+        assertThat( tested.getEvictionCount() ).isEqualTo( 910L );
+    }
+
+    @Test
+    public void frequentlyReadSurvivesLongScan()
+    {
+        InMemoryResourceProvider<String> tested = builder.maximumSize( 1000 ).build();
+
+        // one-hit resources far beyond the sample size, the hot resource is read in between
+        int misses = 0;
+        for ( long id = 1; id <= 20000; id++ )
+        {
+            tested.persist( "cold", new Identifier( 1000 + id ), null, null, null );
+            if ( id == 10000 )
+            {
+                tested.persist( "hot", new Identifier( 0L ), null, null, null );
+            }
+            if ( id > 10000 && id % 10 == 0 && tested.get( new Identifier( 0L ), null, null ) == null )
+            {
+                misses++;
+                tested.persist( "hot", new Identifier( 0L ), null, null, null );
+            }
+        }
+
+        assertThat( misses ).isAtMost( 5 );
+        assertThat( tested.size() ).isAtMost( 1000L );
+    }
+
+    @Test
+    public void frequentlyReadSurvivesLongScanByWeight()
+    {
+        // 10 MB of 1 KB resources, the frequency sketch grows with the number of resources
+        InMemoryResourceProvider<String> tested = builder.maximumWeight( 10_000_000, String::length ).build();
+        String cold = Strings.repeat( "c", 1000 );
+        String hot = Strings.repeat( "h", 1000 );
+
+        int misses = 0;
+        for ( long id = 1; id <= 40000; id++ )
+        {
+            tested.persist( cold, new Identifier( 1000 + id ), null, null, null );
+            if ( id == 20000 )
+            {
+                tested.persist( hot, new Identifier( 0L ), null, null, null );
+            }
+            if ( id > 20000 && id % 10 == 0 && tested.get( new Identifier( 0L ), null, null ) == null )
+            {
+                misses++;
+                tested.persist( hot, new Identifier( 0L ), null, null, null );
+            }
+        }
+
+        assertThat( misses ).isAtMost( 5 );
+        assertThat( tested.weightedSize() ).isAtMost( 10_000_000L );
+    }
+
+    @Test
+    public void maximumWeight()
+    {
+        InMemoryResourceProvider<String> tested = builder.maximumWeight( 10, String::length ).build();
+
+        tested.persist( "12345", new Identifier( 1L ), null, null, null );
+        tested.persist( "1234", new Identifier( 2L ), null, null, null );
+        assertThat( tested.weightedSize() ).isEqualTo( 9 );
+
+        tested.persist( "123", new Identifier( 3L ), null, null, null );
+        assertThat( tested.weightedSize() ).isAtMost( 10L );
+        assertThat( tested.getEvictionCount() ).isEqualTo( 1 );
+
+        // never fits, replaced resource removed
+        tested.persist( "12345678901", new Identifier( 3L ), null, null, null );
+        assertThat( tested.get( new Identifier( 3L ), null, null ) ).isNull();
+    }
+
+    @Test
+    public void etagKeptForRevalidation()
+    {
+        InMemoryResourceProvider<String> tested = builder
+                .maximumSize( 10 )
+                .expireAfterWrite( Duration.ofSeconds( 10 ) )
+                .build();
+
+        tested.persist( "foo", new Identifier( 1L ), null, null, null, "\"v1\"" );
+        assertThat( tested.getCached( new Identifier( 1L ), null, null ).getETag() ).isEqualTo( "\"v1\"" );
+
+        now = TimeUnit.SECONDS.toNanos( 60 );
+        // expired, not served, but kept to be revalidated
+        assertThat( tested.get( new Identifier( 1L ), null, null ) ).isNull();
+
+        CachedResource<String> cached = tested.getCached( new Identifier( 1L ), null, null );
+        assertThat( cached.isStale() ).isTrue();
+        assertThat( cached.getETag() ).isEqualTo( "\"v1\"" );
+        assertThat( cached.getResource() ).isEqualTo( "foo" );
+        assertThat( tested.getHitCount() ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void replaced()
+    {
+        InMemoryResourceProvider<String> tested = builder.maximumSize( 10 ).build();
+
+        tested.persist( "old", new Identifier( 1L ), null, null, null );
+        tested.persist( "new", new Identifier( 1L ), null, null, null );
+
+        assertThat( tested.get( new Identifier( 1L ), null, null ) ).isEqualTo( "new" );
+        assertThat( tested.weightedSize() ).isEqualTo( 1 );
+        assertThat( tested.getEvictionCount() ).isEqualTo( 0 );
+    }
+
+    @Test
+    public void evictedForAnyParamsAndLocale()
+    {
+        InMemoryResourceProvider<String> tested = builder.maximumSize( 10 ).build();
+        Map<String, Object> params = new HashMap<>();
+        params.put( "fields", "name" );
+
+        tested.persist( "plain", new Identifier( 1L ), null, null, null );
+        tested.persist( "params", new Identifier( 1L ), params, Locale.GERMAN, null );
+        tested.persist( "other", new Identifier( 2L ), null, null, null );
+
+        tested.evict( new Identifier( 1L ) );
+
+        assertThat( tested.get( new Identifier( 1L ), null, null ) ).isNull();
+        assertThat( tested.get( new Identifier( 1L ), params, Locale.GERMAN ) ).isNull();
+        assertThat( tested.get( new Identifier( 2L ), null, null ) ).isEqualTo( "other" );
+        assertThat( tested.weightedSize() ).isEqualTo( 1 );
+        assertThat( tested.getEvictionCount() ).isEqualTo( 0 );
+        assertThat( tested.getCoherence() ).isEqualTo( EvictableResourceProvider.Coherence.WRITE_THROUGH );
+
+        tested.invalidateAll();
+        assertThat( tested.size() ).isEqualTo( 0 );
+        assertThat( tested.weightedSize() ).isEqualTo( 0 );
+    }
+
+    @Test( expectedExceptions = IllegalStateException.class )
+    public void maximumMandatory()
+    {
+        builder.build();
+    }
+}
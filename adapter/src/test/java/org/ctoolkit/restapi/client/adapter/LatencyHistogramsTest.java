@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.ctoolkit.restapi.client.NotFoundException;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.ctoolkit.restapi.client.adapter.RemoteCallMetrics.Operation.GET;
+import static org.ctoolkit.restapi.client.adapter.RemoteCallMetrics.Operation.LIST;
+import static org.ctoolkit.restapi.client.adapter.RemoteCallMetrics.Outcome.NOT_FOUND;
+import static org.ctoolkit.restapi.client.adapter.RemoteCallMetrics.Outcome.SUCCESS;
+
+/**
+ * Unit testing of the {@link LatencyHistograms} and {@link LatencyHistogram}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class LatencyHistogramsTest
+{
+    @Test
+    public void bucketBoundaries()
+    {
+        // exact below 64 microseconds
+        assertThat( LatencyHistogram.index( 63 ) ).isEqualTo( 63 );
+        assertThat( LatencyHistogram.highestValue( 63 ) ).isEqualTo( 63 );
+
+        // contiguous and monotonic above
+        long previous = -1;
+        for ( long value = 0; value < 1 << 20; value++ )
+        {
+            int index = LatencyHistogram.index( value );
+            long highest = LatencyHistogram.highestValue( index );
+
+            assertThat( highest ).isAtLeast( value );
+            // relative error at most 1/32
+            assertThat( highest - value ).isAtMost( value / 32 );
+            assertThat( ( long ) index ).isAtLeast( previous );
+            previous = index;
+        }
+    }
+
+    @Test
+    public void percentiles()
+    {
+        LatencyHistogram tested = new LatencyHistogram();
+        for ( int millis = 1; millis <= 100; millis++ )
+        {
+            tested.record( TimeUnit.MILLISECONDS.toNanos( millis ) );
+        }
+
+        LatencyHistogram.Snapshot snapshot = tested.snapshot();
+        assertThat( snapshot.getCount() ).isEqualTo( 100 );
+        // the highest value of the bucket is being reported, at most ~3% above
+        long p50 = snapshot.getValueAtPercentile( 50, TimeUnit.MICROSECONDS );
+        assertThat( p50 ).isAtLeast( 50_000L );
+        assertThat( p50 ).isAtMost( 51_600L );
+
+        long p99 = snapshot.getValueAtPercentile( 99, TimeUnit.MICROSECONDS );
+        assertThat( p99 ).isAtLeast( 99_000L );
+        assertThat( p99 ).isAtMost( 102_100L );
+        assertThat( snapshot.getMax( TimeUnit.MILLISECONDS ) ).isEqualTo( 100 );
+        assertThat( snapshot.getMean( TimeUnit.MILLISECONDS ) ).isWithin( 2 ).of( 50.5 );
+
+        // snapshot is a copy
+        tested.record( TimeUnit.SECONDS.toNanos( 10 ) );
+        assertThat( snapshot.getCount() ).isEqualTo( 100 );
+        assertThat( tested.snapshot().getMax( TimeUnit.SECONDS ) ).isEqualTo( 10 );
+    }
+
+    @Test
+    public void meanInFinerUnit()
+    {
+        LatencyHistogram tested = new LatencyHistogram();
+        tested.record( TimeUnit.MICROSECONDS.toNanos( 10 ) );
+        tested.record( TimeUnit.MICROSECONDS.toNanos( 20 ) );
+
+        LatencyHistogram.Snapshot snapshot = tested.snapshot();
+        assertThat( snapshot.getMean( TimeUnit.NANOSECONDS ) ).isWithin( 0.001 ).of( 15_000 );
+        assertThat( snapshot.getMean( TimeUnit.MICROSECONDS ) ).isWithin( 0.001 ).of( 15 );
+        assertThat( snapshot.getMean( TimeUnit.MILLISECONDS ) ).isWithin( 0.000001 ).of( 0.015 );
+    }
+
+    @Test
+    public void empty()
+    {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertThat( snapshot.getCount() ).isEqualTo( 0 );
+        assertThat( snapshot.getValueAtPercentile( 99, TimeUnit.MILLISECONDS ) ).isEqualTo( 0 );
+        assertThat( snapshot.getMax( TimeUnit.MILLISECONDS ) ).isEqualTo( 0 );
+    }
+
+    @Test
+    public void taggedHistograms()
+    {
+        LatencyHistograms tested = new LatencyHistograms();
+        tested.record( "drive", GetResource.class, GET, SUCCESS, 1000 );
+        tested.record( "drive", GetResource.class, GET, SUCCESS, 2000 );
+        tested.record( "drive", GetResource.class, GET, NOT_FOUND, 3000 );
+
+        LatencyHistogram histogram = tested.getHistogram( "drive", GetResource.class, GET, SUCCESS );
+        assertThat( histogram ).isNotNull();
+        assertThat( histogram.snapshot().getCount() ).isEqualTo( 2 );
+        assertThat( tested.getHistogram( "drive", GetResource.class, GET, NOT_FOUND ).snapshot().getCount() )
+                .isEqualTo( 1 );
+
+        assertThat( tested.getHistogram( "drive", GetResource.class, LIST, SUCCESS ) ).isNull();
+        assertThat( tested.getHistogram( "drive", InsertResource.class, GET, SUCCESS ) ).isNull();
+        assertThat( tested.getHistogram( "calendar", GetResource.class, GET, SUCCESS ) ).isNull();
+    }
+
+    @Test
+    public void outcome()
+    {
+        assertThat( RemoteCallMetrics.Outcome.of( null ) ).isEqualTo( SUCCESS );
+        assertThat( RemoteCallMetrics.Outcome.of( new NotFoundException( "" ) ) ).isEqualTo( NOT_FOUND );
+        assertThat( RemoteCallMetrics.Outcome.of( new IllegalStateException() ) )
+                .isEqualTo( RemoteCallMetrics.Outcome.FAILURE );
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.common.collect.ImmutableList;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ * Unit testing of the {@link PageIterator}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class PageIteratorTest
+{
+    private final List<String> fetched = new ArrayList<>();
+
+    private ListPage<Integer> fetch( String pageToken )
+    {
+        fetched.add( pageToken );
+        if ( pageToken == null )
+        {
+            return new ListPage<>( ImmutableList.of( 1, 2 ), "second" );
+        }
+        if ( "second".equals( pageToken ) )
+        {
+            // an empty page in the middle
+            return new ListPage<>( null, "third" );
+        }
+        return new ListPage<>( ImmutableList.of( 3 ), "" );
+    }
+
+    @Test
+    public void allPages()
+    {
+        List<Integer> result = new ArrayList<>();
+        new PageIterator<>( this::fetch ).forEachRemaining( result::add );
+
+        assertThat( result ).containsExactly( 1, 2, 3 ).inOrder();
+        assertThat( fetched ).containsExactly( null, "second", "third" ).inOrder();
+    }
+
+    @Test
+    public void lazy()
+    {
+        Iterator<Integer> tested = new PageIterator<>( this::fetch );
+        assertThat( fetched ).isEmpty();
+
+        assertThat( tested.next() ).isEqualTo( 1 );
+        assertThat( tested.next() ).isEqualTo( 2 );
+
+        // the consumer stops, the next page has not been fetched
+        assertThat( fetched ).containsExactly( ( String ) null );
+    }
+
+    @Test
+    public void singlePage()
+    {
+        Iterator<Integer> tested = new PageIterator<>( pageToken -> new ListPage<>( ImmutableList.of( 1 ), null ) );
+
+        assertThat( tested.next() ).isEqualTo( 1 );
+        assertThat( tested.hasNext() ).isFalse();
+    }
+}
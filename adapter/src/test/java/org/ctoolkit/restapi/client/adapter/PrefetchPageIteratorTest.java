@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.common.collect.ImmutableList;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit testing of the {@link PrefetchPageIterator}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class PrefetchPageIteratorTest
+{
+    private static final int PAGES = 5;
+
+    private final List<String> fetched = new CopyOnWriteArrayList<>();
+
+    private final LongAdder waitNanos = new LongAdder();
+
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void before()
+    {
+        executor = Executors.newCachedThreadPool();
+        fetched.clear();
+    }
+
+    @AfterMethod
+    public void after()
+    {
+        executor.shutdownNow();
+    }
+
+    private ListPage<Integer> fetch( String pageToken )
+    {
+        fetched.add( String.valueOf( pageToken ) );
+        int index = pageToken == null ? 0 : Integer.parseInt( pageToken );
+        String next = index < PAGES - 1 ? String.valueOf( index + 1 ) : null;
+        return new ListPage<>( ImmutableList.of( index * 10, index * 10 + 1 ), next );
+    }
+
+    @Test
+    public void allPages()
+    {
+        List<Integer> result = new ArrayList<>();
+        new PrefetchPageIterator<>( this::fetch, executor, 2, waitNanos ).forEachRemaining( result::add );
+
+        assertThat( result ).containsExactly( 0, 1, 10, 11, 20, 21, 30, 31, 40, 41 ).inOrder();
+        assertThat( fetched ).containsExactly( "null", "1", "2", "3", "4" ).inOrder();
+        assertThat( waitNanos.sum() ).isGreaterThan( 0L );
+    }
+
+    @Test
+    public void boundedPrefetch() throws Exception
+    {
+        Iterator<Integer> tested = new PrefetchPageIterator<>( this::fetch, executor, 2, waitNanos );
+        assertThat( tested.next() ).isEqualTo( 0 );
+
+        // the consumer holds the first page, at most two pages ahead
+        TimeUnit.MILLISECONDS.sleep( 200 );
+        assertThat( fetched ).containsExactly( "null", "1", "2" ).inOrder();
+    }
+
+    @Test
+    public void closeStopsPrefetch() throws Exception
+    {
+        PrefetchPageIterator<Integer> tested = new PrefetchPageIterator<>( this::fetch, executor, 1, waitNanos );
+        assertThat( tested.next() ).isEqualTo( 0 );
+        tested.close();
+
+        TimeUnit.MILLISECONDS.sleep( 200 );
+        assertThat( fetched.size() ).isAtMost( 2 );
+
+        try
+        {
+            tested.next();
+            tested.next();
+            fail( "IllegalStateException expected" );
+        }
+        catch ( IllegalStateException e )
+        {
+            // expected
+        }
+    }
+
+    @Test
+    public void sameThreadExecutor()
+    {
+        List<Integer> result = new ArrayList<>();
+        new PrefetchPageIterator<>( this::fetch, Runnable::run, 2, waitNanos ).forEachRemaining( result::add );
+
+        assertThat( result ).containsExactly( 0, 1, 10, 11, 20, 21, 30, 31, 40, 41 ).inOrder();
+        assertThat( fetched ).containsExactly( "null", "1", "2", "3", "4" ).inOrder();
+    }
+
+    @Test( expectedExceptions = UnsupportedOperationException.class )
+    public void failurePropagated()
+    {
+        Iterator<Integer> tested = new PrefetchPageIterator<>( pageToken -> {
+            throw new UnsupportedOperationException();
+        }, executor, 1, waitNanos );
+
+        tested.next();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.services.json.AbstractGoogleJsonClientRequest;
+import com.google.api.client.http.HttpHeaders;
+import com.google.inject.Injector;
+import mockit.Delegate;
+import mockit.Expectations;
+import mockit.Injectable;
+import mockit.Mocked;
+import mockit.Tested;
+import org.ctoolkit.restapi.client.Identifier;
+import org.ctoolkit.restapi.client.NotFoundException;
+import org.ctoolkit.restapi.client.Request;
+import org.ctoolkit.restapi.client.adaptee.UpdateExecutorAdaptee;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit testing of the {@link RequestBatch}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+@SuppressWarnings( {"unchecked", "rawtypes"} )
+public class RequestBatchTest
+{
+    @Tested
+    private RestFacadeAdapter tested;
+
+    @Injectable
+    private MapperFacade mapper;
+
+    @Injectable
+    private Injector injector;
+
+    @Injectable
+    private GoogleApiProxyFactory apiFactory;
+
+    @Injectable
+    private Map<String, ClientApi> apis = new HashMap<>();
+
+    @Mocked
+    private AbstractGoogleJsonClientRequest remoteRequest;
+
+    @Mocked
+    private BatchRequest batchRequest;
+
+    @Mocked
+    private UpdateExecutorAdaptee updateAdaptee;
+
+    @Test
+    public void execute() throws Exception
+    {
+        RemoteResource remoteResource = new RemoteResource();
+        new Expectations()
+        {
+            {
+                remoteRequest.queue( ( BatchRequest ) any, ( JsonBatchCallback ) any );
+                result = new Delegate()
+                {
+                    @SuppressWarnings( "unused" )
+                    void queue( BatchRequest batch, JsonBatchCallback callback ) throws IOException
+                    {
+                        callback.onSuccess( remoteResource, new HttpHeaders() );
+                    }
+                };
+            }
+        };
+
+        RequestBatch batch = tested.batch();
+        CompletableFuture<RemoteResource> first = batch.queue( remoteRequest, RemoteResource.class,
+                new Identifier( 1L ), new GoogleRequestHeaders(), new HashMap<>(), null );
+        CompletableFuture<RemoteResource> second = batch.queue( remoteRequest, RemoteResource.class,
+                new Identifier( 2L ), new GoogleRequestHeaders(), new HashMap<>(), response -> {
+                } );
+
+        assertThat( batch.size() ).isEqualTo( 2 );
+        assertThat( first.isDone() ).isFalse();
+
+        batch.execute();
+
+        assertThat( batch.size() ).isEqualTo( 0 );
+        assertThat( first.get() ).isSameInstanceAs( remoteResource );
+        assertThat( second.get() ).isSameInstanceAs( remoteResource );
+    }
+
+    @Test
+    public void executeFailure() throws Exception
+    {
+        GoogleJsonError error = new GoogleJsonError();
+        error.setCode( 404 );
+        error.setMessage( "Not found" );
+
+        new Expectations()
+        {
+            {
+                remoteRequest.queue( ( BatchRequest ) any, ( JsonBatchCallback ) any );
+                result = new Delegate()
+                {
+                    @SuppressWarnings( "unused" )
+                    void queue( BatchRequest batch, JsonBatchCallback callback ) throws IOException
+                    {
+                        callback.onFailure( error, new HttpHeaders() );
+                    }
+                };
+            }
+        };
+
+        RequestBatch batch = tested.batch();
+        CompletableFuture<RemoteResource> future = batch.queue( remoteRequest, RemoteResource.class,
+                new Identifier( 1L ), new GoogleRequestHeaders(), new HashMap<>(), null );
+
+        batch.execute();
+
+        try
+        {
+            future.get();
+            fail( "ExecutionException expected" );
+        }
+        catch ( ExecutionException e )
+        {
+            assertThat( e.getCause() ).isInstanceOf( NotFoundException.class );
+        }
+    }
+
+    @Test
+    public void executeUpdateCoherent() throws Exception
+    {
+        RemoteResource stale = new RemoteResource();
+        RemoteResource updated = new RemoteResource();
+        InMemoryResourceProvider<RemoteResource> cache = new InMemoryResourceProvider.Builder<RemoteResource>()
+                .maximumSize( 10 )
+                .build();
+        cache.persist( stale, new Identifier( 1L ), null, null, null );
+
+        new Expectations( tested )
+        {
+            {
+                tested.getExistingResourceProvider( ( Class<Object> ) any );
+                result = cache;
+
+                remoteRequest.queue( ( BatchRequest ) any, ( JsonBatchCallback ) any );
+                result = new Delegate()
+                {
+                    @SuppressWarnings( "unused" )
+                    void queue( BatchRequest batch, JsonBatchCallback callback ) throws IOException
+                    {
+                        callback.onSuccess( updated, new HttpHeaders() );
+                    }
+                };
+            }
+        };
+
+        Request<RemoteResource> request = new UpdateRequest<>( RemoteResource.class, new Identifier( 1L ), tested,
+                updateAdaptee, remoteRequest );
+        RequestBatch batch = tested.batch();
+        CompletableFuture<RemoteResource> future = batch.queue( request );
+
+        assertThat( cache.get( new Identifier( 1L ), null, null ) ).isSameInstanceAs( stale );
+
+        batch.execute();
+
+        assertThat( future.get() ).isSameInstanceAs( updated );
+        // written through as the single update does
+        assertThat( cache.get( new Identifier( 1L ), null, null ) ).isSameInstanceAs( updated );
+    }
+
+    @Test( expectedExceptions = IllegalArgumentException.class )
+    public void notBatchable( @Mocked Request<RemoteResource> request )
+    {
+        tested.batch().queue( request );
+    }
+
+    @Test( expectedExceptions = IllegalStateException.class )
+    public void alreadyExecuted()
+    {
+        RequestBatch batch = tested.batch();
+        batch.execute();
+
+        batch.queue( remoteRequest, RemoteResource.class, new Identifier( 1L ), new GoogleRequestHeaders(),
+                new HashMap<>(), null );
+    }
+}
@@ -23,6 +23,7 @@ import com.google.api.client.googleapis.services.AbstractGoogleClient;
 import com.google.api.client.http.GenericUrl;
 import com.google.api.client.http.HttpContent;
 import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
 import com.google.common.collect.Lists;
 import com.google.inject.Injector;
 import mockit.Expectations;
@@ -32,6 +33,7 @@ import mockit.Tested;
 import mockit.Verifications;
 import org.ctoolkit.restapi.client.DownloadRequest;
 import org.ctoolkit.restapi.client.Identifier;
+import org.ctoolkit.restapi.client.ServiceUnavailableException;
 import org.ctoolkit.restapi.client.adaptee.DeleteExecutorAdaptee;
 import org.ctoolkit.restapi.client.adaptee.DownloadExecutorAdaptee;
 import org.ctoolkit.restapi.client.adaptee.GetExecutorAdaptee;
@@ -40,6 +42,7 @@ import org.ctoolkit.restapi.client.adaptee.ListExecutorAdaptee;
 import org.ctoolkit.restapi.client.adaptee.MediaProvider;
 import org.ctoolkit.restapi.client.adaptee.NewExecutorAdaptee;
 import org.ctoolkit.restapi.client.adaptee.UpdateExecutorAdaptee;
+import org.ctoolkit.restapi.client.provider.LocalListResourceProvider;
 import org.ctoolkit.restapi.client.provider.LocalResourceProvider;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -50,9 +53,12 @@ import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -98,6 +104,9 @@ public class RestFacadeAdapterTest
     @Mocked
     private ListExecutorAdaptee listAdaptee;
 
+    @Mocked
+    private PagedListExecutorAdaptee pagedAdaptee;
+
     @Mocked
     private InsertExecutorAdaptee insertAdaptee;
 
@@ -125,6 +134,15 @@ public class RestFacadeAdapterTest
     @Mocked
     private LocalResourceProvider provider;
 
+    @Mocked
+    private EvictableProvider evictable;
+
+    @Mocked
+    private EvictableListProvider evictableList;
+
+    @Mocked
+    private InvalidationListener listener;
+
     @Mocked
     private HttpContent httpContent;
 
@@ -437,6 +455,87 @@ public class RestFacadeAdapterTest
                 null, null );
     }
 
+    @Test( expectedExceptions = ServiceUnavailableException.class )
+    public void executeDownloadDeadlinePassed()
+            throws IOException
+    {
+        final URL url = new URL( "https://www.ctoolkit.org/download" );
+
+        new Expectations()
+        {
+            {
+                downloadAdaptee.prepareDownloadUrl( ( Identifier ) any, anyString, ( Map<String, Object> ) any, ( Locale ) any );
+                result = url;
+
+                downloader.download( ( GenericUrl ) any, ( HttpHeaders ) any, ( OutputStream ) any );
+                times = 0;
+            }
+        };
+
+        headers.setDeadline( Deadline.after( Duration.ZERO ) );
+
+        tested.executeDownload( downloader, downloadAdaptee, ResourceNoMapping.class, new Identifier( 1L ),
+                new ByteArrayOutputStream(), interceptor, headers, null, null );
+    }
+
+    @Test
+    public void executeDownloadMeasured()
+            throws IOException
+    {
+        final URL url = new URL( "https://www.ctoolkit.org/download" );
+
+        new Expectations()
+        {
+            {
+                downloadAdaptee.prepareDownloadUrl( ( Identifier ) any, anyString, ( Map<String, Object> ) any, ( Locale ) any );
+                result = url;
+
+                downloadAdaptee.getApiPrefix();
+                result = API_NAME;
+            }
+        };
+
+        LatencyHistograms metrics = new LatencyHistograms();
+        tested.setMetrics( metrics );
+
+        tested.executeDownload( downloader, downloadAdaptee, ResourceNoMapping.class, new Identifier( 1L ),
+                new ByteArrayOutputStream(), interceptor, headers, null, null );
+
+        LatencyHistogram histogram = metrics.getHistogram( API_NAME,
+                ResourceNoMapping.class,
+                RemoteCallMetrics.Operation.DOWNLOAD,
+                RemoteCallMetrics.Outcome.SUCCESS );
+
+        assertThat( histogram ).isNotNull();
+        assertThat( histogram.snapshot().getCount() ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void executeDownloadTraced()
+            throws IOException
+    {
+        final URL url = new URL( "https://www.ctoolkit.org/download" );
+
+        new Expectations()
+        {
+            {
+                downloadAdaptee.prepareDownloadUrl( ( Identifier ) any, anyString, ( Map<String, Object> ) any, ( Locale ) any );
+                result = url;
+
+                downloadAdaptee.getApiPrefix();
+                result = API_NAME;
+            }
+        };
+
+        CallTraceTest.Recorder tracer = new CallTraceTest.Recorder();
+        tested.setTracer( tracer );
+
+        tested.executeDownload( downloader, downloadAdaptee, ResourceNoMapping.class, new Identifier( 1L ),
+                new ByteArrayOutputStream(), interceptor, headers, null, null );
+
+        assertThat( tracer.names() ).containsExactly( "ctoolkit.download", "ctoolkit.auth", "ctoolkit.remote" ).inOrder();
+    }
+
     @Test
     public void executeDownload()
             throws IOException
@@ -531,6 +630,168 @@ public class RestFacadeAdapterTest
         };
     }
 
+    @Test
+    public void callbackExecuteGetNotModified() throws IOException
+    {
+        final long[] now = {0};
+        final InMemoryResourceProvider<ResourceNoMapping> cache;
+        cache = new InMemoryResourceProvider.Builder<ResourceNoMapping>()
+                .maximumSize( 10 )
+                .expireAfterWrite( Duration.ofSeconds( 10 ) )
+                .ticker( () -> now[0] )
+                .build();
+
+        cache.persist( responseResource, new Identifier( 1L ), null, null, null, "\"v1\"" );
+        now[0] = Duration.ofMinutes( 1 ).toNanos();
+
+        new Expectations( tested )
+        {
+            {
+                tested.getExistingResourceProvider( ( Class<Object> ) any );
+                result = cache;
+
+                getAdaptee.executeGet( any, ( Map<String, Object> ) any, ( Locale ) any );
+                result = new HttpResponseException.Builder( 304, "Not Modified", new HttpHeaders() ).build();
+            }
+        };
+
+        ResourceNoMapping response = tested.callbackExecuteGet( getAdaptee, new Object(), ResourceNoMapping.class,
+                new Identifier( 1L ), headers, null, null );
+
+        assertThat( response ).isSameInstanceAs( responseResource );
+        assertThat( headers.getHeaders().getIfNoneMatch() ).isEqualTo( "\"v1\"" );
+        assertThat( tested.getNotModifiedGets() ).isEqualTo( 1 );
+        // expiration restarted
+        assertThat( cache.get( new Identifier( 1L ), null, null ) ).isSameInstanceAs( responseResource );
+
+        new Verifications()
+        {
+            {
+                mapper.map( any, ( Class ) any );
+                times = 0;
+            }
+        };
+    }
+
+    @Test
+    public void callbackExecuteUpdateCoherent() throws IOException
+    {
+        final Identifier identifier = new Identifier( 1L, 99L ).leaf();
+        tested.setInvalidationListener( listener );
+        coherence( EvictableResourceProvider.Coherence.WRITE_THROUGH );
+
+        new Expectations()
+        {
+            {
+                updateAdaptee.executeUpdate( any, ( Map<String, Object> ) any, ( Locale ) any );
+                result = responseResource;
+            }
+        };
+
+        tested.callbackExecuteUpdate( updateAdaptee, new Object(), ResourceNoMapping.class, identifier, headers,
+                null, null );
+
+        new Verifications()
+        {
+            {
+                Identifier root;
+                evictable.evict( root = withCapture() );
+                assertEquals( root.getLong(), Long.valueOf( 1L ), "Root Identifier" );
+
+                // written through once evicted
+                evictable.persist( responseResource, root = withCapture(), null, null, null );
+                assertEquals( root.getLong(), Long.valueOf( 1L ), "Root Identifier" );
+
+                evictableList.evictLists( root = withCapture() );
+                assertEquals( root.getLong(), Long.valueOf( 1L ), "Root Identifier" );
+
+                listener.onEvicted( ResourceNoMapping.class, root = withCapture() );
+                assertEquals( root.getLong(), Long.valueOf( 1L ), "Root Identifier" );
+            }
+        };
+    }
+
+    @Test
+    public void callbackExecuteDeleteCoherent() throws IOException
+    {
+        final Identifier identifier = new Identifier( 1L );
+        tested.setInvalidationListener( listener );
+        coherence( EvictableResourceProvider.Coherence.WRITE_THROUGH );
+
+        tested.callbackExecuteDelete( deleteAdaptee, new Object(), ResourceNoMapping.class, identifier, headers,
+                null, null, null );
+
+        new Verifications()
+        {
+            {
+                deleteAdaptee.executeDelete( any, ( Map<String, Object> ) any, ( Locale ) any );
+                times = 1;
+
+                evictable.evict( identifier );
+                evictable.persist( any, ( Identifier ) any, ( Map<String, Object> ) any, ( Locale ) any,
+                        ( Long ) any );
+                times = 0;
+
+                evictableList.evictLists( identifier );
+                listener.onEvicted( ResourceNoMapping.class, identifier );
+            }
+        };
+    }
+
+    @Test
+    public void callbackExecuteInsertCoherent() throws IOException
+    {
+        tested.setInvalidationListener( listener );
+        coherence( EvictableResourceProvider.Coherence.INVALIDATE );
+
+        new Expectations()
+        {
+            {
+                insertAdaptee.executeInsert( any, ( Map<String, Object> ) any, ( Locale ) any );
+                result = responseResource;
+            }
+        };
+
+        tested.callbackExecuteInsert( insertAdaptee, new Object(), ResourceNoMapping.class, null, headers,
+                null, null );
+
+        new Verifications()
+        {
+            {
+                // a new resource, the lists are evicted only
+                evictable.evict( ( Identifier ) any );
+                times = 0;
+
+                evictableList.evictLists( null );
+                listener.onEvicted( ResourceNoMapping.class, null );
+            }
+        };
+    }
+
+    @Test
+    public void callbackExecuteUpdateNotCoherent() throws IOException
+    {
+        tested.setInvalidationListener( listener );
+        coherence( EvictableResourceProvider.Coherence.NONE );
+
+        tested.callbackExecuteUpdate( updateAdaptee, new Object(), ResourceNoMapping.class, new Identifier( 1L ),
+                headers, null, null );
+
+        new Verifications()
+        {
+            {
+                evictable.evict( ( Identifier ) any );
+                times = 0;
+
+                evictableList.evictLists( ( Identifier ) any );
+                times = 0;
+
+                listener.onEvicted( ( Class<?> ) any, ( Identifier ) any );
+                times = 0;
+            }
+        };
+    }
+
     @Test
     public void listRequestRootIdentifier()
             throws IOException
@@ -559,6 +820,35 @@ public class RestFacadeAdapterTest
         };
     }
 
+    @Test
+    public void callbackIterateListFromStart() throws IOException
+    {
+        new Expectations( tested )
+        {
+            {
+                tested.getExistingListResourceProvider( ( Class<Object> ) any );
+                result = null;
+
+                pagedAdaptee.executeListPage( any, ( Map<String, Object> ) any, ( Locale ) any, ( Integer ) any,
+                        anyString );
+                returns( new ListPage<>( Arrays.asList( "a", "b" ), "next" ),
+                        new ListPage<>( Arrays.asList( "c" ), null ) );
+            }
+        };
+
+        Iterator<String> iterator = tested.callbackIterateList( pagedAdaptee, new Object(), String.class, headers,
+                null, null, 1, -1, null, null, 0 );
+
+        assertThat( Lists.newArrayList( iterator ) ).containsExactly( "b", "c" ).inOrder();
+    }
+
+    @Test( expectedExceptions = UnsupportedOperationException.class )
+    public void callbackIterateListNotPaged()
+    {
+        tested.callbackIterateList( listAdaptee, new Object(), String.class, headers, null, null, -1, -1,
+                null, null, 0 );
+    }
+
     @Test
     public void internalInsertRequestRootIdentifier()
             throws IOException
@@ -674,6 +964,28 @@ public class RestFacadeAdapterTest
         tested.impersonate( Lists.newArrayList(), userEmail, "sheets" );
     }
 
+    private void coherence( EvictableResourceProvider.Coherence coherence )
+    {
+        new Expectations( tested )
+        {
+            {
+                tested.getExistingResourceProvider( ( Class<Object> ) any );
+                result = evictable;
+
+                tested.getExistingListResourceProvider( ( Class<Object> ) any );
+                result = evictableList;
+
+                evictable.getCoherence();
+                result = coherence;
+                minTimes = 0;
+
+                evictableList.getCoherence();
+                result = coherence;
+                minTimes = 0;
+            }
+        };
+    }
+
     private void noMappingVerifications()
     {
         new Verifications()
@@ -688,4 +1000,14 @@ public class RestFacadeAdapterTest
             }
         };
     }
-}
\ No newline at end of file
+
+    interface EvictableProvider
+            extends LocalResourceProvider<Object>, EvictableResourceProvider
+    {
+    }
+
+    interface EvictableListProvider
+            extends LocalListResourceProvider<Object>, EvictableResourceProvider
+    {
+    }
+}
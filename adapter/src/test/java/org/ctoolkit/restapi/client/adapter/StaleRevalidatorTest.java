@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ * Unit testing of the {@link StaleRevalidator} and {@link CachedResource}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class StaleRevalidatorTest
+{
+    private Queue<Runnable> tasks;
+
+    private Executor executor;
+
+    private AtomicInteger refreshed;
+
+    @BeforeMethod
+    public void before()
+    {
+        tasks = new ArrayDeque<>();
+        executor = tasks::add;
+        refreshed = new AtomicInteger();
+    }
+
+    @Test
+    public void singleFlight()
+    {
+        StaleRevalidator tested = new StaleRevalidator();
+
+        assertThat( tested.revalidate( "a", refreshed::incrementAndGet, executor ) ).isTrue();
+        assertThat( tested.revalidate( "a", refreshed::incrementAndGet, executor ) ).isFalse();
+        // other key has its own refresh
+        assertThat( tested.revalidate( "b", refreshed::incrementAndGet, executor ) ).isTrue();
+
+        assertThat( tasks ).hasSize( 2 );
+        assertThat( tested.served() ).isEqualTo( 3 );
+
+        tasks.poll().run();
+        assertThat( refreshed.get() ).isEqualTo( 1 );
+
+        // refreshed, next stale hit refreshes again
+        assertThat( tested.revalidate( "a", refreshed::incrementAndGet, executor ) ).isTrue();
+    }
+
+    @Test
+    public void failureReleasesKey()
+    {
+        StaleRevalidator tested = new StaleRevalidator();
+
+        tested.revalidate( "a", () -> {
+            throw new IllegalStateException( "remote failure" );
+        }, executor );
+        tasks.poll().run();
+
+        assertThat( tested.failures() ).isEqualTo( 1 );
+        assertThat( tested.revalidate( "a", refreshed::incrementAndGet, executor ) ).isTrue();
+    }
+
+    @Test
+    public void rejectedReleasesKey()
+    {
+        StaleRevalidator tested = new StaleRevalidator();
+
+        Executor rejecting = command -> {
+            throw new RejectedExecutionException();
+        };
+        assertThat( tested.revalidate( "a", refreshed::incrementAndGet, rejecting ) ).isFalse();
+        assertThat( tested.revalidate( "a", refreshed::incrementAndGet, executor ) ).isTrue();
+        assertThat( tested.served() ).isEqualTo( 2 );
+    }
+
+    @Test
+    public void cachedResource()
+    {
+        CachedResource<String> fresh = CachedResource.fresh( "foo" );
+        assertThat( fresh.isStale() ).isFalse();
+        assertThat( fresh.getStaleFor() ).isEqualTo( Duration.ZERO );
+
+        CachedResource<String> stale = CachedResource.stale( "foo", Duration.ofSeconds( 5 ) );
+        assertThat( stale.isStale() ).isTrue();
+        assertThat( stale.getStaleFor() ).isEqualTo( Duration.ofSeconds( 5 ) );
+        assertThat( stale.getResource() ).isEqualTo( "foo" );
+    }
+
+    @Test( expectedExceptions = IllegalArgumentException.class )
+    public void negativeStaleness()
+    {
+        CachedResource.stale( "foo", Duration.ofSeconds( -1 ) );
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.ctoolkit.restapi.client.Identifier;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.cache.Cache;
+import javax.cache.CacheEntry;
+import javax.cache.CacheListener;
+import javax.cache.CacheStatistics;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ * Unit testing of the {@link TwoTierResourceProvider}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class TwoTierResourceProviderTest
+{
+    private MapCache cache;
+
+    private Queue<Runnable> writes;
+
+    private TwoTierResourceProvider<String> tested;
+
+    @BeforeMethod
+    public void before()
+    {
+        cache = new MapCache();
+        writes = new ArrayDeque<>();
+        tested = new TwoTierResourceProvider.Builder<>( String.class, cache )
+                .executor( writes::add )
+                .build();
+    }
+
+    @Test
+    public void asyncWriteToSharedCache()
+    {
+        tested.persist( "foo", new Identifier( 1L ), null, Locale.ENGLISH, null );
+
+        // served by L1 before L2 has been written, the generation only has been seeded
+        assertThat( cache.size() ).isEqualTo( 1 );
+        assertThat( tested.get( new Identifier( 1L ), null, Locale.ENGLISH ) ).isEqualTo( "foo" );
+
+        writes.poll().run();
+        assertThat( cache.size() ).isEqualTo( 2 );
+    }
+
+    @Test
+    public void sharedCacheFillsNearCache()
+    {
+        tested.persist( "foo", new Identifier( 1L ), null, null, null );
+        writes.poll().run();
+
+        // other instance sharing the same L2
+        TwoTierResourceProvider<String> other = new TwoTierResourceProvider.Builder<>( String.class, cache )
+                .executor( writes::add )
+                .build();
+
+        assertThat( other.get( new Identifier( 1L ), null, null ) ).isEqualTo( "foo" );
+        assertThat( other.getNearCache().size() ).isEqualTo( 1 );
+
+        cache.clear();
+        assertThat( other.get( new Identifier( 1L ), null, null ) ).isEqualTo( "foo" );
+        // the generation and the resource by single read
+        assertThat( cache.getAlls ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void listByBulkOperations()
+    {
+        Map<String, Object> criteria = new HashMap<>();
+        criteria.put( "name", "foo" );
+
+        tested.persistList( Arrays.asList( "a", "b", "c" ), criteria, null, null );
+        writes.poll().run();
+        // the generation, elements and the size
+        assertThat( cache.size() ).isEqualTo( 5 );
+
+        TwoTierResourceProvider<String> other = new TwoTierResourceProvider.Builder<>( String.class, cache )
+                .executor( writes::add )
+                .build();
+
+        assertThat( other.list( criteria, null, null ) ).containsExactly( "a", "b", "c" ).inOrder();
+        // the generation with the size and then the elements
+        assertThat( cache.getAlls ).isEqualTo( 2 );
+        assertThat( other.list( new HashMap<>(), null, null ) ).isNull();
+    }
+
+    @Test
+    public void partiallyEvictedListMissing()
+    {
+        tested.persistList( Arrays.asList( "a", "b" ), null, null, null );
+        writes.poll().run();
+
+        cache.keySet().removeIf( key -> key.toString().endsWith( "#1" ) );
+
+        TwoTierResourceProvider<String> other = new TwoTierResourceProvider.Builder<>( String.class, cache )
+                .executor( writes::add )
+                .build();
+        assertThat( other.list( null, null, null ) ).isNull();
+    }
+
+    @Test
+    public void evictedByNewGeneration()
+    {
+        tested.persist( "foo", new Identifier( 1L ), null, Locale.ENGLISH, null );
+        tested.persistList( Arrays.asList( "a", "b" ), null, null, null );
+        writes.poll().run();
+        writes.poll().run();
+
+        tested.evict( new Identifier( 1L ) );
+        tested.evictLists( new Identifier( 1L ) );
+
+        TwoTierResourceProvider<String> other = new TwoTierResourceProvider.Builder<>( String.class, cache )
+                .executor( writes::add )
+                .build();
+
+        assertThat( tested.get( new Identifier( 1L ), null, Locale.ENGLISH ) ).isNull();
+        assertThat( other.get( new Identifier( 1L ), null, Locale.ENGLISH ) ).isNull();
+        assertThat( tested.list( null, null, null ) ).isNull();
+        assertThat( other.list( null, null, null ) ).isNull();
+
+        // written through under the new generation
+        tested.persist( "bar", new Identifier( 1L ), null, Locale.ENGLISH, null );
+        writes.poll().run();
+        assertThat( other.get( new Identifier( 1L ), null, Locale.ENGLISH ) ).isEqualTo( "bar" );
+    }
+
+    @Test
+    public void evictedWhileWriteQueued()
+    {
+        tested.persist( "foo", new Identifier( 1L ), null, null, null );
+        tested.persistList( Arrays.asList( "a", "b" ), null, null, null );
+
+        // the queued writes of the previous generation run after the eviction
+        tested.evict( new Identifier( 1L ) );
+        tested.evictLists( new Identifier( 1L ) );
+        writes.poll().run();
+        writes.poll().run();
+
+        TwoTierResourceProvider<String> other = new TwoTierResourceProvider.Builder<>( String.class, cache )
+                .executor( writes::add )
+                .build();
+
+        assertThat( other.get( new Identifier( 1L ), null, null ) ).isNull();
+        assertThat( other.list( null, null, null ) ).isNull();
+    }
+
+    @Test
+    public void missingGenerationIsMiss()
+    {
+        tested.persist( "foo", new Identifier( 1L ), null, null, null );
+        writes.poll().run();
+
+        // the generation expired sooner than the entry
+        cache.keySet().removeIf( key -> key.toString().contains( "|generation|" ) );
+
+        TwoTierResourceProvider<String> other = new TwoTierResourceProvider.Builder<>( String.class, cache )
+                .executor( writes::add )
+                .build();
+        assertThat( other.get( new Identifier( 1L ), null, null ) ).isNull();
+    }
+
+    @Test
+    public void sharedCacheFailureIsMiss()
+    {
+        cache.failing = true;
+        assertThat( tested.get( new Identifier( 1L ), null, null ) ).isNull();
+        assertThat( tested.list( null, null, null ) ).isNull();
+
+        // cached in L1 only
+        tested.persist( "foo", new Identifier( 1L ), null, null, null );
+        assertThat( writes ).isEmpty();
+        assertThat( tested.get( new Identifier( 1L ), null, null ) ).isEqualTo( "foo" );
+    }
+
+    @Test
+    public void generationCachedInNearCache()
+    {
+        tested.persist( "foo", new Identifier( 1L ), null, null, null );
+        tested.persist( "bar", new Identifier( 1L ), null, Locale.ENGLISH, null );
+        tested.persistList( Arrays.asList( "a", "b" ), null, null, null );
+        tested.persistList( Arrays.asList( "c" ), null, Locale.ENGLISH, null );
+
+        // a single round trip per generation
+        assertThat( cache.putIfAbsents ).isEqualTo( 2 );
+
+        tested.evictLocal( new Identifier( 1L ) );
+        tested.evictListsLocal( null );
+        tested.persist( "foo", new Identifier( 1L ), null, null, null );
+        tested.persistList( Arrays.asList( "a", "b" ), null, null, null );
+
+        assertThat( cache.putIfAbsents ).isEqualTo( 4 );
+    }
+
+    @Test
+    public void concurrentEvictionNotOverwritten()
+    {
+        TwoTierResourceProvider<String> other = new TwoTierResourceProvider.Builder<>( String.class, cache )
+                .executor( writes::add )
+                .build();
+
+        // other instance evicts while the generation is being seeded
+        Object[] evicted = new Object[1];
+        cache.concurrent = () -> {
+            other.evict( new Identifier( 1L ) );
+            evicted[0] = sharedValue( "|generation|" );
+        };
+        tested.persist( "foo", new Identifier( 1L ), null, null, null );
+        writes.poll().run();
+
+        assertThat( evicted[0] ).isNotNull();
+        assertThat( sharedValue( "|generation|" ) ).isEqualTo( evicted[0] );
+    }
+
+    /**
+     * Returns the value of the single L2 entry with the key containing given text.
+     */
+    private Object sharedValue( String keyPart )
+    {
+        for ( Object next : cache.keySet() )
+        {
+            if ( next.toString().contains( keyPart ) )
+            {
+                return cache.peek( next );
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings( {"unchecked", "rawtypes"} )
+    static class MapCache
+            extends HashMap
+            implements Cache
+    {
+        private int gets;
+
+        private int getAlls;
+
+        private int putIfAbsents;
+
+        private boolean failing;
+
+        private Runnable concurrent;
+
+        @Override
+        public Object get( Object key )
+        {
+            if ( failing )
+            {
+                throw new IllegalStateException( "Memcache unavailable" );
+            }
+            gets++;
+            Object value = super.get( key );
+            runConcurrent();
+            return value;
+        }
+
+        @Override
+        public Object putIfAbsent( Object key, Object value )
+        {
+            if ( failing )
+            {
+                throw new IllegalStateException( "Memcache unavailable" );
+            }
+            putIfAbsents++;
+            runConcurrent();
+            return super.putIfAbsent( key, value );
+        }
+
+        /**
+         * Runs the write of another instance once, right after the read of this one.
+         */
+        private void runConcurrent()
+        {
+            Runnable next = concurrent;
+            concurrent = null;
+            if ( next != null )
+            {
+                next.run();
+            }
+        }
+
+        @Override
+        public Map getAll( Collection keys )
+        {
+            if ( failing )
+            {
+                throw new IllegalStateException( "Memcache unavailable" );
+            }
+            getAlls++;
+            Map result = new HashMap();
+            for ( Object next : keys )
+            {
+                if ( containsKey( next ) )
+                {
+                    result.put( next, super.get( next ) );
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void load( Object key )
+        {
+        }
+
+        @Override
+        public void loadAll( Collection keys )
+        {
+        }
+
+        @Override
+        public Object peek( Object key )
+        {
+            return super.get( key );
+        }
+
+        @Override
+        public CacheEntry getCacheEntry( Object key )
+        {
+            return null;
+        }
+
+        @Override
+        public CacheStatistics getCacheStatistics()
+        {
+            return null;
+        }
+
+        @Override
+        public void evict()
+        {
+        }
+
+        @Override
+        public void addListener( CacheListener listener )
+        {
+        }
+
+        @Override
+        public void removeListener( CacheListener listener )
+        {
+        }
+    }
+}
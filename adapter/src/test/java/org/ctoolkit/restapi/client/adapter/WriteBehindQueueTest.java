@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ * Unit testing of the {@link WriteBehindQueue}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class WriteBehindQueueTest
+{
+    private final Object provider = new Object();
+
+    private Queue<Runnable> tasks;
+
+    private Executor executor;
+
+    private List<String> written;
+
+    @BeforeMethod
+    public void before()
+    {
+        tasks = new ArrayDeque<>();
+        executor = tasks::add;
+        written = new ArrayList<>();
+    }
+
+    @Test
+    public void drainedInOrder()
+    {
+        WriteBehindQueue tested = new WriteBehindQueue( 10, false );
+
+        assertThat( tested.submit( key( 1L ), () -> written.add( "1" ), executor ) ).isTrue();
+        assertThat( tested.submit( key( 2L ), () -> written.add( "2" ), executor ) ).isTrue();
+
+        // single drain task
+        assertThat( tasks ).hasSize( 1 );
+        assertThat( tested.depth() ).isEqualTo( 2 );
+        assertThat( written ).isEmpty();
+
+        tasks.poll().run();
+
+        assertThat( written ).containsExactly( "1", "2" ).inOrder();
+        assertThat( tested.depth() ).isEqualTo( 0 );
+
+        // new drain task once drained
+        tested.submit( key( 3L ), () -> written.add( "3" ), executor );
+        assertThat( tasks ).hasSize( 1 );
+    }
+
+    @Test
+    public void coalesced()
+    {
+        WriteBehindQueue tested = new WriteBehindQueue( 10, false );
+
+        tested.submit( key( 1L ), () -> written.add( "1a" ), executor );
+        tested.submit( key( 2L ), () -> written.add( "2" ), executor );
+        tested.submit( key( 1L ), () -> written.add( "1b" ), executor );
+
+        assertThat( tested.depth() ).isEqualTo( 2 );
+        assertThat( tested.coalesced() ).isEqualTo( 1 );
+
+        tasks.poll().run();
+
+        // the latest write keeps the position of the replaced one
+        assertThat( written ).containsExactly( "1b", "2" ).inOrder();
+    }
+
+    @Test
+    public void keyEquality()
+    {
+        Map<String, Object> params = new HashMap<>();
+        params.put( "fields", "id" );
+
+        WriteBehindQueue.Key key = new WriteBehindQueue.Key( provider, false, 1L, params, Locale.ENGLISH );
+        params.put( "fields", "name" );
+
+        // snapshot of the parameters
+        assertThat( key ).isNotEqualTo( new WriteBehindQueue.Key( provider, false, 1L, params, Locale.ENGLISH ) );
+        assertThat( key.getParameters().get( "fields" ) ).isEqualTo( "id" );
+
+        params.put( "fields", "id" );
+        assertThat( key ).isEqualTo( new WriteBehindQueue.Key( provider, false, 1L, params, Locale.ENGLISH ) );
+        assertThat( key ).isNotEqualTo( new WriteBehindQueue.Key( provider, true, 1L, params, Locale.ENGLISH ) );
+        assertThat( key ).isNotEqualTo( new WriteBehindQueue.Key( new Object(), false, 1L, params, Locale.ENGLISH ) );
+        assertThat( key ).isNotEqualTo( new WriteBehindQueue.Key( provider, false, 1L, params, Locale.GERMAN ) );
+    }
+
+    @Test
+    public void fullRejectedToCaller()
+    {
+        WriteBehindQueue tested = new WriteBehindQueue( 1, false );
+
+        assertThat( tested.submit( key( 1L ), () -> written.add( "1" ), executor ) ).isTrue();
+        assertThat( tested.submit( key( 2L ), () -> written.add( "2" ), executor ) ).isFalse();
+        // coalescing still accepted
+        assertThat( tested.submit( key( 1L ), () -> written.add( "1b" ), executor ) ).isTrue();
+
+        assertThat( tested.dropped() ).isEqualTo( 0 );
+    }
+
+    @Test
+    public void fullDropped()
+    {
+        WriteBehindQueue tested = new WriteBehindQueue( 1, false );
+        tested.setDropWhenFull( true );
+
+        tested.submit( key( 1L ), () -> written.add( "1" ), executor );
+        assertThat( tested.submit( key( 2L ), () -> written.add( "2" ), executor ) ).isTrue();
+        assertThat( tested.dropped() ).isEqualTo( 1 );
+
+        tasks.poll().run();
+        assertThat( written ).containsExactly( "1" );
+    }
+
+    @Test
+    public void failureCounted()
+    {
+        WriteBehindQueue tested = new WriteBehindQueue( 10, false );
+
+        tested.submit( key( 1L ), () -> {
+            throw new IllegalStateException();
+        }, executor );
+        tested.submit( key( 2L ), () -> written.add( "2" ), executor );
+
+        tasks.poll().run();
+
+        assertThat( tested.failures() ).isEqualTo( 1 );
+        // the next write executed anyway
+        assertThat( written ).containsExactly( "2" );
+    }
+
+    @Test
+    public void executorRejectedDrainedByCaller()
+    {
+        WriteBehindQueue tested = new WriteBehindQueue( 10, false );
+
+        tested.submit( key( 1L ), () -> written.add( "1" ), task -> {
+            throw new RejectedExecutionException();
+        } );
+
+        assertThat( written ).containsExactly( "1" );
+        assertThat( tested.depth() ).isEqualTo( 0 );
+    }
+
+    @Test
+    public void discarded()
+    {
+        WriteBehindQueue tested = new WriteBehindQueue( 10, false );
+
+        tested.submit( key( 1L ), () -> written.add( "1" ), executor );
+        tested.submit( key( 2L ), () -> written.add( "2" ), executor );
+        tested.submit( new WriteBehindQueue.Key( provider, true, null, null, null ), () -> written.add( "list" ),
+                executor );
+
+        assertThat( tested.discard( provider, false, 1L, null ) ).isEqualTo( 1 );
+        assertThat( tested.discard( new Object(), true, null, null ) ).isEqualTo( 0 );
+        assertThat( tested.discard( provider, true, null, null ) ).isEqualTo( 1 );
+
+        tasks.poll().run();
+        assertThat( written ).containsExactly( "2" );
+    }
+
+    @Test
+    public void runningWriteEvictedAgain()
+    {
+        WriteBehindQueue tested = new WriteBehindQueue( 10, false );
+
+        tested.submit( key( 1L ), () -> {
+            // discarded while running, the write lands after the caller's eviction
+            tested.discard( provider, false, 2L, () -> written.add( "evicted 2" ) );
+            tested.discard( provider, false, 1L, () -> written.add( "evicted 1" ) );
+            written.add( "1" );
+        }, executor );
+        tested.submit( key( 3L ), () -> written.add( "3" ), executor );
+
+        tasks.poll().run();
+        assertThat( written ).containsExactly( "1", "evicted 1", "3" ).inOrder();
+    }
+
+    private WriteBehindQueue.Key key( Long id )
+    {
+        return new WriteBehindQueue.Key( provider, false, id, null, null );
+    }
+}
@@ -62,12 +62,14 @@ class GoogleApiProxyFactoryAppEngineLite
     {
         private final int numberOfRetries;
         private final int readTimeout;
+        private final String prefix;
 
         ConfiguredAppIdentityCredential( Collection<String> scopes, String prefix )
         {
             super( scopes );
             this.numberOfRetries = getNumberOfRetries( prefix );
             this.readTimeout = getReadTimeout( prefix );
+            this.prefix = prefix;
         }
 
         @Override
@@ -85,7 +87,7 @@ class GoogleApiProxyFactoryAppEngineLite
         public void initialize( HttpRequest request ) throws IOException
         {
             super.initialize( request );
-            configureHttpRequest( request, numberOfRetries, readTimeout );
+            configureHttpRequest( request, numberOfRetries, readTimeout, prefix );
         }
     }
 }
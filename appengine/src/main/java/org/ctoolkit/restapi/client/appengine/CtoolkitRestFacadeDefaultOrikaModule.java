@@ -23,10 +23,10 @@ import com.google.inject.Provides;
 import com.google.inject.multibindings.Multibinder;
 import ma.glasnost.orika.MapperFactory;
 import ma.glasnost.orika.converter.ConverterFactory;
-import ma.glasnost.orika.impl.DefaultMapperFactory;
 import org.ctoolkit.restapi.client.adapter.MapperFacade;
 import org.ctoolkit.restapi.client.appengine.orika.BeanMapperConfig;
 import org.ctoolkit.restapi.client.appengine.orika.DateTimeToDateConverter;
+import org.ctoolkit.restapi.client.appengine.orika.ListenableMapperFactory;
 
 import javax.inject.Singleton;
 import java.util.Set;
@@ -52,7 +52,7 @@ public class CtoolkitRestFacadeDefaultOrikaModule
     @Singleton
     MapperFactory provideMapperFactory()
     {
-        return new DefaultMapperFactory.Builder()
+        return new ListenableMapperFactory.Builder()
                 .dumpStateOnException( false )
                 // this is important in order to support HTTP PATCH functionality
                 .mapNulls( false )
@@ -87,11 +87,14 @@ class GoogleApiProxyFactoryAppEngine
 
         private final int readTimeout;
 
+        private final String prefix;
+
         ConfiguredAppIdentityCredential( Collection<String> scopes, String prefix )
         {
             super( scopes );
             this.numberOfRetries = getNumberOfRetries( prefix );
             this.readTimeout = getReadTimeout( prefix );
+            this.prefix = prefix;
         }
 
         @Override
@@ -110,7 +113,7 @@ class GoogleApiProxyFactoryAppEngine
         public void initialize( HttpRequest request ) throws IOException
         {
             super.initialize( request );
-            configureHttpRequest( request, numberOfRetries, readTimeout );
+            configureHttpRequest( request, numberOfRetries, readTimeout, prefix );
         }
     }
 }
@@ -27,14 +27,35 @@ import java.util.Collections;
 
 /**
  * The optional JCache provider to provide cache instance.
+ * The cache is created once at first request, then the same instance is being provided.
  *
  * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
  */
 public class JCacheProvider
         implements Provider<Cache>
 {
+    private volatile Cache cache;
+
     @Override
     public Cache get()
+    {
+        Cache cache = this.cache;
+        if ( cache == null )
+        {
+            synchronized ( this )
+            {
+                cache = this.cache;
+                if ( cache == null )
+                {
+                    cache = create();
+                    this.cache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    private Cache create()
     {
         CacheFactory factory;
         try
@@ -4,15 +4,23 @@ import ma.glasnost.orika.MapperFactory;
 import ma.glasnost.orika.metadata.Type;
 import ma.glasnost.orika.metadata.TypeFactory;
 import org.ctoolkit.restapi.client.adapter.MapperFacade;
+import org.ctoolkit.restapi.client.appengine.orika.ListenableMapperFactory;
 
 import javax.inject.Inject;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Adapter that bridges Orika's MapperFacade/MapperFactory to the internal MapperFacade abstraction.
+ * <p>
+ * The result of {@link #getMappedClassOrSelf(Class)} is cached per resource class. If the factory is
+ * a {@link ListenableMapperFactory}, the cache is filled for all classes registered so far and it's being
+ * invalidated once a new class map gets registered. Otherwise call {@link #invalidate()} if the factory
+ * has been reconfigured after this adapter has been created.
  */
 public class OrikaMapperFacadeAdapter
         implements MapperFacade
@@ -20,11 +28,24 @@ public class OrikaMapperFacadeAdapter
     private final ma.glasnost.orika.MapperFacade delegate;
     private final MapperFactory factory;
 
+    private volatile ConcurrentMap<Class<?>, Class<?>> mappedClasses = new ConcurrentHashMap<>();
+
     @Inject
     public OrikaMapperFacadeAdapter( ma.glasnost.orika.MapperFacade delegate, MapperFactory factory )
     {
         this.delegate = delegate;
         this.factory = factory;
+
+        if ( factory instanceof ListenableMapperFactory )
+        {
+            ListenableMapperFactory listenable = ( ListenableMapperFactory ) factory;
+            listenable.addListener( this::invalidate );
+
+            for ( Class<?> next : listenable.getMappedClasses() )
+            {
+                getMappedClassOrSelf( next );
+            }
+        }
     }
 
     @Override
@@ -46,6 +67,26 @@ public class OrikaMapperFacadeAdapter
 
     @Override
     public Class<?> getMappedClassOrSelf( Class<?> resource )
+    {
+        ConcurrentMap<Class<?>, Class<?>> cache = mappedClasses;
+        Class<?> mapped = cache.get( resource );
+        if ( mapped == null )
+        {
+            mapped = lookupMappedClass( resource );
+            cache.putIfAbsent( resource, mapped );
+        }
+        return mapped;
+    }
+
+    /**
+     * Discards all of the cached remote classes, to be resolved again by the factory.
+     */
+    public void invalidate()
+    {
+        mappedClasses = new ConcurrentHashMap<>();
+    }
+
+    private Class<?> lookupMappedClass( Class<?> resource )
     {
         Set<Type<?>> types = factory.lookupMappedClasses( TypeFactory.valueOf( resource ) );
         Iterator<Type<?>> iterator = types.iterator();
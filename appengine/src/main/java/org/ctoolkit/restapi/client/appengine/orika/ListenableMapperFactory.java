@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.appengine.orika;
+
+import ma.glasnost.orika.impl.DefaultMapperFactory;
+import ma.glasnost.orika.metadata.ClassMap;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The default Orika mapper factory that keeps track of the registered class maps
+ * (typically via {@link BeanMapperConfig}) and notifies listeners once the factory has been reconfigured
+ * by a new class map.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class ListenableMapperFactory
+        extends DefaultMapperFactory
+{
+    private final Set<Class<?>> mappedClasses = ConcurrentHashMap.newKeySet();
+
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    protected ListenableMapperFactory( Builder builder )
+    {
+        super( builder );
+    }
+
+    @Override
+    public synchronized <A, B> void registerClassMap( ClassMap<A, B> classMap )
+    {
+        super.registerClassMap( classMap );
+
+        mappedClasses.add( classMap.getAType().getRawType() );
+        mappedClasses.add( classMap.getBType().getRawType() );
+
+        for ( Runnable next : listeners )
+        {
+            next.run();
+        }
+    }
+
+    /**
+     * Adds the listener to be notified once a class map has been registered.
+     *
+     * @param listener the listener to be added
+     */
+    public void addListener( @Nonnull Runnable listener )
+    {
+        listeners.add( checkNotNull( listener, "Listener cannot be null" ) );
+    }
+
+    /**
+     * Returns the classes of all registered class maps (both sides).
+     *
+     * @return the unmodifiable set of classes
+     */
+    public Set<Class<?>> getMappedClasses()
+    {
+        return Collections.unmodifiableSet( mappedClasses );
+    }
+
+    /**
+     * The builder of the {@link ListenableMapperFactory}.
+     */
+    public static class Builder
+            extends DefaultMapperFactory.Builder
+    {
+        @Override
+        public ListenableMapperFactory build()
+        {
+            return new ListenableMapperFactory( this );
+        }
+    }
+}
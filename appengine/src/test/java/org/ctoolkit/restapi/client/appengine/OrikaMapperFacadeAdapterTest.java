@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.appengine;
+
+import ma.glasnost.orika.MapperFactory;
+import org.ctoolkit.restapi.client.appengine.adapter.model.Bee;
+import org.ctoolkit.restapi.client.appengine.adapter.model.Foo;
+import org.ctoolkit.restapi.client.appengine.adapter.model.RemoteBee;
+import org.ctoolkit.restapi.client.appengine.adapter.model.RemoteFoo;
+import org.ctoolkit.restapi.client.appengine.orika.ListenableMapperFactory;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ * Unit testing of the {@link OrikaMapperFacadeAdapter}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class OrikaMapperFacadeAdapterTest
+{
+    private MapperFactory factory;
+
+    private OrikaMapperFacadeAdapter tested;
+
+    @BeforeMethod
+    public void before()
+    {
+        factory = new ListenableMapperFactory.Builder().mapNulls( false ).build();
+        factory.classMap( Foo.class, RemoteFoo.class ).byDefault().register();
+
+        tested = new OrikaMapperFacadeAdapter( factory.getMapperFacade(), factory );
+    }
+
+    @Test
+    public void mappedClassOrSelf()
+    {
+        assertThat( tested.getMappedClassOrSelf( Foo.class ) ).isEqualTo( RemoteFoo.class );
+        assertThat( tested.getMappedClassOrSelf( Bee.class ) ).isEqualTo( Bee.class );
+        // cached
+        assertThat( tested.getMappedClassOrSelf( Bee.class ) ).isEqualTo( Bee.class );
+    }
+
+    @Test
+    public void invalidatedOnReconfiguration()
+    {
+        assertThat( tested.getMappedClassOrSelf( Bee.class ) ).isEqualTo( Bee.class );
+
+        factory.classMap( Bee.class, RemoteBee.class ).byDefault().register();
+
+        assertThat( tested.getMappedClassOrSelf( Bee.class ) ).isEqualTo( RemoteBee.class );
+        assertThat( tested.getMappedClassOrSelf( Foo.class ) ).isEqualTo( RemoteFoo.class );
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import com.google.inject.util.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The adaptee lookup of {@link RestFacadeAdapter#getExecutorAdaptee(Class, Class)}: the Guice binding lookup
+ * by the parameterized key built per call (the former implementation) versus the {@link AdapteeRegistry}.
+ * Both the bound resource (hit) and the resource without binding (miss, typically the remote class
+ * evaluated by the mapper) are measured.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar AdapteeLookupBenchmark -prof gc}
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class AdapteeLookupBenchmark
+{
+    private Injector injector;
+
+    private AdapteeRegistry registry;
+
+    @Setup
+    public void setup()
+    {
+        injector = Guice.createInjector( new AbstractModule()
+        {
+            @Override
+            protected void configure()
+            {
+                bind( new TypeLiteral<Supplier<Foo>>()
+                {
+                } ).toInstance( Foo::new );
+                bind( new TypeLiteral<Supplier<Bar>>()
+                {
+                } ).toInstance( Bar::new );
+            }
+        } );
+        registry = new AdapteeRegistry( injector );
+    }
+
+    @Benchmark
+    public Object injectorHit()
+    {
+        return injectorLookup( Supplier.class, Foo.class );
+    }
+
+    @Benchmark
+    public Object injectorMiss()
+    {
+        return injectorLookup( Supplier.class, RemoteFoo.class );
+    }
+
+    @Benchmark
+    public Object registryHit()
+    {
+        return registry.get( Supplier.class, Foo.class );
+    }
+
+    @Benchmark
+    public Object registryMiss()
+    {
+        return registry.get( Supplier.class, RemoteFoo.class );
+    }
+
+    /**
+     * The lookup as implemented by {@link RestFacadeAdapter} before the {@link AdapteeRegistry}.
+     */
+    private <A> A injectorLookup( Class<A> adapteeType, Class<?> resource )
+    {
+        A adaptee = null;
+
+        ParameterizedType pt = Types.newParameterizedType( adapteeType, resource );
+        Binding<?> binding = injector.getExistingBinding( Key.get( TypeLiteral.get( pt ) ) );
+
+        if ( binding != null )
+        {
+            //noinspection unchecked
+            adaptee = ( A ) binding.getProvider().get();
+        }
+        return adaptee;
+    }
+
+    static class Foo
+    {
+    }
+
+    static class Bar
+    {
+    }
+
+    static class RemoteFoo
+    {
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.adapter;
+
+import com.google.api.client.http.HttpHeaders;
+import org.ctoolkit.restapi.client.Identifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per call cost of the {@link Substitute} declining the call in favor of the remote call:
+ * <ul>
+ * <li>{@code stackTrace} - the exception with the stack trace, as {@link Substitute.ProceedWithRemoteCall}
+ * used to be</li>
+ * <li>{@code stackless} - the new stackless {@link Substitute.ProceedWithRemoteCall} per call</li>
+ * <li>{@code preallocated} - the shared {@link Substitute.ProceedWithRemoteCall#INSTANCE}</li>
+ * <li>{@code routing} - the {@link RoutingSubstitute#substitutes(RoutingSubstitute.Operation, Class)}
+ * predicate</li>
+ * </ul>
+ * The substitute is being called at the given stack depth, as the stack trace cost grows with it.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar SubstituteBenchmark -prof gc}
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class SubstituteBenchmark
+{
+    private static final Identifier IDENTIFIER = new Identifier( 1L );
+
+    private static final Object REMOTE_REQUEST = new Object();
+
+    @Param( {"10", "50"} )
+    public int depth;
+
+    private final DecliningSubstitute stackTrace = new DecliningSubstitute()
+    {
+        @Override
+        RuntimeException decline()
+        {
+            return new StackTraceProceed();
+        }
+    };
+
+    private final DecliningSubstitute stackless = new DecliningSubstitute()
+    {
+        @Override
+        RuntimeException decline()
+        {
+            return new Substitute.ProceedWithRemoteCall();
+        }
+    };
+
+    private final DecliningSubstitute preallocated = new DecliningSubstitute()
+    {
+        @Override
+        RuntimeException decline()
+        {
+            return Substitute.ProceedWithRemoteCall.INSTANCE;
+        }
+    };
+
+    @Benchmark
+    public boolean stackTrace()
+    {
+        return remote( stackTrace, depth );
+    }
+
+    @Benchmark
+    public boolean stackless()
+    {
+        return remote( stackless, depth );
+    }
+
+    @Benchmark
+    public boolean preallocated()
+    {
+        return remote( preallocated, depth );
+    }
+
+    @Benchmark
+    public boolean routing()
+    {
+        return routed( preallocated, depth );
+    }
+
+    /**
+     * Returns {@code true} if the substitute has declined the call, as the adapter decides for the remote call.
+     */
+    private static boolean remote( Substitute substitute, int depth )
+    {
+        if ( depth > 0 )
+        {
+            return remote( substitute, depth - 1 );
+        }
+        try
+        {
+            substitute.get( REMOTE_REQUEST, Object.class, IDENTIFIER, null, null );
+            return false;
+        }
+        catch ( RuntimeException e )
+        {
+            return true;
+        }
+    }
+
+    private static boolean routed( RoutingSubstitute substitute, int depth )
+    {
+        if ( depth > 0 )
+        {
+            return routed( substitute, depth - 1 );
+        }
+        return !substitute.substitutes( RoutingSubstitute.Operation.GET, Object.class );
+    }
+
+    /**
+     * The control flow exception with the stack trace.
+     */
+    private static class StackTraceProceed
+            extends RuntimeException
+    {
+        private static final long serialVersionUID = 1L;
+    }
+
+    /**
+     * The substitute that declines all of the calls.
+     */
+    private abstract static class DecliningSubstitute
+            implements RoutingSubstitute
+    {
+        abstract RuntimeException decline();
+
+        @Override
+        public boolean substitutes( @Nonnull Operation operation, @Nullable Class<?> type )
+        {
+            return false;
+        }
+
+        @Override
+        public <R> R delete( @Nonnull Object remoteRequest,
+                             @Nonnull Object identifier,
+                             @Nullable Class<R> responseType,
+                             @Nullable Map<String, Object> parameters,
+                             @Nullable Locale locale )
+        {
+            throw decline();
+        }
+
+        @Override
+        public <R> R newInstance( @Nonnull Object remoteRequest,
+                                  @Nonnull Class<R> responseType,
+                                  @Nullable Map<String, Object> parameters,
+                                  @Nullable Locale locale )
+        {
+            throw decline();
+        }
+
+        @Override
+        public void download( @Nonnull Class<?> resource,
+                              @Nonnull Identifier identifier,
+                              @Nonnull OutputStream output,
+                              @Nullable HttpHeaders headers,
+                              @Nullable Map<String, Object> params,
+                              @Nullable Locale locale )
+        {
+            throw decline();
+        }
+
+        @Override
+        public <R> R get( @Nonnull Object remoteRequest,
+                          @Nonnull Class<R> responseType,
+                          @Nonnull Identifier identifier,
+                          @Nullable Map<String, Object> parameters,
+                          @Nullable Locale locale )
+        {
+            throw decline();
+        }
+
+        @Override
+        public <R> List<R> list( @Nonnull Object remoteRequest,
+                                 @Nonnull Class<R> responseType,
+                                 @Nullable Map<String, Object> criteria,
+                                 @Nullable Locale locale,
+                                 int start,
+                                 int length,
+                                 @Nullable String orderBy,
+                                 @Nullable Boolean ascending )
+        {
+            throw decline();
+        }
+
+        @Override
+        public <R> R insert( @Nonnull Object remoteRequest,
+                             @Nonnull Class<R> responseType,
+                             @Nullable Identifier parentKey,
+                             @Nullable Map<String, Object> parameters,
+                             @Nullable Locale locale )
+        {
+            throw decline();
+        }
+
+        @Override
+        public <R> R update( @Nonnull Object remoteRequest,
+                             @Nonnull Class<R> responseType,
+                             @Nonnull Object identifier,
+                             @Nullable Map<String, Object> parameters,
+                             @Nullable Locale locale )
+        {
+            throw decline();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.appengine;
+
+import ma.glasnost.orika.MapperFactory;
+import ma.glasnost.orika.metadata.Type;
+import ma.glasnost.orika.metadata.TypeFactory;
+import org.ctoolkit.restapi.client.appengine.orika.ListenableMapperFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The remote class resolution of {@link OrikaMapperFacadeAdapter#getMappedClassOrSelf(Class)}: the lookup
+ * of the factory's class maps by the Orika {@link Type} created per call (the former implementation)
+ * versus the cached result. Run with the GC profiler to see the allocation rate per call
+ * ({@code gc.alloc.rate.norm}), expected to be zero for the cached lookup.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar MappedClassBenchmark -prof gc}
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class MappedClassBenchmark
+{
+    private MapperFactory factory;
+
+    private OrikaMapperFacadeAdapter adapter;
+
+    @Setup
+    public void setup()
+    {
+        factory = new ListenableMapperFactory.Builder().mapNulls( false ).build();
+        factory.classMap( Local.class, Remote.class ).byDefault().register();
+
+        adapter = new OrikaMapperFacadeAdapter( factory.getMapperFacade(), factory );
+    }
+
+    @Benchmark
+    public Class<?> factoryMapped()
+    {
+        return lookupMappedClass( Local.class );
+    }
+
+    @Benchmark
+    public Class<?> factorySelf()
+    {
+        return lookupMappedClass( Unmapped.class );
+    }
+
+    @Benchmark
+    public Class<?> cachedMapped()
+    {
+        return adapter.getMappedClassOrSelf( Local.class );
+    }
+
+    @Benchmark
+    public Class<?> cachedSelf()
+    {
+        return adapter.getMappedClassOrSelf( Unmapped.class );
+    }
+
+    /**
+     * The lookup as implemented by {@link OrikaMapperFacadeAdapter} before the cache.
+     */
+    private Class<?> lookupMappedClass( Class<?> resource )
+    {
+        Set<Type<?>> types = factory.lookupMappedClasses( TypeFactory.valueOf( resource ) );
+        Iterator<Type<?>> iterator = types.iterator();
+        if ( iterator.hasNext() )
+        {
+            return iterator.next().getRawType();
+        }
+        return resource;
+    }
+
+    public static class Local
+    {
+        private String name;
+
+        public String getName()
+        {
+            return name;
+        }
+
+        public void setName( String name )
+        {
+            this.name = name;
+        }
+    }
+
+    public static class Remote
+    {
+        private String name;
+
+        public String getName()
+        {
+            return name;
+        }
+
+        public void setName( String name )
+        {
+            this.name = name;
+        }
+    }
+
+    public static class Unmapped
+    {
+    }
+}
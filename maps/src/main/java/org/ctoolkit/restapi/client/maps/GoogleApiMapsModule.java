@@ -47,6 +47,10 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * </ul>
  * If property <b>{@code credential.maps.numberOfRetries}</b> value is less or equal to 0 (default value is 1)
  * retries will be disabled <b>{@code .disableRetries()}</b>.
+ * <p>
+ * The property <b>{@code credential.maps.rateLimit}</b> (requests per minute) is being applied
+ * as {@code .queryRateLimit(int)} in requests per second, at least one. The value not being a multiple of 60
+ * is rounded down (warning logged), as the Maps client does not support a finer rate limit.
  *
  * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
  * @see GeoApiContext.Builder
@@ -82,6 +86,19 @@ public class GoogleApiMapsModule
         {
             builder.maxRetries( numberOfRetries );
         }
+
+        int rateLimit = factory.getRateLimit( API_PREFIX );
+        if ( rateLimit > 0 )
+        {
+            int perSecond = Math.max( 1, rateLimit / 60 );
+            if ( rateLimit % 60 != 0 )
+            {
+                logger.warn( "The rate limit of the API '" + API_PREFIX + "' " + rateLimit
+                        + " requests per minute is not a multiple of 60, applied as " + perSecond
+                        + " requests per second." );
+            }
+            builder.queryRateLimit( perSecond );
+        }
         GeoApiContext context = builder.build();
         logger.info( "GeoApiContext has been initialized." );
 
@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.pubsub;
+
+import com.google.api.services.pubsub.model.PublishResponse;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.ctoolkit.restapi.client.Identifier;
+import org.ctoolkit.restapi.client.RestFacade;
+import org.ctoolkit.restapi.client.adapter.InvalidationListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The cross-instance cache invalidation bus. It collects the local cache evictions made by the facade
+ * (see {@link InvalidationListener}) and publishes them batched per flush interval as a single
+ * {@link TopicMessage}, thus by {@link org.ctoolkit.restapi.client.pubsub.adaptee.TopicMessageAdaptee}
+ * if published via {@link RestFacade}. The repeated eviction of the same resource within the interval
+ * is published once. The other instances apply the evictions by {@link CacheInvalidationListener}.
+ * <p>
+ * The message data is UTF-8 text, an eviction per line: the eviction time (epoch millis), the resource
+ * class name and the identifier ({@code L} followed by the long ID, {@code S} followed by the URL encoded
+ * string ID, or {@code -} if the lists have been evicted only). The eviction of a resource with
+ * an identifier of other type is not published. The publishing failure is logged and the batch is lost,
+ * the caches of the other instances stay coherent within their time to live.
+ * <p>
+ * Configuration (the subscription pushing to '/_ah/push-handlers/cache-invalidation'):
+ * <pre>
+ * CacheInvalidationBus bus = new CacheInvalidationBus.Builder( projectId, "cache-invalidation",
+ *         CacheInvalidationBus.Publisher.of( facade ) ).build();
+ *
+ * bind( InvalidationListener.class ).toInstance( bus );
+ * bind( CacheInvalidationBus.class ).toInstance( bus );
+ *
+ * install( new SubscriptionsListenerModule() );
+ * MapBinder&lt;String, PubsubMessageListener&gt; map;
+ * map = MapBinder.newMapBinder( binder(), String.class, PubsubMessageListener.class );
+ * map.addBinding( "cache-invalidation" ).to( CacheInvalidationListener.class );
+ * </pre>
+ * Each instance must receive all messages, thus it needs its own subscription (or the pull subscription)
+ * if the push endpoint is load balanced.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class CacheInvalidationBus
+        implements InvalidationListener
+{
+    /**
+     * The message attribute with the unique identification of the publishing bus instance.
+     */
+    public static final String ORIGIN = "CacheInvalidation_Origin";
+
+    static final String LISTS = "-";
+
+    static final char LONG_ID = 'L';
+
+    static final char STRING_ID = 'S';
+
+    private static final Logger logger = LoggerFactory.getLogger( CacheInvalidationBus.class );
+
+    private final String projectId;
+
+    private final String topicId;
+
+    private final Publisher publisher;
+
+    private final long flushIntervalMillis;
+
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final LongSupplier clock;
+
+    private final String origin = UUID.randomUUID().toString();
+
+    private final LongAdder published = new LongAdder();
+
+    private final LongAdder batches = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final LongAdder unsupported = new LongAdder();
+
+    private Map<String, Long> pending = new LinkedHashMap<>();
+
+    private boolean scheduled;
+
+    protected CacheInvalidationBus( @Nonnull Builder builder )
+    {
+        this.projectId = builder.projectId;
+        this.topicId = builder.topicId;
+        this.publisher = builder.publisher;
+        this.flushIntervalMillis = builder.flushInterval.toMillis();
+        this.maxBatchSize = builder.maxBatchSize;
+        this.scheduler = builder.scheduler == null ? Scheduler.INSTANCE : builder.scheduler;
+        this.clock = builder.clock;
+    }
+
+    @Override
+    public void onEvicted( @Nonnull Class<?> resource, @Nullable Identifier identifier )
+    {
+        String id = encode( identifier );
+        if ( id == null )
+        {
+            unsupported.increment();
+            logger.debug( "Unsupported identifier type, eviction of " + resource.getName() + " not published" );
+            return;
+        }
+
+        String eviction = resource.getName() + ' ' + id;
+        long now = clock.getAsLong();
+        boolean flush;
+
+        synchronized ( this )
+        {
+            // the first eviction time is kept, the staleness is measured since then
+            pending.putIfAbsent( eviction, now );
+            flush = pending.size() >= maxBatchSize;
+            if ( !flush && scheduled )
+            {
+                return;
+            }
+            scheduled = true;
+        }
+
+        try
+        {
+            if ( flush )
+            {
+                scheduler.execute( this::flush );
+            }
+            else
+            {
+                scheduler.schedule( this::flush, flushIntervalMillis, TimeUnit.MILLISECONDS );
+            }
+        }
+        catch ( RejectedExecutionException e )
+        {
+            flush();
+        }
+    }
+
+    /**
+     * Publishes the pending evictions immediately, typically called before the instance shuts down.
+     */
+    public void flush()
+    {
+        Map<String, Long> batch;
+        synchronized ( this )
+        {
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            scheduled = false;
+        }
+
+        if ( batch.isEmpty() )
+        {
+            return;
+        }
+
+        StringBuilder data = new StringBuilder();
+        for ( Map.Entry<String, Long> entry : batch.entrySet() )
+        {
+            data.append( entry.getValue() ).append( ' ' ).append( entry.getKey() ).append( '\n' );
+        }
+
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put( ORIGIN, origin );
+
+        TopicMessage message = TopicMessage.newBuilder()
+                .setProjectId( projectId )
+                .setTopicId( topicId )
+                .addMessage( data.toString(), attributes )
+                .build();
+
+        try
+        {
+            publisher.publish( message );
+            published.add( batch.size() );
+            batches.increment();
+        }
+        catch ( Exception e )
+        {
+            failures.increment();
+            logger.warn( "Publishing of " + batch.size() + " cache evictions has failed: " + message, e );
+        }
+    }
+
+    /**
+     * Returns the unique identification of this bus, the messages of the same origin are not applied.
+     *
+     * @return the origin of the published messages
+     */
+    public String getOrigin()
+    {
+        return origin;
+    }
+
+    /**
+     * Returns the number of the published evictions.
+     *
+     * @return the number of evictions
+     */
+    public long getPublishedCount()
+    {
+        return published.sum();
+    }
+
+    /**
+     * Returns the number of the published messages, each with a batch of evictions.
+     *
+     * @return the number of batches
+     */
+    public long getBatchCount()
+    {
+        return batches.sum();
+    }
+
+    /**
+     * Returns the number of batches failed to be published.
+     *
+     * @return the number of failures
+     */
+    public long getFailureCount()
+    {
+        return failures.sum();
+    }
+
+    /**
+     * Returns the number of evictions not published as the identifier was neither of long nor string type.
+     *
+     * @return the number of unsupported evictions
+     */
+    public long getUnsupportedCount()
+    {
+        return unsupported.sum();
+    }
+
+    /**
+     * Encodes the identifier if it is restored as an equal identifier by {@link CacheInvalidationListener}.
+     */
+    static String encode( @Nullable Identifier identifier )
+    {
+        if ( identifier == null )
+        {
+            return LISTS;
+        }
+
+        Long longId = valueOf( identifier::getLong );
+        if ( longId != null && identifier.equals( new Identifier( longId ) ) )
+        {
+            return LONG_ID + longId.toString();
+        }
+
+        String stringId = valueOf( identifier::getString );
+        if ( stringId != null && identifier.equals( new Identifier( stringId ) ) )
+        {
+            try
+            {
+                return STRING_ID + URLEncoder.encode( stringId, "UTF-8" );
+            }
+            catch ( UnsupportedEncodingException e )
+            {
+                throw new IllegalStateException( e );
+            }
+        }
+        return null;
+    }
+
+    private static <V> V valueOf( Supplier<V> getter )
+    {
+        try
+        {
+            return getter.get();
+        }
+        catch ( RuntimeException e )
+        {
+            // the identifier is not of this type
+            return null;
+        }
+    }
+
+    /**
+     * The publisher of the topic message, see {@link #of(RestFacade)}.
+     */
+    @FunctionalInterface
+    public interface Publisher
+    {
+        /**
+         * Returns the publisher via {@link org.ctoolkit.restapi.client.pubsub.adaptee.TopicMessageAdaptee}.
+         *
+         * @param facade the facade to publish by
+         * @return the publisher
+         */
+        static Publisher of( @Nonnull RestFacade facade )
+        {
+            checkNotNull( facade, "Facade cannot be null" );
+            return message -> facade.insert( message ).finish( PublishResponse.class );
+        }
+
+        /**
+         * Publishes the message synchronously.
+         *
+         * @param message the message to be published
+         * @throws Exception if publishing has failed
+         */
+        void publish( @Nonnull TopicMessage message )
+                throws Exception;
+    }
+
+    /**
+     * The builder of the {@link CacheInvalidationBus}.
+     */
+    public static class Builder
+    {
+        private final String projectId;
+
+        private final String topicId;
+
+        private final Publisher publisher;
+
+        private Duration flushInterval = Duration.ofSeconds( 1 );
+
+        private int maxBatchSize = 500;
+
+        private ScheduledExecutorService scheduler;
+
+        private LongSupplier clock = System::currentTimeMillis;
+
+        /**
+         * @param projectId the unique project identifier of the topic
+         * @param topicId   the topic the evictions are published to
+         * @param publisher the publisher of the topic message
+         */
+        public Builder( @Nonnull String projectId, @Nonnull String topicId, @Nonnull Publisher publisher )
+        {
+            this.projectId = checkNotNull( projectId, "Project ID cannot be null" );
+            this.topicId = checkNotNull( topicId, "Topic ID cannot be null" );
+            this.publisher = checkNotNull( publisher, "Publisher cannot be null" );
+        }
+
+        /**
+         * Sets the maximum time an eviction waits to be published, 1 second by default.
+         *
+         * @param flushInterval the flush interval
+         * @return this builder
+         */
+        public Builder flushInterval( @Nonnull Duration flushInterval )
+        {
+            checkArgument( !checkNotNull( flushInterval ).isNegative(), "Flush interval cannot be negative" );
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * Sets the number of evictions published immediately without waiting for the flush interval,
+         * 500 by default.
+         *
+         * @param maxBatchSize the maximum batch size
+         * @return this builder
+         */
+        public Builder maxBatchSize( int maxBatchSize )
+        {
+            checkArgument( maxBatchSize > 0, "Max batch size must be positive" );
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the scheduler of the flush, a single daemon thread shared by all buses if not set.
+         *
+         * @param scheduler the scheduler
+         * @return this builder
+         */
+        public Builder scheduler( @Nonnull ScheduledExecutorService scheduler )
+        {
+            this.scheduler = checkNotNull( scheduler, "Scheduler cannot be null" );
+            return this;
+        }
+
+        Builder clock( @Nonnull LongSupplier clock )
+        {
+            this.clock = checkNotNull( clock );
+            return this;
+        }
+
+        public CacheInvalidationBus build()
+        {
+            return new CacheInvalidationBus( this );
+        }
+    }
+
+    private static class Scheduler
+    {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                        .setNameFormat( "ctoolkit-cache-invalidation" )
+                        .setDaemon( true )
+                        .build() );
+    }
+}
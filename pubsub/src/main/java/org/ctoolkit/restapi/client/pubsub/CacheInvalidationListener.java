@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Comvai, s.r.o. All Rights Reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.ctoolkit.restapi.client.pubsub;
+
+import com.google.api.services.pubsub.model.PubsubMessage;
+import com.google.common.base.Charsets;
+import com.google.common.base.Splitter;
+import org.ctoolkit.restapi.client.Identifier;
+import org.ctoolkit.restapi.client.RestFacade;
+import org.ctoolkit.restapi.client.adapter.InvalidationListener;
+import org.ctoolkit.restapi.client.adapter.LatencyHistogram;
+import org.ctoolkit.restapi.client.adapter.RestFacadeAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The {@link PubsubMessageListener} applying the cache evictions published by {@link CacheInvalidationBus}
+ * of the other instances to the local caches, see {@link RestFacadeAdapter#evictLocal(Class, Identifier)}.
+ * The messages published by the bus of this instance are skipped.
+ * <p>
+ * The end-to-end staleness, the time since the eviction has been made by the other instance until applied
+ * by this one, is recorded in {@link #getStaleness()}. It is measured by the wall clock of both instances,
+ * thus it includes their clock skew. The eviction of an unknown resource class is ignored.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+@Singleton
+public class CacheInvalidationListener
+        implements PubsubMessageListener
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger logger = LoggerFactory.getLogger( CacheInvalidationListener.class );
+
+    private final transient InvalidationListener local;
+
+    private final transient String origin;
+
+    private final transient LongSupplier clock;
+
+    private final transient LatencyHistogram staleness = new LatencyHistogram();
+
+    private final transient LongAdder applied = new LongAdder();
+
+    private final transient LongAdder skipped = new LongAdder();
+
+    private final transient LongAdder unknown = new LongAdder();
+
+    @Inject
+    public CacheInvalidationListener( RestFacade facade, CacheInvalidationBus bus )
+    {
+        this( adapter( facade )::evictLocal, bus.getOrigin(), System::currentTimeMillis );
+    }
+
+    /**
+     * @param local  the local eviction, typically {@link RestFacadeAdapter#evictLocal(Class, Identifier)}
+     * @param origin the origin of the bus of this instance, see {@link CacheInvalidationBus#getOrigin()}
+     * @param clock  the wall clock in millis
+     */
+    CacheInvalidationListener( @Nonnull InvalidationListener local,
+                               @Nonnull String origin,
+                               @Nonnull LongSupplier clock )
+    {
+        this.local = checkNotNull( local );
+        this.origin = checkNotNull( origin );
+        this.clock = checkNotNull( clock );
+    }
+
+    private static RestFacadeAdapter adapter( RestFacade facade )
+    {
+        checkArgument( facade instanceof RestFacadeAdapter, "The facade must be " + RestFacadeAdapter.class );
+        return ( RestFacadeAdapter ) facade;
+    }
+
+    @Override
+    public void onMessage( @Nonnull PubsubMessage message, @Nonnull String subscription )
+            throws Exception
+    {
+        Map<String, String> attributes = message.getAttributes();
+        if ( attributes != null && origin.equals( attributes.get( CacheInvalidationBus.ORIGIN ) ) )
+        {
+            skipped.increment();
+            return;
+        }
+
+        String data = message.getData() == null ? "" : new String( message.decodeData(), Charsets.UTF_8 );
+        for ( String next : Splitter.on( '\n' ).omitEmptyStrings().split( data ) )
+        {
+            List<String> eviction = Splitter.on( ' ' ).limit( 3 ).splitToList( next );
+            long evictedAt;
+            Identifier identifier;
+            try
+            {
+                checkArgument( eviction.size() == 3 );
+                evictedAt = Long.parseLong( eviction.get( 0 ) );
+                identifier = decode( eviction.get( 2 ) );
+            }
+            catch ( IllegalArgumentException e )
+            {
+                logger.warn( "Malformed cache eviction skipped: " + next );
+                continue;
+            }
+
+            Class<?> resource = resource( eviction.get( 1 ) );
+            if ( resource == null )
+            {
+                unknown.increment();
+                continue;
+            }
+
+            // evicting the same resource again is harmless, thus the re-try is idempotent
+            local.onEvicted( resource, identifier );
+            applied.increment();
+            staleness.record( TimeUnit.MILLISECONDS.toNanos( clock.getAsLong() - evictedAt ) );
+        }
+    }
+
+    /**
+     * Returns the number of evictions applied to the local caches.
+     *
+     * @return the number of applied evictions
+     */
+    public long getAppliedCount()
+    {
+        return applied.sum();
+    }
+
+    /**
+     * Returns the number of messages skipped as published by this instance.
+     *
+     * @return the number of skipped messages
+     */
+    public long getSkippedCount()
+    {
+        return skipped.sum();
+    }
+
+    /**
+     * Returns the number of evictions ignored as the resource class is not known to this instance.
+     *
+     * @return the number of ignored evictions
+     */
+    public long getUnknownCount()
+    {
+        return unknown.sum();
+    }
+
+    /**
+     * Returns the histogram of the end-to-end staleness of the applied evictions.
+     *
+     * @return the staleness histogram
+     */
+    public LatencyHistogram getStaleness()
+    {
+        return staleness;
+    }
+
+    private static Class<?> resource( String name )
+    {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if ( loader == null )
+        {
+            loader = CacheInvalidationListener.class.getClassLoader();
+        }
+
+        try
+        {
+            return Class.forName( name, false, loader );
+        }
+        catch ( ClassNotFoundException e )
+        {
+            logger.warn( "Unknown resource of the cache eviction: " + name );
+            return null;
+        }
+    }
+
+    static Identifier decode( String id )
+            throws UnsupportedEncodingException
+    {
+        if ( CacheInvalidationBus.LISTS.equals( id ) )
+        {
+            return null;
+        }
+        checkArgument( !id.isEmpty(), "Identifier cannot be empty" );
+        char type = id.charAt( 0 );
+        String value = id.substring( 1 );
+        if ( type == CacheInvalidationBus.LONG_ID )
+        {
+            return new Identifier( Long.valueOf( value ) );
+        }
+        checkArgument( type == CacheInvalidationBus.STRING_ID, "Unknown identifier type: " + id );
+        return new Identifier( URLDecoder.decode( value, "UTF-8" ) );
+    }
+}
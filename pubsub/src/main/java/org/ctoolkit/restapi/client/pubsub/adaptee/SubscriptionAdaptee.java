@@ -19,15 +19,17 @@
 package org.ctoolkit.restapi.client.pubsub.adaptee;
 
 import com.google.api.services.pubsub.Pubsub;
+import com.google.api.services.pubsub.model.ListSubscriptionsResponse;
 import com.google.api.services.pubsub.model.Subscription;
 import com.google.common.base.Strings;
 import org.ctoolkit.restapi.client.Identifier;
 import org.ctoolkit.restapi.client.adaptee.DeleteExecutorAdaptee;
 import org.ctoolkit.restapi.client.adaptee.GetExecutorAdaptee;
 import org.ctoolkit.restapi.client.adaptee.InsertExecutorAdaptee;
-import org.ctoolkit.restapi.client.adaptee.ListExecutorAdaptee;
 import org.ctoolkit.restapi.client.adaptee.MediaProvider;
 import org.ctoolkit.restapi.client.adapter.AbstractGoogleClientAdaptee;
+import org.ctoolkit.restapi.client.adapter.ListPage;
+import org.ctoolkit.restapi.client.adapter.PagedListExecutorAdaptee;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -47,7 +49,7 @@ import java.util.Map;
 @Singleton
 public class SubscriptionAdaptee
         extends AbstractGoogleClientAdaptee<Pubsub>
-        implements GetExecutorAdaptee<Subscription>, ListExecutorAdaptee<Subscription>,
+        implements GetExecutorAdaptee<Subscription>, PagedListExecutorAdaptee<Subscription>,
         InsertExecutorAdaptee<Subscription>, DeleteExecutorAdaptee<Subscription>
 {
     @Inject
@@ -94,15 +96,28 @@ public class SubscriptionAdaptee
                                            @Nullable String orderBy,
                                            @Nullable Boolean ascending )
             throws IOException
+    {
+        return executeListPage( request, parameters, locale, length, null ).getItems();
+    }
+
+    @Override
+    public ListPage<Subscription> executeListPage( @Nonnull Object request,
+                                                   @Nullable Map<String, Object> parameters,
+                                                   @Nullable Locale locale,
+                                                   @Nullable Integer length,
+                                                   @Nullable String pageToken )
+            throws IOException
     {
         Pubsub.Projects.Subscriptions.List list = ( Pubsub.Projects.Subscriptions.List ) request;
         if ( length != null && length > 0 )
         {
             list.setPageSize( length );
         }
+        list.setPageToken( pageToken );
 
         fill( request, parameters );
-        return list.execute().getSubscriptions();
+        ListSubscriptionsResponse response = list.execute();
+        return new ListPage<>( response.getSubscriptions(), response.getNextPageToken() );
     }
 
     @Override
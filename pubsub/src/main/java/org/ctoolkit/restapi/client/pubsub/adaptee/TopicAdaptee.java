@@ -19,15 +19,17 @@
 package org.ctoolkit.restapi.client.pubsub.adaptee;
 
 import com.google.api.services.pubsub.Pubsub;
+import com.google.api.services.pubsub.model.ListTopicsResponse;
 import com.google.api.services.pubsub.model.Topic;
 import com.google.common.base.Strings;
 import org.ctoolkit.restapi.client.Identifier;
 import org.ctoolkit.restapi.client.adaptee.DeleteExecutorAdaptee;
 import org.ctoolkit.restapi.client.adaptee.GetExecutorAdaptee;
 import org.ctoolkit.restapi.client.adaptee.InsertExecutorAdaptee;
-import org.ctoolkit.restapi.client.adaptee.ListExecutorAdaptee;
 import org.ctoolkit.restapi.client.adaptee.MediaProvider;
 import org.ctoolkit.restapi.client.adapter.AbstractGoogleClientAdaptee;
+import org.ctoolkit.restapi.client.adapter.ListPage;
+import org.ctoolkit.restapi.client.adapter.PagedListExecutorAdaptee;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -48,7 +50,7 @@ import java.util.Map;
 @Singleton
 public class TopicAdaptee
         extends AbstractGoogleClientAdaptee<Pubsub>
-        implements GetExecutorAdaptee<Topic>, ListExecutorAdaptee<Topic>,
+        implements GetExecutorAdaptee<Topic>, PagedListExecutorAdaptee<Topic>,
         InsertExecutorAdaptee<Topic>, DeleteExecutorAdaptee<Topic>
 {
     @Inject
@@ -96,15 +98,28 @@ public class TopicAdaptee
                                     @Nullable String orderBy,
                                     @Nullable Boolean ascending )
             throws IOException
+    {
+        return executeListPage( request, parameters, locale, length, null ).getItems();
+    }
+
+    @Override
+    public ListPage<Topic> executeListPage( @Nonnull Object request,
+                                            @Nullable Map<String, Object> parameters,
+                                            @Nullable Locale locale,
+                                            @Nullable Integer length,
+                                            @Nullable String pageToken )
+            throws IOException
     {
         Pubsub.Projects.Topics.List list = ( Pubsub.Projects.Topics.List ) request;
         if ( length != null && length > 0 )
         {
             list.setPageSize( length );
         }
+        list.setPageToken( pageToken );
 
         fill( request, parameters );
-        return list.execute().getTopics();
+        ListTopicsResponse response = list.execute();
+        return new ListPage<>( response.getTopics(), response.getNextPageToken() );
     }
 
     @Override
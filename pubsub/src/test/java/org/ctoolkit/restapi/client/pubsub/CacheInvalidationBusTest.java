@@ -0,0 +1,158 @@
+package org.ctoolkit.restapi.client.pubsub;
+
+import com.google.api.client.util.Charsets;
+import com.google.api.services.pubsub.model.PubsubMessage;
+import org.ctoolkit.restapi.client.Identifier;
+import org.ctoolkit.restapi.client.adapter.InMemoryResourceProvider;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ * {@link CacheInvalidationBus} and {@link CacheInvalidationListener} unit testing
+ * with two instances sharing the {@link InProcessTopic}.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+public class CacheInvalidationBusTest
+{
+    private long now;
+
+    private ScheduledExecutorService scheduler;
+
+    private InProcessTopic topic;
+
+    private CacheInvalidationBus bus;
+
+    private CacheInvalidationListener listener;
+
+    private CacheInvalidationListener other;
+
+    private InMemoryResourceProvider<String> otherCache;
+
+    private List<String> evicted;
+
+    @BeforeMethod
+    public void before()
+    {
+        now = 1000;
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        topic = new InProcessTopic();
+        evicted = new ArrayList<>();
+        otherCache = new InMemoryResourceProvider.Builder<String>().maximumSize( 10 ).build();
+
+        bus = bus();
+        listener = new CacheInvalidationListener( ( resource, identifier ) -> {
+        }, bus.getOrigin(), () -> now );
+
+        other = new CacheInvalidationListener( ( resource, identifier ) -> {
+            evicted.add( resource.getSimpleName() + ":" + identifier );
+            if ( identifier != null )
+            {
+                otherCache.evict( identifier );
+            }
+        }, bus().getOrigin(), () -> now );
+
+        topic.subscribe( "cache-invalidation-1", listener );
+        topic.subscribe( "cache-invalidation-2", other );
+    }
+
+    @AfterMethod
+    public void after()
+    {
+        scheduler.shutdownNow();
+    }
+
+    private CacheInvalidationBus bus()
+    {
+        return new CacheInvalidationBus.Builder( "project", "cache-invalidation", topic )
+                .flushInterval( Duration.ofHours( 1 ) )
+                .scheduler( scheduler )
+                .clock( () -> now )
+                .build();
+    }
+
+    @Test
+    public void batchedPerFlush()
+    {
+        otherCache.persist( "foo", new Identifier( 1L ), null, null, null );
+
+        bus.onEvicted( String.class, new Identifier( 1L ) );
+        bus.onEvicted( String.class, new Identifier( 1L ) );
+        bus.onEvicted( String.class, null );
+
+        // waiting for the flush interval
+        assertThat( topic.published ).isEqualTo( 0 );
+
+        now = 1250;
+        bus.flush();
+
+        assertThat( topic.published ).isEqualTo( 1 );
+        assertThat( bus.getBatchCount() ).isEqualTo( 1 );
+        assertThat( bus.getPublishedCount() ).isEqualTo( 2 );
+
+        assertThat( evicted ).containsExactly( "String:" + new Identifier( 1L ), "String:null" ).inOrder();
+        assertThat( otherCache.get( new Identifier( 1L ), null, null ) ).isNull();
+        assertThat( other.getAppliedCount() ).isEqualTo( 2 );
+
+        // own message
+        assertThat( listener.getSkippedCount() ).isEqualTo( 1 );
+        assertThat( listener.getAppliedCount() ).isEqualTo( 0 );
+
+        // end-to-end staleness since the first eviction
+        assertThat( other.getStaleness().snapshot().getCount() ).isEqualTo( 2 );
+        assertThat( other.getStaleness().snapshot().getMax( TimeUnit.MILLISECONDS ) ).isAtLeast( 240L );
+        assertThat( other.getStaleness().snapshot().getMax( TimeUnit.MILLISECONDS ) ).isAtMost( 260L );
+    }
+
+    @Test
+    public void identifierEncoding()
+            throws Exception
+    {
+        Identifier id = new Identifier( 1L );
+        assertThat( CacheInvalidationListener.decode( CacheInvalidationBus.encode( id ) ) ).isEqualTo( id );
+
+        id = new Identifier( "projects/a b" );
+        assertThat( CacheInvalidationListener.decode( CacheInvalidationBus.encode( id ) ) ).isEqualTo( id );
+
+        assertThat( CacheInvalidationListener.decode( CacheInvalidationBus.encode( null ) ) ).isNull();
+    }
+
+    @Test
+    public void publishingFailureLosesBatch()
+    {
+        topic.failing = true;
+        bus.onEvicted( String.class, new Identifier( 1L ) );
+        bus.flush();
+
+        assertThat( bus.getFailureCount() ).isEqualTo( 1 );
+
+        topic.failing = false;
+        bus.flush();
+        assertThat( topic.published ).isEqualTo( 0 );
+        assertThat( evicted ).isEmpty();
+    }
+
+    @Test
+    public void unknownResourceIgnored()
+            throws Exception
+    {
+        PubsubMessage message = new PubsubMessage()
+                .encodeData( "1000 org.example.Missing L1\nmalformed\n".getBytes( Charsets.UTF_8 ) );
+
+        other.onMessage( message, "cache-invalidation-2" );
+
+        assertThat( other.getUnknownCount() ).isEqualTo( 1 );
+        assertThat( other.getAppliedCount() ).isEqualTo( 0 );
+        assertThat( evicted ).isEmpty();
+    }
+}
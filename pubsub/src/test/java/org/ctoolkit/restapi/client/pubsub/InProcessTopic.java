@@ -0,0 +1,47 @@
+package org.ctoolkit.restapi.client.pubsub;
+
+import com.google.api.services.pubsub.model.PubsubMessage;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The in-process stand-in of the Pub/Sub topic. It delivers the published messages synchronously
+ * to all subscribed listeners, as the push subscriptions would.
+ *
+ * @author <a href="mailto:aurel.medvegy@ctoolkit.org">Aurel Medvegy</a>
+ */
+class InProcessTopic
+        implements CacheInvalidationBus.Publisher
+{
+    private final Map<String, PubsubMessageListener> subscriptions = new LinkedHashMap<>();
+
+    int published;
+
+    boolean failing;
+
+    void subscribe( String subscription, PubsubMessageListener listener )
+    {
+        subscriptions.put( subscription, listener );
+    }
+
+    @Override
+    public void publish( TopicMessage message )
+            throws Exception
+    {
+        if ( failing )
+        {
+            throw new IOException( "Topic unavailable" );
+        }
+
+        for ( PubsubMessage next : message.getMessages() )
+        {
+            next.setMessageId( String.valueOf( ++published ) );
+            for ( Map.Entry<String, PubsubMessageListener> entry : subscriptions.entrySet() )
+            {
+                entry.getValue().onMessage( next, entry.getKey() );
+            }
+        }
+    }
+}